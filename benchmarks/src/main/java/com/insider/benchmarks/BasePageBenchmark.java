@@ -0,0 +1,92 @@
+package com.insider.benchmarks;
+
+import com.insider.constants.Locators;
+import com.insider.utils.LocatorRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.By;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the BasePage primitives and of CSS versus XPath locators on the home page copy
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class BasePageBenchmark {
+
+    private final By buttonCss = By.cssSelector("#benchmark-button");
+    private final By buttonXpath = By.xpath("//button[@id='benchmark-button']");
+    private final By careersLinkXpath = By.xpath(Locators.HOME_CAREERS_LINK);
+    private final By careersLinkCss = By.cssSelector("a[href='/careers/']");
+    private final By companyMenuXpath = By.xpath(Locators.HOME_COMPANY_MENU);
+
+    private BenchmarkPage page;
+    private By buttonXpathCompiled;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkBrowser.open("/");
+        page = new BenchmarkPage();
+        buttonXpathCompiled = LocatorRegistry.getInstance().get("//button[@id='benchmark-button']");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        BenchmarkBrowser.close();
+    }
+
+    @Benchmark
+    public void clickNative() {
+        page.click(buttonCss);
+    }
+
+    @Benchmark
+    public void clickJavaScript() {
+        page.clickWithJS(buttonCss);
+    }
+
+    @Benchmark
+    public String getTextCss() {
+        return page.text(buttonCss);
+    }
+
+    @Benchmark
+    public String getTextXpath() {
+        return page.text(buttonXpath);
+    }
+
+    @Benchmark
+    public String getTextXpathCompiledToCss() {
+        return page.text(buttonXpathCompiled);
+    }
+
+    @Benchmark
+    public boolean isDisplayedCareersLinkCss() {
+        return page.displayed(careersLinkCss);
+    }
+
+    @Benchmark
+    public boolean isDisplayedCareersLinkXpath() {
+        return page.displayed(careersLinkXpath);
+    }
+
+    @Benchmark
+    public void scrollToCompanyMenu() {
+        page.scrollTo(companyMenuXpath);
+    }
+}
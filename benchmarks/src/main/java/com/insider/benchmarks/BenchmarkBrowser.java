@@ -0,0 +1,53 @@
+package com.insider.benchmarks;
+
+import com.insider.utils.WebDriverFactory;
+
+/**
+ * Headless browser session pointed at the local static site, shared by a benchmark trial
+ */
+public final class BenchmarkBrowser {
+
+    // Private constructor to prevent instantiation
+    private BenchmarkBrowser() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    private static StaticSiteServer server;
+
+    /**
+     * Start the static site and a headless browser, then open the given page
+     * @param path page path on the static site
+     */
+    public static void open(String path) {
+        server = new StaticSiteServer();
+        String baseUrl = server.getBaseUrl();
+        System.setProperty("base.url", baseUrl + "/");
+        System.setProperty("careers.url", baseUrl + "/careers/");
+        System.setProperty("qa.careers.url", baseUrl + "/careers/quality-assurance/");
+        System.setProperty("headless", "true");
+        System.setProperty("implicit.wait", "0");
+        System.setProperty("cache.enabled", "false");
+        System.setProperty("checkpoint.enabled", "false");
+        System.setProperty("perf.enabled", "false");
+        System.setProperty("history.enabled", "false");
+        System.setProperty("locator.profile.enabled", "false");
+        System.setProperty("strategy.memory.enabled", "false");
+        System.setProperty("failure.context.enabled", "false");
+        System.setProperty("events.enabled", "false");
+        System.setProperty("visual.enabled", "false");
+
+        WebDriverFactory.initializeDriver();
+        WebDriverFactory.navigateTo(baseUrl + path);
+    }
+
+    /**
+     * Quit the browser and stop the static site
+     */
+    public static void close() {
+        WebDriverFactory.quitDriver();
+        if (server != null) {
+            server.stop();
+            server = null;
+        }
+    }
+}
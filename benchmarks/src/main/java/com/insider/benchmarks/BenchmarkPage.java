@@ -0,0 +1,35 @@
+package com.insider.benchmarks;
+
+import com.insider.pages.BasePage;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebElement;
+
+/**
+ * Exposes the protected BasePage operations to the benchmarks
+ */
+public class BenchmarkPage extends BasePage {
+
+    public void click(By locator) {
+        clickElement(locator, locator.toString());
+    }
+
+    public void clickWithJS(By locator) {
+        clickElementWithJS(locator, locator.toString());
+    }
+
+    public String text(By locator) {
+        return getElementText(locator, locator.toString());
+    }
+
+    public boolean displayed(By locator) {
+        return isElementDisplayed(locator, locator.toString());
+    }
+
+    public WebElement visible(By locator) {
+        return waitForElementVisible(locator, locator.toString());
+    }
+
+    public void scrollTo(By locator) {
+        scrollToElement(locator, locator.toString());
+    }
+}
@@ -0,0 +1,47 @@
+package com.insider.benchmarks;
+
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+/**
+ * Runs the benchmarks and writes JSON results that can be compared between commits.
+ * Accepts the standard JMH command line options, for example a benchmark name filter.
+ * The result file name is taken from the benchmark.label system property, defaulting to "latest".
+ */
+public final class BenchmarkRunner {
+
+    // Private constructor to prevent instantiation
+    private BenchmarkRunner() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException, IOException {
+        if (Arrays.asList(args).contains("-l") || Arrays.asList(args).contains("-h")) {
+            Main.main(args);
+            return;
+        }
+
+        Path resultDir = Paths.get(System.getProperty("benchmark.results.dir", "benchmark-results"));
+        Files.createDirectories(resultDir);
+        Path resultFile = resultDir.resolve(System.getProperty("benchmark.label", "latest") + ".json");
+
+        Options options = new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .resultFormat(ResultFormatType.JSON)
+                .result(resultFile.toString())
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,54 @@
+package com.insider.benchmarks;
+
+import com.insider.pages.CareersPage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the careers page section verification on the careers page copy
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class CareersPageBenchmark {
+
+    private CareersPage careersPage;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkBrowser.open("/careers/");
+        careersPage = new CareersPage();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        BenchmarkBrowser.close();
+    }
+
+    @Benchmark
+    public void verifyAllCareerSectionsDisplayed() {
+        careersPage.verifyAllCareerSectionsDisplayed();
+    }
+
+    @Benchmark
+    public void verifySectionsOneByOne() {
+        careersPage.verifyTeamsSectionDisplayed();
+        careersPage.verifyLocationsSectionDisplayed();
+        careersPage.verifyLifeAtInsiderSectionDisplayed();
+    }
+}
@@ -0,0 +1,95 @@
+package com.insider.benchmarks;
+
+import com.insider.constants.Locators;
+import com.insider.pages.QACareersPage;
+import com.insider.utils.WebDriverFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of job card extraction strategies and of the QACareersPage validation path
+ * on the job listing copy
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class JobExtractionBenchmark {
+
+    private static final String BULK_EXTRACTION_SCRIPT = """
+            return Array.from(document.querySelectorAll(arguments[0])).map(card => [
+                card.querySelector(arguments[1])?.innerText ?? '',
+                card.querySelector(arguments[2])?.innerText ?? '',
+                card.querySelector(arguments[3])?.innerText ?? ''
+            ]);""";
+
+    private final By jobCardLocator = By.cssSelector(Locators.JOB_CARD);
+    private final By jobPositionLocator = By.cssSelector(Locators.JOB_POSITION);
+    private final By jobDepartmentLocator = By.cssSelector(Locators.JOB_DEPARTMENT);
+    private final By jobLocationLocator = By.cssSelector(Locators.JOB_LOCATION);
+
+    private WebDriver driver;
+    private QACareersPage qaCareersPage;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        System.setProperty("expected.department.text", "Quality Assurance");
+        BenchmarkBrowser.open("/careers/open-positions/?department=qualityassurance");
+        driver = WebDriverFactory.getDriver();
+        qaCareersPage = new QACareersPage();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        BenchmarkBrowser.close();
+    }
+
+    @Benchmark
+    public List<String[]> findElementsLoop() {
+        List<String[]> jobs = new ArrayList<>();
+        for (WebElement card : driver.findElements(jobCardLocator)) {
+            jobs.add(new String[] {
+                    card.findElement(jobPositionLocator).getText(),
+                    card.findElement(jobDepartmentLocator).getText(),
+                    card.findElement(jobLocationLocator).getText()
+            });
+        }
+        return jobs;
+    }
+
+    @Benchmark
+    public Object bulkExecuteScript() {
+        return ((JavascriptExecutor) driver).executeScript(BULK_EXTRACTION_SCRIPT,
+                Locators.JOB_CARD, Locators.JOB_POSITION, Locators.JOB_DEPARTMENT, Locators.JOB_LOCATION);
+    }
+
+    @Benchmark
+    public int getJobCount() {
+        return qaCareersPage.getJobCount();
+    }
+
+    @Benchmark
+    public void validateAllJobData() {
+        qaCareersPage.validateAllJobData();
+    }
+}
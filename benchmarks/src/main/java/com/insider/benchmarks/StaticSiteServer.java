@@ -0,0 +1,66 @@
+package com.insider.benchmarks;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+
+/**
+ * Serves the static copies of the home, careers and job listing pages from the classpath
+ */
+public class StaticSiteServer {
+    private static final String SITE_ROOT = "/site";
+
+    private final HttpServer server;
+
+    /**
+     * Start the server on a free loopback port
+     */
+    public StaticSiteServer() {
+        try {
+            server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to start static site server", e);
+        }
+        server.createContext("/", StaticSiteServer::serve);
+        server.start();
+    }
+
+    /**
+     * Get base URL of the served site
+     * @return base URL without trailing slash
+     */
+    public String getBaseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    /**
+     * Stop the server
+     */
+    public void stop() {
+        server.stop(0);
+    }
+
+    private static void serve(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            String path = exchange.getRequestURI().getPath();
+            String resource = SITE_ROOT + (path.endsWith("/") ? path + "index.html" : path);
+            try (InputStream input = StaticSiteServer.class.getResourceAsStream(resource)) {
+                if (input == null) {
+                    exchange.sendResponseHeaders(404, -1);
+                    return;
+                }
+                byte[] body = input.readAllBytes();
+                exchange.getResponseHeaders().add("Content-Type", "text/html; charset=UTF-8");
+                exchange.sendResponseHeaders(200, body.length);
+                try (OutputStream output = exchange.getResponseBody()) {
+                    output.write(body);
+                }
+            }
+        }
+    }
+}
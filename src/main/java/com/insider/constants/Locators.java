@@ -1,7 +1,7 @@
 package com.insider.constants;
 
 /**
- * Constants class containing all element locators
+ * Constants class containing all element locators, page objects compile them through LocatorRegistry
  */
 public final class Locators {
     
@@ -34,6 +34,7 @@ public final class Locators {
     public static final String JOB_DEPARTMENT = "span[class*='department']";
     public static final String JOB_LOCATION = ".position-location";
     public static final String VIEW_ROLE_BUTTON = "//a[text()='View Role']";
+    public static final String JOB_POSTING_LINK = "a[href]";
     
     // Lever Application Page Locators
     public static final String LEVER_APPLICATION_FORM = ".posting-headline h2";
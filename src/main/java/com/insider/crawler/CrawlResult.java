@@ -0,0 +1,72 @@
+package com.insider.crawler;
+
+import lombok.Getter;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Outcome of checking one URL: final status, redirect chain and latency
+ */
+@Getter
+public class CrawlResult {
+
+    private final String url;
+    private final String referrer;
+    private final int depth;
+    private final int status;
+    private final List<String> redirectChain;
+    private final long latencyMillis;
+    private final String error;
+
+    /**
+     * Constructor for CrawlResult
+     * @param url checked URL
+     * @param referrer page the URL was first found on, null for seeds
+     * @param depth link distance from the seeds
+     * @param status final status after redirects, 0 if the request failed
+     * @param redirectChain every redirect hop as "status location"
+     * @param latencyMillis total time including redirects
+     * @param error failure description, null if a response was received
+     */
+    public CrawlResult(String url, String referrer, int depth, int status, List<String> redirectChain, long latencyMillis, String error) {
+        this.url = url;
+        this.referrer = referrer;
+        this.depth = depth;
+        this.status = status;
+        this.redirectChain = redirectChain;
+        this.latencyMillis = latencyMillis;
+        this.error = error;
+    }
+
+    /**
+     * Check if the link is broken
+     * @return true if the request failed or ended with a 4xx or 5xx status
+     */
+    public boolean isBroken() {
+        return error != null || status >= 400;
+    }
+
+    /**
+     * Convert to a map for the JSON report
+     * @return result values
+     */
+    public Map<String, Object> toMap() {
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put("url", url);
+        values.put("status", status);
+        values.put("latencyMs", latencyMillis);
+        values.put("depth", depth);
+        if (referrer != null) {
+            values.put("referrer", referrer);
+        }
+        if (!redirectChain.isEmpty()) {
+            values.put("redirects", redirectChain);
+        }
+        if (error != null) {
+            values.put("error", error);
+        }
+        return values;
+    }
+}
@@ -0,0 +1,123 @@
+package com.insider.crawler;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Decides which links the crawler checks and expands: same-site hosts of the seeds,
+ * path prefixes that are followed further, and robots-style exclusion rules
+ */
+public class CrawlScope {
+
+    private static final String USER_AGENT_ALL = "*";
+
+    private final Set<String> hosts = new HashSet<>();
+    private final List<String> expandPrefixes;
+    private final List<Pattern> exclusions = new ArrayList<>();
+
+    /**
+     * Constructor for CrawlScope
+     * @param seeds start URLs, their hosts define the site
+     * @param expandPrefixes path prefixes whose pages are parsed for further links, empty for all
+     * @param exclusionRules robots-style rules: path prefixes with optional * wildcards and $ end anchor
+     */
+    public CrawlScope(List<String> seeds, List<String> expandPrefixes, List<String> exclusionRules) {
+        for (String seed : seeds) {
+            hosts.add(siteHost(URI.create(seed)));
+        }
+        this.expandPrefixes = expandPrefixes;
+        exclusionRules.forEach(this::addExclusion);
+    }
+
+    /**
+     * Add the Disallow rules of a robots.txt that apply to every user agent
+     * @param robotsTxt robots.txt content
+     * @return number of rules added
+     */
+    public int addRobotsRules(String robotsTxt) {
+        int added = 0;
+        boolean appliesToAll = false;
+        boolean inRules = false;
+        for (String rawLine : robotsTxt.split("\\R")) {
+            String line = rawLine.replaceFirst("#.*$", "").trim();
+            int colon = line.indexOf(':');
+            if (colon < 0) {
+                continue;
+            }
+            String field = line.substring(0, colon).trim().toLowerCase(Locale.ROOT);
+            String value = line.substring(colon + 1).trim();
+            if ("user-agent".equals(field)) {
+                // Consecutive User-agent lines share one group of rules
+                appliesToAll = (!inRules && appliesToAll) || USER_AGENT_ALL.equals(value);
+                inRules = false;
+            } else if ("disallow".equals(field) || "allow".equals(field)) {
+                inRules = true;
+                if (appliesToAll && "disallow".equals(field) && !value.isEmpty()) {
+                    addExclusion(value);
+                    added++;
+                }
+            }
+        }
+        return added;
+    }
+
+    /**
+     * Check if a URL belongs to the crawled site
+     * @param uri URL to check
+     * @return true if the host is one of the seed hosts
+     */
+    public boolean isSameSite(URI uri) {
+        return uri.getHost() != null && hosts.contains(siteHost(uri));
+    }
+
+    /**
+     * Check if a URL is excluded by a rule
+     * @param uri URL to check
+     * @return true if the URL must not be requested
+     */
+    public boolean isExcluded(URI uri) {
+        String path = pathAndQuery(uri);
+        return exclusions.stream().anyMatch(rule -> rule.matcher(path).lookingAt());
+    }
+
+    /**
+     * Check if a page should be parsed for further links
+     * @param uri page URL
+     * @return true if the page is on the site and under an expanded path
+     */
+    public boolean shouldExpand(URI uri) {
+        if (!isSameSite(uri)) {
+            return false;
+        }
+        String path = uri.getRawPath() == null || uri.getRawPath().isEmpty() ? "/" : uri.getRawPath();
+        return expandPrefixes.isEmpty() || expandPrefixes.stream().anyMatch(path::startsWith);
+    }
+
+    private void addExclusion(String rule) {
+        StringBuilder regex = new StringBuilder();
+        boolean anchored = rule.endsWith("$");
+        String body = anchored ? rule.substring(0, rule.length() - 1) : rule;
+        for (String part : body.split("\\*", -1)) {
+            if (!regex.isEmpty()) {
+                regex.append(".*");
+            }
+            regex.append(Pattern.quote(part));
+        }
+        exclusions.add(Pattern.compile(regex + (anchored ? "$" : "")));
+    }
+
+    private static String pathAndQuery(URI uri) {
+        String path = uri.getRawPath() == null || uri.getRawPath().isEmpty() ? "/" : uri.getRawPath();
+        return uri.getRawQuery() != null ? path + "?" + uri.getRawQuery() : path;
+    }
+
+    private static String siteHost(URI uri) {
+        String host = uri.getHost().toLowerCase(Locale.ROOT);
+        return host.startsWith("www.") ? host.substring(4) : host;
+    }
+}
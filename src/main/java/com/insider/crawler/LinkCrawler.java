@@ -0,0 +1,296 @@
+package com.insider.crawler;
+
+import com.insider.load.LatencyRecorder;
+import com.insider.replay.ReplayServer;
+import com.insider.utils.ConfigManager;
+import com.insider.utils.LoggerUtil;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.json.Json;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Breadth-first link crawler of the site starting from base.url and careers.url. Every same-site
+ * link is requested on a virtual thread with a per-host concurrency limit, redirects are followed
+ * one hop at a time to record the chain, and pages under crawler.expand.paths are parsed for
+ * further links. Runs against the live site or the replay fixture server (replay.mode).
+ */
+public class LinkCrawler {
+    private static final Logger logger = LoggerUtil.getLogger(LinkCrawler.class);
+    private static final Pattern HREF_PATTERN = Pattern.compile("(?is)<a\\b[^>]*?\\bhref\\s*=\\s*[\"']([^\"']+)[\"']");
+    private static final String USER_AGENT = "InsiderCareersLinkCrawler/1.0";
+    private static final int MAX_REDIRECTS = 10;
+
+    private final ConfigManager config = ConfigManager.getInstance();
+    private final Map<String, Semaphore> hostPermits = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<CrawlResult> results = new ConcurrentLinkedQueue<>();
+    private final LatencyRecorder latency = new LatencyRecorder("crawl");
+    private final UrlFingerprintSet visited;
+    private final HttpClient httpClient;
+    private final ExecutorService executor;
+    private CrawlScope scope;
+
+    /**
+     * Link found on a page and waiting to be checked
+     */
+    private record Link(String url, String referrer, int depth) {
+    }
+
+    public LinkCrawler() {
+        visited = new UrlFingerprintSet(config.getCrawlerMaxPages());
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        httpClient = ReplayServer.applyProxy(HttpClient.newBuilder())
+                .executor(executor)
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .connectTimeout(Duration.ofSeconds(config.getExplicitWait()))
+                .build();
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        ReplayServer.start();
+        try {
+            new LinkCrawler().run();
+        } finally {
+            ReplayServer.stop();
+        }
+    }
+
+    /**
+     * Crawl the site level by level and write the report
+     */
+    public void run() throws InterruptedException {
+        List<String> seeds = List.of(config.getBaseUrl(), config.getCareersUrl());
+        scope = new CrawlScope(seeds, config.getCrawlerExpandPaths(), config.getCrawlerExclusions());
+        if (config.isCrawlerRespectRobots()) {
+            seeds.stream().map(seed -> URI.create(seed).resolve("/robots.txt").toString()).distinct().forEach(this::loadRobots);
+        }
+
+        long startNanos = System.nanoTime();
+        List<Link> frontier = new ArrayList<>();
+        for (String seed : seeds) {
+            String url = normalize(URI.create(seed));
+            if (visited.add(url)) {
+                frontier.add(new Link(url, null, 0));
+            }
+        }
+
+        try {
+            while (!frontier.isEmpty()) {
+                LoggerUtil.logInfo(logger, "Crawling depth " + frontier.get(0).depth() + ": " + frontier.size() + " links");
+                List<Future<List<Link>>> pending = new ArrayList<>();
+                for (Link link : frontier) {
+                    pending.add(executor.submit(() -> check(link)));
+                }
+                List<Link> next = new ArrayList<>();
+                for (Future<List<Link>> future : pending) {
+                    next.addAll(future.get());
+                }
+                frontier = next;
+            }
+        } catch (ExecutionException e) {
+            LoggerUtil.logError(logger, "Crawl aborted", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+        writeReport(Duration.ofNanos(System.nanoTime() - startNanos));
+    }
+
+    /**
+     * Request one link, following redirects, and collect the new links of its page
+     * @param link link to check
+     * @return unvisited links found on the page
+     */
+    private List<Link> check(Link link) {
+        List<String> redirects = new ArrayList<>();
+        long start = System.nanoTime();
+        URI current = URI.create(link.url());
+        try {
+            HttpResponse<String> response;
+            String error = null;
+            for (int hop = 0; ; hop++) {
+                response = send(current);
+                Optional<String> location = response.headers().firstValue("Location");
+                if (response.statusCode() < 300 || response.statusCode() >= 400 || location.isEmpty()) {
+                    break;
+                }
+                // A chain that still redirects after MAX_REDIRECTS hops never reaches a page
+                if (hop == MAX_REDIRECTS) {
+                    error = "Redirect chain longer than " + MAX_REDIRECTS + " hops";
+                    break;
+                }
+                current = current.resolve(location.get());
+                redirects.add(response.statusCode() + " " + current);
+            }
+            long nanos = System.nanoTime() - start;
+            latency.record(nanos);
+            CrawlResult result = new CrawlResult(link.url(), link.referrer(), link.depth(), response.statusCode(), redirects, nanos / 1_000_000, error);
+            results.add(result);
+            if (result.isBroken()) {
+                LoggerUtil.logWarning(logger, "Broken link " + response.statusCode() + (error != null ? " (" + error + ")" : "")
+                        + ": " + link.url() + " (found on " + link.referrer() + ")");
+            }
+
+            if (response.body() == null || response.statusCode() != 200 || link.depth() >= config.getCrawlerMaxDepth()
+                    || !scope.shouldExpand(current)) {
+                return List.of();
+            }
+            return extractLinks(current, response.body(), link.depth() + 1);
+        } catch (IOException | IllegalArgumentException e) {
+            latency.recordError();
+            results.add(new CrawlResult(link.url(), link.referrer(), link.depth(), 0, redirects,
+                    (System.nanoTime() - start) / 1_000_000, e.getClass().getSimpleName() + ": " + e.getMessage()));
+            LoggerUtil.logWarning(logger, "Request failed for " + link.url() + ": " + e.getMessage());
+            return List.of();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return List.of();
+        }
+    }
+
+    /**
+     * Send one request within the concurrency limit of its host, the body is only read for HTML pages.
+     * Links found on pages keep their HTTPS scheme, so they are routed like the seeds while the fixture server runs.
+     */
+    private HttpResponse<String> send(URI uri) throws IOException, InterruptedException {
+        Semaphore permits = hostPermits.computeIfAbsent(uri.getHost(), host -> new Semaphore(config.getCrawlerMaxPerHost()));
+        HttpRequest request = HttpRequest.newBuilder(ReplayServer.route(uri))
+                .timeout(Duration.ofSeconds(config.getPageLoadTimeout()))
+                .header("User-Agent", USER_AGENT)
+                .GET()
+                .build();
+        permits.acquire();
+        try {
+            return httpClient.send(request, info -> info.headers().firstValue("Content-Type").orElse("").contains("html")
+                    ? HttpResponse.BodySubscribers.ofString(StandardCharsets.UTF_8)
+                    : HttpResponse.BodySubscribers.replacing(null));
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * Find the links of a page that are in scope and not visited yet
+     */
+    private List<Link> extractLinks(URI page, String html, int depth) {
+        List<Link> links = new ArrayList<>();
+        Matcher matcher = HREF_PATTERN.matcher(html);
+        while (matcher.find()) {
+            String href = matcher.group(1).trim().replace("&amp;", "&");
+            if (href.startsWith("#") || href.regionMatches(true, 0, "mailto:", 0, 7)
+                    || href.regionMatches(true, 0, "tel:", 0, 4) || href.regionMatches(true, 0, "javascript:", 0, 11)) {
+                continue;
+            }
+            URI target;
+            try {
+                target = page.resolve(href.replace(" ", "%20"));
+            } catch (IllegalArgumentException e) {
+                continue;
+            }
+            if (target.getScheme() == null || !target.getScheme().startsWith("http")
+                    || (!scope.isSameSite(target) && !config.isCrawlerCheckExternal()) || scope.isExcluded(target)) {
+                continue;
+            }
+            if (visited.size() >= config.getCrawlerMaxPages()) {
+                break;
+            }
+            String url = normalize(target);
+            if (visited.add(url)) {
+                links.add(new Link(url, page.toString(), depth));
+            }
+        }
+        return links;
+    }
+
+    /**
+     * Add the Disallow rules of a robots.txt to the crawl scope, robots.txt is plain text so it is read
+     * outside the HTML-only body handler
+     */
+    private void loadRobots(String robotsUrl) {
+        try {
+            HttpResponse<String> response = httpClient.send(HttpRequest.newBuilder(ReplayServer.route(URI.create(robotsUrl)))
+                            .timeout(Duration.ofSeconds(config.getPageLoadTimeout()))
+                            .header("User-Agent", USER_AGENT)
+                            .GET()
+                            .build(),
+                    HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
+            if (response.statusCode() == 200) {
+                LoggerUtil.logInfo(logger, "Loaded " + scope.addRobotsRules(response.body()) + " exclusion rules from " + robotsUrl);
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            LoggerUtil.logWarning(logger, "Could not read " + robotsUrl + ": " + e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Drop the fragment and lower-case scheme and host so the same page is only visited once
+     */
+    private static String normalize(URI uri) {
+        String path = uri.getRawPath() == null || uri.getRawPath().isEmpty() ? "/" : uri.getRawPath();
+        String port = uri.getPort() > 0 ? ":" + uri.getPort() : "";
+        return uri.getScheme().toLowerCase(Locale.ROOT) + "://" + uri.getHost().toLowerCase(Locale.ROOT) + port + path
+                + (uri.getRawQuery() != null ? "?" + uri.getRawQuery() : "");
+    }
+
+    /**
+     * Log the summary and write every result as JSON
+     */
+    private void writeReport(Duration elapsed) {
+        List<CrawlResult> all = new ArrayList<>(results);
+        List<CrawlResult> broken = all.stream().filter(CrawlResult::isBroken).toList();
+        List<CrawlResult> redirected = all.stream().filter(result -> !result.getRedirectChain().isEmpty()).toList();
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("finishedAt", LocalDateTime.now().toString());
+        report.put("replayMode", config.getReplayMode());
+        report.put("seeds", Arrays.asList(config.getBaseUrl(), config.getCareersUrl()));
+        report.put("elapsedSeconds", elapsed.toSeconds());
+        report.put("checked", all.size());
+        report.put("broken", broken.size());
+        report.put("redirected", redirected.size());
+        report.put("latency", latency.summary());
+        report.put("brokenLinks", broken.stream().map(CrawlResult::toMap).toList());
+        report.put("results", all.stream().map(CrawlResult::toMap).toList());
+
+        LoggerUtil.logInfo(logger, "Crawl finished: " + all.size() + " links checked, " + broken.size() + " broken, "
+                + redirected.size() + " redirected, latency " + latency.summary());
+        try {
+            Path resultDir = Paths.get(config.getCrawlerResultsDir());
+            Files.createDirectories(resultDir);
+            String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"));
+            Path reportFile = resultDir.resolve("crawl_report_" + timestamp + ".json");
+            Files.writeString(reportFile, new Json().toJson(report));
+            LoggerUtil.logInfo(logger, "Crawl report saved: " + reportFile);
+        } catch (IOException e) {
+            LoggerUtil.logError(logger, "Failed to write crawl report", e);
+        }
+    }
+}
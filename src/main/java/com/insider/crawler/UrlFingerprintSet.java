@@ -0,0 +1,92 @@
+package com.insider.crawler;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Compact thread-safe visited set that keeps a 64-bit fingerprint per URL in an open addressing
+ * table of primitive longs instead of the URL strings, about 16 bytes per URL at large scale
+ */
+public class UrlFingerprintSet {
+
+    private static final long EMPTY = 0L;
+    private static final double MAX_LOAD = 0.5;
+
+    private long[] table;
+    private int size;
+
+    /**
+     * Constructor for UrlFingerprintSet
+     * @param expectedSize expected number of URLs
+     */
+    public UrlFingerprintSet(int expectedSize) {
+        table = new long[Integer.highestOneBit(Math.max(16, (int) (expectedSize / MAX_LOAD)) * 2 - 1)];
+    }
+
+    /**
+     * Add a URL
+     * @param url normalized URL
+     * @return true if the URL was not seen before
+     */
+    public synchronized boolean add(String url) {
+        if (size + 1 > table.length * MAX_LOAD) {
+            resize();
+        }
+        if (insert(table, fingerprint(url))) {
+            size++;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Get number of URLs in the set
+     * @return URL count
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    private void resize() {
+        long[] grown = new long[table.length * 2];
+        for (long value : table) {
+            if (value != EMPTY) {
+                insert(grown, value);
+            }
+        }
+        table = grown;
+    }
+
+    private static boolean insert(long[] target, long fingerprint) {
+        int mask = target.length - 1;
+        int index = (int) (fingerprint ^ (fingerprint >>> 32)) & mask;
+        while (target[index] != EMPTY) {
+            if (target[index] == fingerprint) {
+                return false;
+            }
+            index = (index + 1) & mask;
+        }
+        target[index] = fingerprint;
+        return true;
+    }
+
+    /**
+     * 64-bit FNV-1a hash of the URL, 0 is reserved for empty slots
+     */
+    private static long fingerprint(String url) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : url.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        // Final avalanche so nearby URLs spread across the table
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        return hash == EMPTY ? 1 : hash;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "UrlFingerprintSet[size=" + size + ", capacity=" + table.length + "]";
+    }
+}
@@ -0,0 +1,34 @@
+package com.insider.driver;
+
+/**
+ * Driver backends ordered from cheapest to most capable
+ */
+public enum DriverTier {
+    /**
+     * HTTP request and HTML parser: URL, title, element lookups, text and attributes of the served markup
+     */
+    STATIC,
+    /**
+     * Full Chrome session: scripts, rendering, clicks, hovers and DevTools
+     */
+    BROWSER;
+
+    /**
+     * Check if this tier offers everything a minimum tier requires
+     * @param minimum minimum tier
+     * @return true if this tier is the minimum or more capable
+     */
+    public boolean satisfies(DriverTier minimum) {
+        return compareTo(minimum) >= 0;
+    }
+
+    /**
+     * Get the minimum tier a test class declares with RequiresTier
+     * @param testClass test class
+     * @return declared tier, BROWSER when the class declares none
+     */
+    public static DriverTier requiredBy(Class<?> testClass) {
+        RequiresTier requirement = testClass.getAnnotation(RequiresTier.class);
+        return requirement != null ? requirement.value() : BROWSER;
+    }
+}
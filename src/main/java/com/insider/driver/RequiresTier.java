@@ -0,0 +1,20 @@
+package com.insider.driver;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Minimum driver tier a test class needs, WebDriverFactory starts the cheapest tier that satisfies it
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface RequiresTier {
+
+    /**
+     * Minimum driver tier
+     * @return driver tier
+     */
+    DriverTier value();
+}
@@ -0,0 +1,145 @@
+package com.insider.driver;
+
+import org.jsoup.nodes.Element;
+import org.openqa.selenium.By;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.Point;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.WebElement;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Element of a static page. Visibility is judged from the markup alone: an element is hidden when it
+ * or an ancestor is a non-rendered tag, carries the hidden attribute or an inline display:none or
+ * visibility:hidden style, which does not cover styles from stylesheets or scripts.
+ */
+public class StaticElement implements WebElement {
+    private static final Set<String> NON_RENDERED_TAGS = Set.of("head", "script", "style", "template", "noscript", "meta", "link", "title");
+    private static final Set<String> URL_ATTRIBUTES = Set.of("href", "src", "action");
+    private static final Pattern HIDDEN_STYLE = Pattern.compile("(display\\s*:\\s*none|visibility\\s*:\\s*hidden)");
+
+    private final StaticPageDriver driver;
+    private final Element element;
+
+    StaticElement(StaticPageDriver driver, Element element) {
+        this.driver = driver;
+        this.element = element;
+    }
+
+    @Override
+    public void click() {
+        throw StaticPageDriver.unsupported("Clicking " + describe());
+    }
+
+    @Override
+    public void submit() {
+        throw StaticPageDriver.unsupported("Submitting " + describe());
+    }
+
+    @Override
+    public void sendKeys(CharSequence... keysToSend) {
+        throw StaticPageDriver.unsupported("Typing into " + describe());
+    }
+
+    @Override
+    public void clear() {
+        throw StaticPageDriver.unsupported("Clearing " + describe());
+    }
+
+    @Override
+    public String getTagName() {
+        return element.tagName();
+    }
+
+    @Override
+    public String getAttribute(String name) {
+        if (!element.hasAttr(name)) {
+            return null;
+        }
+        // Like the browser property, links and sources resolve against the page URL
+        return URL_ATTRIBUTES.contains(name) ? element.absUrl(name) : element.attr(name);
+    }
+
+    @Override
+    public String getDomAttribute(String name) {
+        return element.hasAttr(name) ? element.attr(name) : null;
+    }
+
+    @Override
+    public boolean isSelected() {
+        return element.hasAttr("selected") || element.hasAttr("checked");
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return !element.hasAttr("disabled");
+    }
+
+    @Override
+    public String getText() {
+        return isDisplayed() ? element.text() : "";
+    }
+
+    @Override
+    public List<WebElement> findElements(By by) {
+        return StaticPageDriver.findElements(driver, element, by);
+    }
+
+    @Override
+    public WebElement findElement(By by) {
+        return StaticPageDriver.findElement(driver, element, by);
+    }
+
+    @Override
+    public boolean isDisplayed() {
+        if ("input".equals(element.tagName()) && "hidden".equalsIgnoreCase(element.attr("type"))) {
+            return false;
+        }
+        for (Element current = element; current != null; current = current.parent()) {
+            if (NON_RENDERED_TAGS.contains(current.tagName()) || current.hasAttr("hidden")
+                    || HIDDEN_STYLE.matcher(current.attr("style").toLowerCase(Locale.ROOT)).find()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public Point getLocation() {
+        throw StaticPageDriver.unsupported("Layout of " + describe());
+    }
+
+    @Override
+    public Dimension getSize() {
+        throw StaticPageDriver.unsupported("Layout of " + describe());
+    }
+
+    @Override
+    public Rectangle getRect() {
+        throw StaticPageDriver.unsupported("Layout of " + describe());
+    }
+
+    @Override
+    public String getCssValue(String propertyName) {
+        throw StaticPageDriver.unsupported("Computed style of " + describe());
+    }
+
+    @Override
+    public <X> X getScreenshotAs(OutputType<X> target) {
+        throw StaticPageDriver.unsupported("Screenshot of " + describe());
+    }
+
+    private String describe() {
+        return "<" + element.tagName() + (element.id().isEmpty() ? "" : "#" + element.id()) + ">";
+    }
+
+    @Override
+    public String toString() {
+        return "StaticElement " + describe();
+    }
+}
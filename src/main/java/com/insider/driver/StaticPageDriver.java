@@ -0,0 +1,223 @@
+package com.insider.driver;
+
+import com.insider.replay.ReplayServer;
+import com.insider.utils.ConfigManager;
+import com.insider.utils.LoggerUtil;
+import org.apache.logging.log4j.Logger;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.select.Selector;
+import org.openqa.selenium.By;
+import org.openqa.selenium.InvalidSelectorException;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.UnsupportedCommandException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URL;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * WebDriver of the STATIC tier: pages are fetched with one HTTP request and parsed with jsoup,
+ * and By lookups, text, attributes, title and URL are answered from the served markup.
+ * Nothing is rendered and no script runs, so interactions, waits for dynamic content and
+ * DevTools features need the BROWSER tier.
+ */
+public class StaticPageDriver implements WebDriver {
+    private static final Logger logger = LoggerUtil.getLogger(StaticPageDriver.class);
+    private static final String WINDOW_HANDLE = "static";
+
+    private final ConfigManager config = ConfigManager.getInstance();
+    private final HttpClient httpClient;
+    private final List<String> history = new ArrayList<>();
+    private int historyIndex = -1;
+    private Document document = Document.createShell("about:blank");
+    private String currentUrl = "about:blank";
+
+    public StaticPageDriver() {
+        httpClient = ReplayServer.applyProxy(HttpClient.newBuilder())
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .connectTimeout(Duration.ofSeconds(config.getExplicitWait()))
+                .build();
+    }
+
+    @Override
+    public void get(String url) {
+        load(url);
+        history.subList(historyIndex + 1, history.size()).clear();
+        history.add(currentUrl);
+        historyIndex = history.size() - 1;
+    }
+
+    /**
+     * Fetch and parse a page, error pages are loaded like a browser would show them
+     */
+    private void load(String url) {
+        long start = System.nanoTime();
+        try {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+                    .timeout(Duration.ofSeconds(config.getPageLoadTimeout()))
+                    .header("User-Agent", config.getStaticUserAgent())
+                    .header("Accept", "text/html,application/xhtml+xml")
+                    .GET()
+                    .build();
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
+            currentUrl = response.uri().toString();
+            document = Jsoup.parse(response.body(), currentUrl);
+            logger.info("Loaded static page {} ({} in {}ms)", currentUrl, response.statusCode(), (System.nanoTime() - start) / 1_000_000);
+        } catch (IOException | IllegalArgumentException e) {
+            throw new WebDriverException("Failed to load static page: " + url, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new WebDriverException("Interrupted while loading static page: " + url, e);
+        }
+    }
+
+    @Override
+    public String getCurrentUrl() {
+        return currentUrl;
+    }
+
+    @Override
+    public String getTitle() {
+        return document.title();
+    }
+
+    @Override
+    public List<WebElement> findElements(By by) {
+        return findElements(this, document, by);
+    }
+
+    @Override
+    public WebElement findElement(By by) {
+        return findElement(this, document, by);
+    }
+
+    @Override
+    public String getPageSource() {
+        return document.outerHtml();
+    }
+
+    @Override
+    public void close() {
+        quit();
+    }
+
+    @Override
+    public void quit() {
+        document = Document.createShell("about:blank");
+        currentUrl = "about:blank";
+        history.clear();
+        historyIndex = -1;
+    }
+
+    @Override
+    public Set<String> getWindowHandles() {
+        return Set.of(WINDOW_HANDLE);
+    }
+
+    @Override
+    public String getWindowHandle() {
+        return WINDOW_HANDLE;
+    }
+
+    @Override
+    public TargetLocator switchTo() {
+        throw unsupported("Switching windows or frames");
+    }
+
+    @Override
+    public Navigation navigate() {
+        return new Navigation() {
+            @Override
+            public void back() {
+                if (historyIndex > 0) {
+                    load(history.get(--historyIndex));
+                }
+            }
+
+            @Override
+            public void forward() {
+                if (historyIndex < history.size() - 1) {
+                    load(history.get(++historyIndex));
+                }
+            }
+
+            @Override
+            public void to(String url) {
+                get(url);
+            }
+
+            @Override
+            public void to(URL url) {
+                get(url.toString());
+            }
+
+            @Override
+            public void refresh() {
+                load(currentUrl);
+            }
+        };
+    }
+
+    @Override
+    public Options manage() {
+        throw unsupported("Timeouts, cookies, windows and logs");
+    }
+
+    /**
+     * Find the elements matching a locator below a root element
+     * @param driver driver the elements belong to
+     * @param root element searched
+     * @param by locator, remote locators are answered from the markup and custom ones search through this context
+     * @return matching elements in document order
+     */
+    static List<WebElement> findElements(StaticPageDriver driver, Element root, By by) {
+        if (!(by instanceof By.Remotable remotable)) {
+            return by.findElements(root == driver.document ? driver : new StaticElement(driver, root));
+        }
+        By.Remotable.Parameters parameters = remotable.getRemoteParameters();
+        String value = String.valueOf(parameters.value());
+        List<Element> matches;
+        try {
+            matches = switch (parameters.using()) {
+                case "css selector" -> root.select(value);
+                case "xpath" -> root.selectXpath(value);
+                case "id" -> root.getElementsByAttributeValue("id", value);
+                case "name" -> root.getElementsByAttributeValue("name", value);
+                case "class name" -> root.getElementsByClass(value);
+                case "tag name" -> root.getElementsByTag(value);
+                case "link text" -> root.select("a").stream().filter(link -> link.text().equals(value.trim())).toList();
+                case "partial link text" -> root.select("a").stream().filter(link -> link.text().contains(value)).toList();
+                default -> throw new InvalidSelectorException("Unsupported locator strategy on static pages: " + parameters.using());
+            };
+        } catch (Selector.SelectorParseException e) {
+            throw new InvalidSelectorException("Invalid locator on static page: " + by, e);
+        }
+        return matches.stream().map(element -> (WebElement) new StaticElement(driver, element)).collect(Collectors.toList());
+    }
+
+    static WebElement findElement(StaticPageDriver driver, Element root, By by) {
+        List<WebElement> elements = findElements(driver, root, by);
+        if (elements.isEmpty()) {
+            throw new NoSuchElementException("Unable to locate element on static page " + driver.currentUrl + ": " + by);
+        }
+        return elements.get(0);
+    }
+
+    static UnsupportedCommandException unsupported(String operation) {
+        return new UnsupportedCommandException(operation + " requires the " + DriverTier.BROWSER + " driver tier");
+    }
+}
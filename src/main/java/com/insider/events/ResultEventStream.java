@@ -0,0 +1,239 @@
+package com.insider.events;
+
+import com.insider.utils.ConfigManager;
+import com.insider.utils.LoggerUtil;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.JsonOutput;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Streams test events as newline-delimited JSON while the run is in progress. Emitting only builds the
+ * event and offers it to a bounded queue, so a test thread never waits on disk or network; a single
+ * writer thread serializes the queued events, appends them to events.file and to the events.socket
+ * TCP endpoint, and flushes after every batch. Events that do not fit in the queue are counted and
+ * reported in a dropped event instead of blocking the test. The file is appended across runs, so
+ * every event carries the id of the run that emitted it.
+ */
+public class ResultEventStream {
+    private static final Logger logger = LoggerUtil.getLogger(ResultEventStream.class);
+    private static final long POLL_MILLIS = 200;
+    private static final long SOCKET_RETRY_MILLIS = 5000;
+
+    /**
+     * Initialization-on-demand holder idiom for thread-safe lazy initialization
+     */
+    private static class ResultEventStreamHolder {
+        private static final ResultEventStream INSTANCE = new ResultEventStream();
+    }
+
+    private static final ThreadLocal<String> currentTest = new ThreadLocal<>();
+
+    private final ConfigManager config = ConfigManager.getInstance();
+    private final String runId = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss_SSS"));
+    private final BlockingQueue<Map<String, Object>> queue;
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong written = new AtomicLong();
+    private final Json json = new Json();
+    private Writer fileWriter;
+    private Writer socketWriter;
+    private Socket socket;
+    private long nextSocketAttempt;
+
+    private ResultEventStream() {
+        queue = new ArrayBlockingQueue<>(config.getEventsQueueCapacity());
+        if (config.isEventsEnabled()) {
+            Thread writerThread = new Thread(this::writeLoop, "result-event-writer");
+            writerThread.setDaemon(true);
+            writerThread.start();
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> flush(TimeUnit.SECONDS.toMillis(5)), "result-event-flush"));
+        }
+    }
+
+    /**
+     * Get singleton instance of ResultEventStream
+     * @return ResultEventStream instance
+     */
+    public static ResultEventStream getInstance() {
+        return ResultEventStreamHolder.INSTANCE;
+    }
+
+    /**
+     * Set the test whose events the current thread emits
+     * @param test test id added to every event of the thread, null once the test ended
+     */
+    public static void setCurrentTest(String test) {
+        if (test == null) {
+            currentTest.remove();
+        } else {
+            currentTest.set(test);
+        }
+    }
+
+    /**
+     * Queue an event without blocking, it is dropped and counted if the queue is full
+     * @param type event type such as test.start or assertion
+     * @param fields event fields, values must be strings, numbers, booleans, lists or maps
+     */
+    public void emit(String type, Map<String, Object> fields) {
+        if (!config.isEventsEnabled()) {
+            return;
+        }
+        Map<String, Object> event = new LinkedHashMap<>();
+        event.put("runId", runId);
+        event.put("seq", sequence.incrementAndGet());
+        event.put("ts", System.currentTimeMillis());
+        event.put("type", type);
+        event.put("thread", Thread.currentThread().getName());
+        if (currentTest.get() != null) {
+            event.put("testId", currentTest.get());
+        }
+        if (config.getShardCount() > 1) {
+            event.put("shard", config.getShardIndex());
+        }
+        event.putAll(fields);
+        if (!queue.offer(event)) {
+            dropped.incrementAndGet();
+        }
+    }
+
+    /**
+     * Wait until the writer has written every queued event
+     * @param timeoutMillis maximum wait
+     */
+    public void flush(long timeoutMillis) {
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        while (config.isEventsEnabled() && written.get() + dropped.get() < sequence.get() && System.currentTimeMillis() < deadline) {
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void writeLoop() {
+        List<Map<String, Object>> batch = new ArrayList<>();
+        long reportedDrops = 0;
+        while (true) {
+            try {
+                Map<String, Object> first = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch);
+
+                StringBuilder lines = new StringBuilder();
+                long drops = dropped.get();
+                if (drops > reportedDrops) {
+                    lines.append(toLine(Map.of("runId", runId, "ts", System.currentTimeMillis(), "type", "events.dropped", "total", drops)));
+                    reportedDrops = drops;
+                }
+                batch.forEach(event -> lines.append(toLine(event)));
+                write(lines.toString());
+                written.addAndGet(batch.size());
+                batch.clear();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                written.addAndGet(batch.size());
+                batch.clear();
+                LoggerUtil.logWarning(logger, "Could not write result events: " + e.getMessage());
+            }
+        }
+    }
+
+    private String toLine(Map<String, Object> event) {
+        StringWriter line = new StringWriter();
+        try (JsonOutput output = json.newOutput(line)) {
+            output.setPrettyPrint(false).write(event);
+        }
+        return line.append('\n').toString();
+    }
+
+    /**
+     * Write serialized events to every sink, a sink that fails is closed and reopened on the next batch
+     */
+    private void write(String lines) {
+        try {
+            if (fileWriter == null) {
+                fileWriter = openFile();
+            }
+            fileWriter.write(lines);
+            fileWriter.flush();
+        } catch (IOException e) {
+            LoggerUtil.logWarning(logger, "Could not write result events file: " + e.getMessage());
+            fileWriter = null;
+        }
+
+        String endpoint = config.getEventsSocket();
+        if (endpoint.isEmpty() || (socketWriter == null && System.currentTimeMillis() < nextSocketAttempt)) {
+            return;
+        }
+        try {
+            if (socketWriter == null) {
+                String[] hostAndPort = endpoint.split(":");
+                socket = new Socket();
+                socket.connect(new InetSocketAddress(hostAndPort[0], Integer.parseInt(hostAndPort[1])), (int) POLL_MILLIS);
+                socketWriter = new BufferedWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8));
+                LoggerUtil.logInfo(logger, "Streaming result events to " + endpoint);
+            }
+            socketWriter.write(lines);
+            socketWriter.flush();
+        } catch (IOException | RuntimeException e) {
+            logger.debug("Result event socket {} not available: {}", endpoint, e.getMessage());
+            closeSocket();
+            nextSocketAttempt = System.currentTimeMillis() + SOCKET_RETRY_MILLIS;
+        }
+    }
+
+    private Writer openFile() throws IOException {
+        String configured = config.getEventsFile();
+        Path file = Paths.get(config.getShardCount() > 1
+                ? configured.replaceFirst("(\\.jsonl)?$", "-shard-" + config.getShardIndex() + ".jsonl")
+                : configured);
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        LoggerUtil.logInfo(logger, "Streaming result events to " + file);
+        return Files.newBufferedWriter(file, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    private void closeSocket() {
+        try {
+            if (socket != null) {
+                socket.close();
+            }
+        } catch (IOException e) {
+            logger.debug("Error closing result event socket: {}", e.getMessage());
+        }
+        socket = null;
+        socketWriter = null;
+    }
+}
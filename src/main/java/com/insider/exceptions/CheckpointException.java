@@ -0,0 +1,27 @@
+package com.insider.exceptions;
+
+import lombok.Getter;
+
+/**
+ * Custom exception for journey checkpoint save and restore operations
+ */
+@Getter
+public class CheckpointException extends RuntimeException {
+
+    private final String operation;
+    private final String stepName;
+
+    /**
+     * Constructor for CheckpointException
+     * @param message Error message
+     * @param operation Operation being performed when error occurred
+     * @param stepName Name of the journey step the checkpoint belongs to
+     * @param cause Original exception that caused this error
+     */
+    public CheckpointException(String message, String operation, String stepName, Throwable cause) {
+        super(String.format("Checkpoint Operation Failed - Operation: %s, Step: %s, Error: %s",
+                          operation, stepName, message), cause);
+        this.operation = operation;
+        this.stepName = stepName;
+    }
+}
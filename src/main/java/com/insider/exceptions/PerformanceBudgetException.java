@@ -0,0 +1,26 @@
+package com.insider.exceptions;
+
+import lombok.Getter;
+
+/**
+ * Custom exception for web performance budget breaches
+ */
+@Getter
+public class PerformanceBudgetException extends RuntimeException {
+
+    private final String pageName;
+    private final String breaches;
+
+    /**
+     * Constructor for PerformanceBudgetException
+     * @param message Error message
+     * @param pageName Page whose budget was breached
+     * @param breaches Description of every breached metric
+     */
+    public PerformanceBudgetException(String message, String pageName, String breaches) {
+        super(String.format("Performance Budget Breached - Page: %s, Breaches: %s, Error: %s",
+                          pageName, breaches, message));
+        this.pageName = pageName;
+        this.breaches = breaches;
+    }
+}
@@ -0,0 +1,27 @@
+package com.insider.exceptions;
+
+import lombok.Getter;
+
+/**
+ * Custom exception for record and replay fixture server operations
+ */
+@Getter
+public class ReplayServerException extends RuntimeException {
+
+    private final String operation;
+    private final String resource;
+
+    /**
+     * Constructor for ReplayServerException
+     * @param message Error message
+     * @param operation Operation being performed when error occurred
+     * @param resource Fixture file or URL involved in the operation
+     * @param cause Original exception that caused this error
+     */
+    public ReplayServerException(String message, String operation, String resource, Throwable cause) {
+        super(String.format("Replay Server Failed - Operation: %s, Resource: %s, Error: %s",
+                          operation, resource != null ? resource : "N/A", message), cause);
+        this.operation = operation;
+        this.resource = resource;
+    }
+}
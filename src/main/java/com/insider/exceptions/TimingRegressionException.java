@@ -0,0 +1,29 @@
+package com.insider.exceptions;
+
+import lombok.Getter;
+
+/**
+ * Custom exception for steps that became slower than their historical baseline
+ */
+@Getter
+public class TimingRegressionException extends RuntimeException {
+
+    private final String stepName;
+    private final double baselineMillis;
+    private final double actualMillis;
+
+    /**
+     * Constructor for TimingRegressionException
+     * @param message Error message
+     * @param stepName Step that regressed
+     * @param baselineMillis Median duration of the previous runs
+     * @param actualMillis Duration of the current run
+     */
+    public TimingRegressionException(String message, String stepName, double baselineMillis, double actualMillis) {
+        super(String.format("Timing Regression - Step: %s, Baseline: %.0fms, Actual: %.0fms, Error: %s",
+                          stepName, baselineMillis, actualMillis, message));
+        this.stepName = stepName;
+        this.baselineMillis = baselineMillis;
+        this.actualMillis = actualMillis;
+    }
+}
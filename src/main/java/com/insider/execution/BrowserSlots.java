@@ -0,0 +1,112 @@
+package com.insider.execution;
+
+import com.insider.utils.ConfigManager;
+import com.insider.utils.LoggerUtil;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+
+import java.lang.management.ManagementFactory;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Limits the number of concurrent browser sessions of the JVM. Test tasks are cheap virtual threads,
+ * so only the browsers they start are bounded: browser.slots when set, otherwise the physical memory
+ * left after browser.slot.reserved.memory.mb divided by browser.slot.memory.mb, capped at the number
+ * of processors. A slot is taken before a browser starts, then attached to the started driver and
+ * returned when that driver quits, on whichever thread quits it.
+ */
+public class BrowserSlots {
+
+    // Private constructor to prevent instantiation
+    private BrowserSlots() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    private static final Logger logger = LoggerUtil.getLogger(BrowserSlots.class);
+    private static final Set<WebDriver> holders = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Initialization-on-demand holder idiom for thread-safe lazy initialization
+     */
+    private static class SlotsHolder {
+        private static final int SLOT_COUNT = computeSlotCount();
+        private static final Semaphore SLOTS = new Semaphore(SLOT_COUNT, true);
+    }
+
+    /**
+     * Take a browser slot for a browser about to start, waiting until one is free. The slot is
+     * either attached to the started driver or returned with release() if the browser did not start.
+     * @throws IllegalStateException if no slot frees up within browser.slot.timeout.seconds
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    public static void acquire() throws InterruptedException {
+        long start = System.nanoTime();
+        if (!SlotsHolder.SLOTS.tryAcquire(ConfigManager.getInstance().getBrowserSlotTimeoutSeconds(), TimeUnit.SECONDS)) {
+            throw new IllegalStateException("No browser slot became free within %ds, all %d slots are in use"
+                    .formatted(ConfigManager.getInstance().getBrowserSlotTimeoutSeconds(), SlotsHolder.SLOT_COUNT));
+        }
+        long waitedMillis = (System.nanoTime() - start) / 1_000_000;
+        if (waitedMillis > 0) {
+            logger.info("Browser slot acquired after {}ms, {} of {} free", waitedMillis, available(), SlotsHolder.SLOT_COUNT);
+        }
+    }
+
+    /**
+     * Attach the slot taken with acquire() to the driver of the started browser
+     * @param driver started driver
+     */
+    public static void attach(WebDriver driver) {
+        holders.add(driver);
+    }
+
+    /**
+     * Return a slot taken with acquire() whose browser did not start
+     */
+    public static void release() {
+        SlotsHolder.SLOTS.release();
+    }
+
+    /**
+     * Return the slot of a driver that quit, does nothing if the driver holds no slot
+     * @param driver driver that quit
+     */
+    public static void release(WebDriver driver) {
+        if (driver != null && holders.remove(driver)) {
+            SlotsHolder.SLOTS.release();
+        }
+    }
+
+    /**
+     * Get number of concurrent browser sessions allowed
+     * @return slot count
+     */
+    public static int getSlotCount() {
+        return SlotsHolder.SLOT_COUNT;
+    }
+
+    /**
+     * Get number of free browser slots
+     * @return free slots
+     */
+    public static int available() {
+        return SlotsHolder.SLOTS.availablePermits();
+    }
+
+    private static int computeSlotCount() {
+        ConfigManager config = ConfigManager.getInstance();
+        if (config.getBrowserSlots() > 0) {
+            LoggerUtil.logInfo(logger, "Browser slots: " + config.getBrowserSlots() + " (configured)");
+            return config.getBrowserSlots();
+        }
+        long totalMemoryMb = ((com.sun.management.OperatingSystemMXBean) ManagementFactory.getOperatingSystemMXBean())
+                .getTotalMemorySize() / (1024 * 1024);
+        long memorySlots = (totalMemoryMb - config.getBrowserSlotReservedMemoryMb()) / config.getBrowserSlotMemoryMb();
+        int slots = (int) Math.max(1, Math.min(memorySlots, Runtime.getRuntime().availableProcessors()));
+        LoggerUtil.logInfo(logger, "Browser slots: " + slots + " (" + totalMemoryMb + "MB memory, "
+                + Runtime.getRuntime().availableProcessors() + " processors)");
+        return slots;
+    }
+}
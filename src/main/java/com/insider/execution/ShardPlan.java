@@ -0,0 +1,124 @@
+package com.insider.execution;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Deterministic assignment of test units to N shards. Units are placed longest first on the shard with
+ * the least estimated time, ties broken by unit key and shard index, so every machine that sees the same
+ * units and estimates computes the same plan; the fingerprint lets the merge step verify that.
+ */
+public class ShardPlan {
+
+    /**
+     * Unit of work that always runs on one shard
+     * @param key unit key, unique within the plan
+     * @param estimatedMillis expected duration from the run history
+     */
+    public record Unit(String key, double estimatedMillis) {
+    }
+
+    private final int shardCount;
+    private final Map<String, Integer> assignments = new TreeMap<>();
+    private final double[] estimatedMillis;
+
+    private ShardPlan(int shardCount) {
+        this.shardCount = shardCount;
+        this.estimatedMillis = new double[shardCount];
+    }
+
+    /**
+     * Assign units to shards, balancing the estimated time
+     * @param units units to assign
+     * @param shardCount number of shards
+     * @return shard plan
+     */
+    public static ShardPlan of(List<Unit> units, int shardCount) {
+        if (shardCount < 1) {
+            throw new IllegalArgumentException("Shard count must be at least 1: " + shardCount);
+        }
+        ShardPlan plan = new ShardPlan(shardCount);
+        List<Unit> ordered = new ArrayList<>(units);
+        ordered.sort(Comparator.comparingDouble(Unit::estimatedMillis).reversed().thenComparing(Unit::key));
+        for (Unit unit : ordered) {
+            int lightest = 0;
+            for (int shard = 1; shard < shardCount; shard++) {
+                if (plan.estimatedMillis[shard] < plan.estimatedMillis[lightest]) {
+                    lightest = shard;
+                }
+            }
+            plan.assignments.put(unit.key(), lightest + 1);
+            plan.estimatedMillis[lightest] += unit.estimatedMillis();
+        }
+        return plan;
+    }
+
+    /**
+     * Get shard of a unit
+     * @param key unit key
+     * @return shard index from 1 to the shard count
+     */
+    public int shardOf(String key) {
+        Integer shard = assignments.get(key);
+        if (shard == null) {
+            throw new IllegalArgumentException("Unit is not part of the shard plan: " + key);
+        }
+        return shard;
+    }
+
+    /**
+     * Get units assigned to a shard
+     * @param shard shard index from 1 to the shard count
+     * @return unit keys in key order
+     */
+    public List<String> unitsOf(int shard) {
+        return assignments.entrySet().stream().filter(entry -> entry.getValue() == shard).map(Map.Entry::getKey).toList();
+    }
+
+    /**
+     * Get estimated time of a shard
+     * @param shard shard index from 1 to the shard count
+     * @return sum of the estimates of its units
+     */
+    public double estimatedMillis(int shard) {
+        return estimatedMillis[shard - 1];
+    }
+
+    /**
+     * Get number of shards
+     * @return shard count
+     */
+    public int getShardCount() {
+        return shardCount;
+    }
+
+    /**
+     * Get a fingerprint of the assignments, equal on every machine that computed the same plan
+     * @return hex SHA-256 prefix of the sorted unit to shard assignments
+     */
+    public String fingerprint() {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            assignments.forEach((key, shard) -> digest.update((key + "=" + shard + "\n").getBytes(StandardCharsets.UTF_8)));
+            return HexFormat.of().formatHex(digest.digest()).substring(0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * Get assignments as a JSON friendly map
+     * @return unit key to shard index in key order
+     */
+    public Map<String, Integer> toMap() {
+        return new LinkedHashMap<>(assignments);
+    }
+}
@@ -0,0 +1,171 @@
+package com.insider.execution;
+
+import com.insider.utils.ConfigManager;
+import com.insider.utils.LoggerUtil;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.json.Json;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Combines the shard result files of one sharded run into merged-report.json: totals, per shard wall
+ * and estimated time, every test result with its failure bundle, the slowest tests, and the method
+ * timings that the next run can plan from through shard.timings.file. It also checks that all shards
+ * computed the same plan and that every shard reported, and exits non-zero on failures or gaps.
+ */
+public class ShardReportMerger {
+
+    // Private constructor to prevent instantiation
+    private ShardReportMerger() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    private static final Logger logger = LoggerUtil.getLogger(ShardReportMerger.class);
+    private static final String MERGED_REPORT_NAME = "merged-report.json";
+    private static final int SLOWEST_TESTS = 10;
+
+    public static void main(String[] args) throws IOException {
+        Path resultsDir = Paths.get(args.length > 0 ? args[0] : ConfigManager.getInstance().getShardResultsDir());
+        Map<String, Object> report = merge(resultsDir);
+        Path reportFile = resultsDir.resolve(MERGED_REPORT_NAME);
+        Files.writeString(reportFile, new Json().toJson(report));
+        LoggerUtil.logInfo(logger, "Merged shard report saved: " + reportFile);
+
+        @SuppressWarnings("unchecked")
+        List<String> problems = (List<String>) report.get("problems");
+        @SuppressWarnings("unchecked")
+        Map<String, Long> totals = (Map<String, Long>) report.get("totals");
+        System.exit(problems.isEmpty() && totals.get("FAIL") == 0 ? 0 : 1);
+    }
+
+    /**
+     * Merge the shard result files of a directory
+     * @param resultsDir directory with shard-K-of-N.json files
+     * @return merged report
+     * @throws IOException if the directory cannot be read
+     */
+    public static Map<String, Object> merge(Path resultsDir) throws IOException {
+        List<Map<String, Object>> shards;
+        try (Stream<Path> files = Files.list(resultsDir)) {
+            shards = files.filter(file -> file.getFileName().toString().matches("shard-\\d+-of-\\d+\\.json"))
+                    .sorted()
+                    .map(ShardReportMerger::read)
+                    .sorted(Comparator.comparingInt(shard -> number(shard.get("shardIndex")).intValue()))
+                    .toList();
+        }
+        if (shards.isEmpty()) {
+            throw new IllegalStateException("No shard result files in " + resultsDir);
+        }
+
+        List<String> problems = new ArrayList<>();
+        Set<Object> fingerprints = shards.stream().map(shard -> shard.get("planFingerprint")).collect(Collectors.toSet());
+        if (fingerprints.size() > 1) {
+            problems.add("Shards computed different plans " + fingerprints + ", align history or set shard.timings.file");
+        }
+        int shardCount = number(shards.get(0).get("shardCount")).intValue();
+        Set<Integer> reported = shards.stream().map(shard -> number(shard.get("shardIndex")).intValue()).collect(Collectors.toCollection(TreeSet::new));
+        for (int index = 1; index <= shardCount; index++) {
+            if (!reported.contains(index)) {
+                problems.add("Shard %d of %d did not report results".formatted(index, shardCount));
+            }
+        }
+
+        List<Map<String, Object>> results = new ArrayList<>();
+        List<Map<String, Object>> shardSummaries = new ArrayList<>();
+        Map<String, Integer> ranOn = new TreeMap<>();
+        for (Map<String, Object> shard : shards) {
+            int index = number(shard.get("shardIndex")).intValue();
+            List<Map<String, Object>> shardResults = list(shard.get("results"));
+            Map<String, Long> statuses = countStatuses(shardResults);
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("shardIndex", index);
+            summary.put("estimatedMillis", shard.get("estimatedMillis"));
+            summary.put("wallMillis", shard.get("wallMillis"));
+            summary.putAll(statuses);
+            shardSummaries.add(summary);
+
+            for (Map<String, Object> result : shardResults) {
+                Map<String, Object> merged = new LinkedHashMap<>(result);
+                merged.put("shard", index);
+                results.add(merged);
+                Integer previous = ranOn.put(result.get("test") + "/" + result.get("class") + "#" + result.get("method"), index);
+                if (previous != null && previous != index) {
+                    problems.add("%s/%s#%s ran on shards %d and %d".formatted(result.get("test"), result.get("class"), result.get("method"), previous, index));
+                }
+            }
+        }
+        results.sort(Comparator.comparing((Map<String, Object> result) -> result.get("test").toString())
+                .thenComparing(result -> result.get("class").toString())
+                .thenComparing(result -> result.get("method").toString()));
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("shardCount", shardCount);
+        report.put("planFingerprint", fingerprints.size() == 1 ? fingerprints.iterator().next() : fingerprints);
+        report.put("problems", problems);
+        report.put("totals", countStatuses(results));
+        report.put("wallMillis", shardSummaries.stream().mapToLong(summary -> number(summary.get("wallMillis")).longValue()).max().orElse(0));
+        report.put("shards", shardSummaries);
+        report.put("failures", results.stream().filter(result -> "FAIL".equals(result.get("status"))).toList());
+        report.put("slowest", results.stream()
+                .sorted(Comparator.comparingLong((Map<String, Object> result) -> number(result.get("millis")).longValue()).reversed())
+                .limit(SLOWEST_TESTS)
+                .toList());
+        report.put("methodMillis", methodMillis(results));
+        report.put("results", results);
+
+        LoggerUtil.logInfo(logger, "Merged %d of %d shards: %s".formatted(shards.size(), shardCount, report.get("totals")));
+        shardSummaries.forEach(summary -> LoggerUtil.logInfo(logger, "  shard %s: estimated %sms, wall %sms".formatted(
+                summary.get("shardIndex"), summary.get("estimatedMillis"), summary.get("wallMillis"))));
+        problems.forEach(problem -> LoggerUtil.logWarning(logger, problem));
+        return report;
+    }
+
+    /**
+     * Get the duration of every step that ran, the latest attempt wins when a step was retried
+     */
+    private static Map<String, Long> methodMillis(List<Map<String, Object>> results) {
+        Map<String, Long> methodMillis = new TreeMap<>();
+        results.stream()
+                .filter(result -> !"SKIP".equals(result.get("status")))
+                .forEach(result -> methodMillis.put(result.get("step").toString(), number(result.get("millis")).longValue()));
+        return methodMillis;
+    }
+
+    private static Map<String, Long> countStatuses(List<Map<String, Object>> results) {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (String status : List.of("PASS", "FAIL", "SKIP")) {
+            counts.put(status, results.stream().filter(result -> status.equals(result.get("status"))).count());
+        }
+        return counts;
+    }
+
+    private static Map<String, Object> read(Path file) {
+        try {
+            return new Json().toType(Files.readString(file), Json.MAP_TYPE);
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not read shard results " + file, e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Map<String, Object>> list(Object value) {
+        return value instanceof List<?> list ? (List<Map<String, Object>>) list : List.of();
+    }
+
+    private static Number number(Object value) {
+        return value instanceof Number number ? number : 0;
+    }
+}
@@ -0,0 +1,247 @@
+package com.insider.execution;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Orders and budgets test methods by their expected value: the probability that a method fails, found
+ * from the run history, per expected millisecond. Ordering runs the densest method whose prerequisites
+ * already ran, where a prerequisite counts with the best chain of dependents it unlocks, so a likely
+ * failure surfaces as early as its dependencies allow. Budgeting solves a knapsack over the method
+ * sets that include their prerequisites, maximizing the expected failures covered within the
+ * wall-clock budget.
+ */
+public class TestSchedule {
+    private static final int BUDGET_STEPS = 2000;
+    private static final int MAX_GROUP_OPTIONS = 4096;
+
+    // Private constructor to prevent instantiation
+    private TestSchedule() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Test method to schedule
+     * @param key unique method key
+     * @param expectedMillis expected duration
+     * @param failureProbability probability that the method fails in this run
+     * @param prerequisites keys of the methods it depends on
+     */
+    public record Candidate(String key, double expectedMillis, double failureProbability, Set<String> prerequisites) {
+    }
+
+    /**
+     * Order methods so that the most valuable methods per millisecond run first, prerequisites always before dependents
+     * @param candidates methods in their default order, which breaks ties
+     * @return method keys in run order
+     */
+    public static List<String> order(List<Candidate> candidates) {
+        Map<String, Candidate> byKey = byKey(candidates);
+        Map<String, List<Candidate>> dependents = dependents(candidates, byKey);
+        Map<String, double[]> bestChains = new HashMap<>();
+
+        List<String> ordered = new ArrayList<>();
+        Set<String> placed = new LinkedHashSet<>();
+        List<Candidate> remaining = new ArrayList<>(candidates);
+        while (!remaining.isEmpty()) {
+            Candidate next = null;
+            double nextDensity = -1;
+            for (Candidate candidate : remaining) {
+                boolean ready = candidate.prerequisites().stream().noneMatch(key -> byKey.containsKey(key) && !placed.contains(key));
+                double[] chain = bestChain(candidate, dependents, bestChains);
+                double density = chain[0] / chain[1];
+                if (ready && density > nextDensity) {
+                    next = candidate;
+                    nextDensity = density;
+                }
+            }
+            // A dependency cycle leaves nothing ready, keep the default order for the rest
+            if (next == null) {
+                next = remaining.get(0);
+            }
+            remaining.remove(next);
+            placed.add(next.key());
+            ordered.add(next.key());
+        }
+        return ordered;
+    }
+
+    /**
+     * Select the most valuable methods that fit a wall-clock budget, every selected method with all its prerequisites.
+     * Methods connected by dependencies form a group whose options are its prerequisite-closed subsets, at most
+     * MAX_GROUP_OPTIONS of them, and a knapsack over the groups picks at most one option each. Costs are rounded up
+     * to 1/BUDGET_STEPS of the budget, so the selection never exceeds it.
+     * @param candidates methods to choose from
+     * @param budgetMillis wall-clock budget
+     * @return selected method keys, in the order of the candidates
+     */
+    public static Set<String> selectWithinBudget(List<Candidate> candidates, double budgetMillis) {
+        if (candidates.isEmpty() || budgetMillis <= 0) {
+            return new LinkedHashSet<>();
+        }
+        Map<String, Candidate> byKey = byKey(candidates);
+        double millisPerStep = budgetMillis / BUDGET_STEPS;
+        List<List<Set<String>>> groupOptions = new ArrayList<>();
+        for (List<Candidate> group : dependencyGroups(candidates, byKey)) {
+            groupOptions.add(closedSubsets(group, byKey, budgetMillis));
+        }
+
+        // best[g][b]: highest value of the first g groups within b budget steps
+        double[][] best = new double[groupOptions.size() + 1][BUDGET_STEPS + 1];
+        int[][] choice = new int[groupOptions.size() + 1][BUDGET_STEPS + 1];
+        for (int group = 1; group <= groupOptions.size(); group++) {
+            List<Set<String>> options = groupOptions.get(group - 1);
+            int[] steps = new int[options.size()];
+            double[] values = new double[options.size()];
+            for (int option = 0; option < options.size(); option++) {
+                double cost = options.get(option).stream().mapToDouble(key -> byKey.get(key).expectedMillis()).sum();
+                steps[option] = (int) Math.ceil(cost / millisPerStep - 1e-9);
+                values[option] = options.get(option).stream().mapToDouble(key -> byKey.get(key).failureProbability()).sum();
+            }
+            for (int budget = 0; budget <= BUDGET_STEPS; budget++) {
+                best[group][budget] = best[group - 1][budget];
+                choice[group][budget] = -1;
+                for (int option = 0; option < options.size(); option++) {
+                    if (steps[option] <= budget && best[group - 1][budget - steps[option]] + values[option] > best[group][budget]) {
+                        best[group][budget] = best[group - 1][budget - steps[option]] + values[option];
+                        choice[group][budget] = option;
+                    }
+                }
+            }
+        }
+
+        Set<String> chosen = new HashSet<>();
+        int budget = BUDGET_STEPS;
+        for (int group = groupOptions.size(); group >= 1; group--) {
+            int option = choice[group][budget];
+            if (option >= 0) {
+                Set<String> keys = groupOptions.get(group - 1).get(option);
+                chosen.addAll(keys);
+                budget -= (int) Math.ceil(keys.stream().mapToDouble(key -> byKey.get(key).expectedMillis()).sum() / millisPerStep - 1e-9);
+            }
+        }
+        Set<String> selected = new LinkedHashSet<>();
+        byKey.keySet().stream().filter(chosen::contains).forEach(selected::add);
+        return selected;
+    }
+
+    /**
+     * Split methods into groups connected by dependencies in either direction
+     */
+    private static List<List<Candidate>> dependencyGroups(List<Candidate> candidates, Map<String, Candidate> byKey) {
+        Map<String, List<Candidate>> dependents = dependents(candidates, byKey);
+        Set<String> grouped = new HashSet<>();
+        List<List<Candidate>> groups = new ArrayList<>();
+        for (Candidate candidate : candidates) {
+            if (!grouped.add(candidate.key())) {
+                continue;
+            }
+            List<Candidate> group = new ArrayList<>();
+            Deque<Candidate> pending = new ArrayDeque<>(List.of(candidate));
+            while (!pending.isEmpty()) {
+                Candidate next = pending.poll();
+                group.add(next);
+                List<Candidate> neighbours = new ArrayList<>(dependents.getOrDefault(next.key(), List.of()));
+                next.prerequisites().stream().map(byKey::get).filter(Objects::nonNull).forEach(neighbours::add);
+                neighbours.stream().filter(neighbour -> grouped.add(neighbour.key())).forEach(pending::add);
+            }
+            groups.add(group);
+        }
+        return groups;
+    }
+
+    /**
+     * Enumerate the non-empty subsets of a group that contain the prerequisites of all their methods and fit the
+     * budget, smallest first. Every subset is a union of closures, the closure of a method being the method with
+     * all its transitive prerequisites, so methods in a dependency cycle are only selected together.
+     */
+    private static List<Set<String>> closedSubsets(List<Candidate> group, Map<String, Candidate> byKey, double budgetMillis) {
+        List<Set<String>> closures = new ArrayList<>();
+        for (Candidate candidate : group) {
+            Set<String> closure = new LinkedHashSet<>();
+            collectClosure(candidate, byKey, closure);
+            closures.add(closure);
+        }
+
+        Set<Set<String>> seen = new HashSet<>();
+        List<Set<String>> subsets = new ArrayList<>();
+        Deque<Set<String>> pending = new ArrayDeque<>(List.of(Set.of()));
+        while (!pending.isEmpty() && subsets.size() < MAX_GROUP_OPTIONS) {
+            Set<String> subset = pending.poll();
+            for (Set<String> closure : closures) {
+                if (subset.containsAll(closure)) {
+                    continue;
+                }
+                Set<String> extended = new HashSet<>(subset);
+                extended.addAll(closure);
+                double cost = extended.stream().mapToDouble(key -> byKey.get(key).expectedMillis()).sum();
+                if (cost <= budgetMillis && seen.add(extended) && subsets.size() < MAX_GROUP_OPTIONS) {
+                    subsets.add(extended);
+                    pending.add(extended);
+                }
+            }
+        }
+        return subsets;
+    }
+
+    /**
+     * Get the value and cost of the densest chain that starts with a method and continues through its dependents
+     */
+    private static double[] bestChain(Candidate candidate, Map<String, List<Candidate>> dependents, Map<String, double[]> bestChains) {
+        double[] cached = bestChains.get(candidate.key());
+        if (cached != null) {
+            return cached;
+        }
+        // Guards against dependency cycles while the chain is computed
+        bestChains.put(candidate.key(), new double[] {candidate.failureProbability(), candidate.expectedMillis()});
+        double[] best = {candidate.failureProbability(), candidate.expectedMillis()};
+        for (Candidate dependent : dependents.getOrDefault(candidate.key(), List.of())) {
+            double[] chain = bestChain(dependent, dependents, bestChains);
+            double value = candidate.failureProbability() + chain[0];
+            double cost = candidate.expectedMillis() + chain[1];
+            if (value / cost > best[0] / best[1]) {
+                best = new double[] {value, cost};
+            }
+        }
+        bestChains.put(candidate.key(), best);
+        return best;
+    }
+
+    private static void collectClosure(Candidate candidate, Map<String, Candidate> byKey, Set<String> closure) {
+        if (!closure.add(candidate.key())) {
+            return;
+        }
+        for (String prerequisite : candidate.prerequisites()) {
+            Candidate required = byKey.get(prerequisite);
+            if (required != null) {
+                collectClosure(required, byKey, closure);
+            }
+        }
+    }
+
+    private static Map<String, Candidate> byKey(Collection<Candidate> candidates) {
+        Map<String, Candidate> byKey = new LinkedHashMap<>();
+        candidates.forEach(candidate -> byKey.put(candidate.key(), candidate));
+        return byKey;
+    }
+
+    private static Map<String, List<Candidate>> dependents(List<Candidate> candidates, Map<String, Candidate> byKey) {
+        Map<String, List<Candidate>> dependents = new HashMap<>();
+        for (Candidate candidate : candidates) {
+            candidate.prerequisites().stream()
+                    .filter(byKey::containsKey)
+                    .forEach(key -> dependents.computeIfAbsent(key, ignored -> new ArrayList<>()).add(candidate));
+        }
+        return dependents;
+    }
+}
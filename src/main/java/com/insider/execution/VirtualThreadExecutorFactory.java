@@ -0,0 +1,23 @@
+package com.insider.execution;
+
+import org.testng.IExecutorServiceFactory;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TestNG executor factory that runs every parallel test task on its own virtual thread. The pool
+ * sizes from the suite are ignored, so tasks that only wait on HTTP calls never queue behind each
+ * other; concurrent browsers are bounded by {@link BrowserSlots} instead.
+ */
+public class VirtualThreadExecutorFactory implements IExecutorServiceFactory {
+
+    @Override
+    public ExecutorService create(int corePoolSize, int maximumPoolSize, long keepAliveTime, TimeUnit unit,
+                                  BlockingQueue<Runnable> workQueue, ThreadFactory threadFactory) {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("TestNG-virtual-", 1).factory());
+    }
+}
@@ -0,0 +1,34 @@
+package com.insider.execution;
+
+import com.insider.utils.LoggerUtil;
+import org.apache.logging.log4j.Logger;
+import org.testng.TestNG;
+
+import java.util.List;
+
+/**
+ * Runs TestNG suites with parallel tasks on virtual threads and browsers limited by {@link BrowserSlots}.
+ * Surefire cannot pass a TestNG executor factory, so this runner is started through exec:java with
+ * the suite XML files as arguments.
+ */
+public class VirtualThreadSuiteRunner {
+
+    // Private constructor to prevent instantiation
+    private VirtualThreadSuiteRunner() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    private static final Logger logger = LoggerUtil.getLogger(VirtualThreadSuiteRunner.class);
+    private static final String DEFAULT_SUITE = "src/test/resources/testng.xml";
+
+    public static void main(String[] args) {
+        List<String> suites = args.length > 0 ? List.of(args) : List.of(DEFAULT_SUITE);
+        LoggerUtil.logInfo(logger, "Running " + suites + " on virtual threads with " + BrowserSlots.getSlotCount() + " browser slots");
+
+        TestNG testng = new TestNG();
+        testng.setTestSuites(suites);
+        testng.setExecutorServiceFactory(new VirtualThreadExecutorFactory());
+        testng.run();
+        System.exit(testng.getStatus());
+    }
+}
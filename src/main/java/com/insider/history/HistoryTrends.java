@@ -0,0 +1,67 @@
+package com.insider.history;
+
+import com.insider.utils.ConfigManager;
+
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Command line report of step and command timings over the recorded runs.
+ * Usage: HistoryTrends [name filter] [number of runs]
+ */
+public class HistoryTrends {
+
+    // Private constructor to prevent instantiation
+    private HistoryTrends() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    private static final String SPARK_LEVELS = "_.-=+*#@";
+    private static final int DEFAULT_RUNS = 20;
+
+    public static void main(String[] args) {
+        String filter = args.length > 0 ? args[0].toLowerCase(Locale.ROOT) : "";
+        int runs = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_RUNS;
+        ConfigManager config = ConfigManager.getInstance();
+        List<TimingRecord> records = new RunHistoryStore(Paths.get(config.getHistoryFile())).load();
+        if (records.isEmpty()) {
+            System.out.println("No run history found in " + config.getHistoryFile());
+            return;
+        }
+
+        Map<String, TimingRecord.Kind> names = new LinkedHashMap<>();
+        for (TimingRecord record : records) {
+            if (record.getKind() != TimingRecord.Kind.FAILURE && record.getName().toLowerCase(Locale.ROOT).contains(filter)) {
+                names.putIfAbsent(record.getName(), record.getKind());
+            }
+        }
+
+        System.out.printf("%-8s %-45s %5s %10s %10s %8s  %s%n", "KIND", "NAME", "RUNS", "LAST(ms)", "MEDIAN(ms)", "CHANGE", "TREND");
+        for (Map.Entry<String, TimingRecord.Kind> entry : names.entrySet()) {
+            List<Double> durations = RunHistoryStore.lastRuns(records, entry.getValue(), entry.getKey(), runs);
+            double last = durations.get(durations.size() - 1);
+            TimingBaseline baseline = TimingBaseline.of(durations.subList(0, Math.max(1, durations.size() - 1)));
+            String regression = durations.size() > config.getHistoryMinRuns()
+                    && baseline.isRegression(last, config.getHistoryTolerancePercent()) ? "  REGRESSION" : "";
+            System.out.printf(Locale.ROOT, "%-8s %-45s %5d %10.0f %10.0f %+7.1f%%  %s%s%n", entry.getValue(), entry.getKey(),
+                    durations.size(), last, baseline.getMedian(), baseline.changePercent(last), sparkline(durations), regression);
+        }
+    }
+
+    /**
+     * Render durations as a sparkline scaled between their minimum and maximum
+     */
+    private static String sparkline(List<Double> durations) {
+        double min = durations.stream().mapToDouble(Double::doubleValue).min().orElse(0);
+        double max = durations.stream().mapToDouble(Double::doubleValue).max().orElse(0);
+        StringBuilder line = new StringBuilder();
+        for (double duration : durations) {
+            int level = max > min ? (int) Math.round((duration - min) / (max - min) * (SPARK_LEVELS.length() - 1)) : 0;
+            line.append(SPARK_LEVELS.charAt(level));
+        }
+        return line.toString();
+    }
+}
@@ -0,0 +1,112 @@
+package com.insider.history;
+
+import com.insider.utils.ConfigManager;
+import org.testng.xml.XmlTest;
+
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Outcomes and durations of test steps over the recorded runs, as used to order and budget a run.
+ * The failure probability is the recency-weighted failure rate of the last history.baseline.runs
+ * outcomes, smoothed towards a prior so a step without history still gets a fair chance to run first.
+ */
+public class MethodHistory {
+    private static final double PRIOR_FAILURES = 0.5;
+    private static final double PRIOR_PASSES = 2.0;
+    private static final double RECENCY_DECAY = 0.7;
+
+    private final Map<String, List<Boolean>> failedByRun = new HashMap<>();
+    private final Map<String, List<Double>> passMillis = new HashMap<>();
+    private final Map<String, List<Double>> failMillis = new HashMap<>();
+
+    /**
+     * Constructor for MethodHistory
+     * @param records recorded timings, oldest run first
+     * @param runs number of latest runs considered per step
+     */
+    MethodHistory(List<TimingRecord> records, int runs) {
+        Map<String, Map<String, Boolean>> outcomes = new HashMap<>();
+        for (TimingRecord record : records) {
+            if (record.getKind() == TimingRecord.Kind.COMMAND) {
+                continue;
+            }
+            boolean failed = record.getKind() == TimingRecord.Kind.FAILURE;
+            outcomes.computeIfAbsent(record.getName(), name -> new LinkedHashMap<>()).merge(record.getRunId(), failed, Boolean::logicalOr);
+        }
+        outcomes.forEach((step, byRun) -> {
+            List<Boolean> failed = new ArrayList<>(byRun.values());
+            failedByRun.put(step, failed.subList(Math.max(0, failed.size() - runs), failed.size()));
+            passMillis.put(step, RunHistoryStore.lastRuns(records, TimingRecord.Kind.STEP, step, runs));
+            failMillis.put(step, RunHistoryStore.lastRuns(records, TimingRecord.Kind.FAILURE, step, runs));
+        });
+    }
+
+    /**
+     * Load the run history, empty when the history is disabled
+     * @param config configuration with the history file and the number of runs to consider
+     * @return method history
+     */
+    public static MethodHistory load(ConfigManager config) {
+        List<TimingRecord> records = config.isHistoryEnabled()
+                ? new RunHistoryStore(Paths.get(config.getHistoryFile())).load()
+                : List.of();
+        return new MethodHistory(records, config.getHistoryBaselineRuns());
+    }
+
+    /**
+     * Get the history step name of a test method, which carries the throttle profile of its matrix row
+     * @param test test element of the method, null for the configured profile
+     * @param method test method name
+     * @return step name as recorded by the timing history
+     */
+    public static String stepLabel(XmlTest test, String method) {
+        String profile = test != null && test.getParameter("throttleProfile") != null
+                ? test.getParameter("throttleProfile") : ConfigManager.getInstance().getThrottleProfile();
+        return "none".equals(profile) ? method : method + "@" + profile;
+    }
+
+    /**
+     * Get the expected duration of a step, the median of its passing runs or of its failures if it never passed
+     * @param step step name
+     * @return expected milliseconds, null if the step has no recorded runs
+     */
+    public Double expectedMillis(String step) {
+        List<Double> durations = passMillis.getOrDefault(step, List.of());
+        if (durations.isEmpty()) {
+            durations = failMillis.getOrDefault(step, List.of());
+        }
+        return durations.isEmpty() ? null : TimingBaseline.of(durations).getMedian();
+    }
+
+    /**
+     * Get the probability that a step fails in this run, the latest runs weigh the most
+     * @param step step name
+     * @return failure probability between 0 and 1
+     */
+    public double failureProbability(String step) {
+        List<Boolean> failed = failedByRun.getOrDefault(step, List.of());
+        double failures = PRIOR_FAILURES;
+        double total = PRIOR_FAILURES + PRIOR_PASSES;
+        double weight = 1.0;
+        for (int run = failed.size() - 1; run >= 0; run--) {
+            failures += failed.get(run) ? weight : 0;
+            total += weight;
+            weight *= RECENCY_DECAY;
+        }
+        return failures / total;
+    }
+
+    /**
+     * Get number of recorded runs of a step
+     * @param step step name
+     * @return runs within the considered history
+     */
+    public int runs(String step) {
+        return failedByRun.getOrDefault(step, List.of()).size();
+    }
+}
@@ -0,0 +1,102 @@
+package com.insider.history;
+
+import com.insider.utils.LoggerUtil;
+import org.apache.logging.log4j.Logger;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Append-only run history stored as one tab separated line per timing
+ */
+public class RunHistoryStore {
+    private static final Logger logger = LoggerUtil.getLogger(RunHistoryStore.class);
+
+    private final Path file;
+
+    /**
+     * Constructor for RunHistoryStore
+     * @param file history file
+     */
+    public RunHistoryStore(Path file) {
+        this.file = file;
+    }
+
+    /**
+     * Read all records, malformed lines are skipped
+     * @return records in the order they were appended
+     */
+    public List<TimingRecord> load() {
+        List<TimingRecord> records = new ArrayList<>();
+        if (!Files.exists(file)) {
+            return records;
+        }
+        try {
+            for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    records.add(TimingRecord.fromLine(line));
+                } catch (IllegalArgumentException e) {
+                    LoggerUtil.logWarning(logger, "Skipping history line: " + e.getMessage());
+                }
+            }
+        } catch (IOException e) {
+            LoggerUtil.logWarning(logger, "Could not read run history " + file + ": " + e.getMessage());
+        }
+        return records;
+    }
+
+    /**
+     * Get the durations of one step or command in the most recent runs, oldest first
+     * @param records history records
+     * @param kind step, failure or command
+     * @param name step or command name
+     * @param runs maximum number of runs
+     * @return durations of the last runs
+     */
+    public static List<Double> lastRuns(List<TimingRecord> records, TimingRecord.Kind kind, String name, int runs) {
+        Map<String, Double> byRun = new LinkedHashMap<>();
+        for (TimingRecord record : records) {
+            if (record.getKind() == kind && record.getName().equals(name)) {
+                byRun.put(record.getRunId(), record.getMillis());
+            }
+        }
+        List<Double> durations = new ArrayList<>(byRun.values());
+        return durations.subList(Math.max(0, durations.size() - runs), durations.size());
+    }
+
+    /**
+     * Append the records of a run
+     * @param records records to append
+     */
+    public void append(List<TimingRecord> records) {
+        if (records.isEmpty()) {
+            return;
+        }
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                for (TimingRecord record : records) {
+                    writer.write(record.toLine());
+                    writer.newLine();
+                }
+            }
+            LoggerUtil.logInfo(logger, "Appended " + records.size() + " timings to run history: " + file);
+        } catch (IOException e) {
+            LoggerUtil.logWarning(logger, "Could not append to run history " + file + ": " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.insider.history;
+
+import com.insider.utils.ConfigManager;
+import com.insider.utils.WebDriverFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects the step, failure and command timings of the current run until they are written to the run history
+ */
+public class RunTimings {
+
+    // Private constructor to prevent instantiation
+    private RunTimings() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    private static final Map<String, Double> steps = new ConcurrentHashMap<>();
+    private static final Map<String, Double> failures = new ConcurrentHashMap<>();
+    private static final Map<String, LongAdder[]> commands = new ConcurrentHashMap<>();
+
+    /**
+     * Record the duration of a page object command
+     * @param command command name
+     * @param startNanos System.nanoTime() when the command started
+     */
+    public static void recordCommand(String command, long startNanos) {
+        if (!ConfigManager.getInstance().isHistoryEnabled()) {
+            return;
+        }
+        LongAdder[] totals = commands.computeIfAbsent(label(command), key -> new LongAdder[] {new LongAdder(), new LongAdder()});
+        totals[0].add(System.nanoTime() - startNanos);
+        totals[1].increment();
+    }
+
+    /**
+     * Record the duration of a test step
+     * @param step step name
+     * @param millis step duration
+     */
+    public static void recordStep(String step, double millis) {
+        steps.put(label(step), millis);
+    }
+
+    /**
+     * Record a failed test step, which the history ordering uses to run recently failing steps first
+     * @param step step name
+     * @param millis time the step took to fail
+     */
+    public static void recordFailure(String step, double millis) {
+        failures.put(label(step), millis);
+    }
+
+    /**
+     * Get the history key of a step or command, runs under a throttle profile are kept apart
+     * @param name step or command name
+     * @return history key
+     */
+    public static String label(String name) {
+        String profile = WebDriverFactory.getThrottleProfile().getName();
+        return "none".equals(profile) ? name : name + "@" + profile;
+    }
+
+    /**
+     * Take the timings collected so far as history records and reset the collection
+     * @param runId identifier of the run
+     * @param timestamp run start as epoch milliseconds
+     * @return timing records
+     */
+    public static synchronized List<TimingRecord> drain(String runId, long timestamp) {
+        List<TimingRecord> records = new ArrayList<>();
+        steps.forEach((name, millis) -> records.add(new TimingRecord(runId, timestamp, TimingRecord.Kind.STEP, name, millis, 1)));
+        failures.forEach((name, millis) -> records.add(new TimingRecord(runId, timestamp, TimingRecord.Kind.FAILURE, name, millis, 1)));
+        commands.forEach((name, totals) -> {
+            long count = totals[1].sum();
+            if (count > 0) {
+                records.add(new TimingRecord(runId, timestamp, TimingRecord.Kind.COMMAND, name, totals[0].sum() / 1_000_000.0 / count, (int) count));
+            }
+        });
+        steps.clear();
+        failures.clear();
+        commands.clear();
+        return records;
+    }
+}
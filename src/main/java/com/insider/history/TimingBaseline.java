@@ -0,0 +1,66 @@
+package com.insider.history;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Robust baseline of a timing over previous runs: the median and the median absolute deviation
+ */
+@Getter
+public class TimingBaseline {
+
+    // Scales the median absolute deviation to a standard deviation for normally distributed timings
+    private static final double MAD_TO_SIGMA = 1.4826;
+    private static final double NOISE_SIGMAS = 3;
+
+    private final int runs;
+    private final double median;
+    private final double deviation;
+
+    private TimingBaseline(int runs, double median, double deviation) {
+        this.runs = runs;
+        this.median = median;
+        this.deviation = deviation;
+    }
+
+    /**
+     * Compute the baseline of previous durations
+     * @param durations durations of previous runs
+     * @return baseline
+     */
+    public static TimingBaseline of(List<Double> durations) {
+        double median = median(durations);
+        double deviation = median(durations.stream().map(duration -> Math.abs(duration - median)).toList()) * MAD_TO_SIGMA;
+        return new TimingBaseline(durations.size(), median, deviation);
+    }
+
+    /**
+     * Check whether a duration is slower than the baseline by more than the tolerance
+     * and by more than the run to run noise
+     * @param millis duration of the current run
+     * @param tolerancePercent allowed slowdown in percent of the median
+     * @return true if the duration is a regression
+     */
+    public boolean isRegression(double millis, int tolerancePercent) {
+        return millis > median * (1 + tolerancePercent / 100.0) && millis - median > NOISE_SIGMAS * deviation;
+    }
+
+    /**
+     * Get the change of a duration relative to the median
+     * @param millis duration of the current run
+     * @return change in percent
+     */
+    public double changePercent(double millis) {
+        return median > 0 ? (millis - median) * 100 / median : 0;
+    }
+
+    private static double median(List<Double> values) {
+        if (values.isEmpty()) {
+            return 0;
+        }
+        List<Double> sorted = values.stream().sorted().toList();
+        int middle = sorted.size() / 2;
+        return sorted.size() % 2 == 1 ? sorted.get(middle) : (sorted.get(middle - 1) + sorted.get(middle)) / 2;
+    }
+}
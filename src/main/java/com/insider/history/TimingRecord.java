@@ -0,0 +1,72 @@
+package com.insider.history;
+
+import lombok.Getter;
+
+import java.util.Locale;
+
+/**
+ * One timing of a run: a test step duration, the time a failing step took to fail or the mean duration
+ * of a page object command
+ */
+@Getter
+public class TimingRecord {
+
+    /**
+     * Kind of timed operation
+     */
+    public enum Kind {
+        STEP,
+        FAILURE,
+        COMMAND
+    }
+
+    private static final String SEPARATOR = "\t";
+
+    private final String runId;
+    private final long timestamp;
+    private final Kind kind;
+    private final String name;
+    private final double millis;
+    private final int count;
+
+    /**
+     * Constructor for TimingRecord
+     * @param runId identifier of the run
+     * @param timestamp run start as epoch milliseconds
+     * @param kind step, failure or command
+     * @param name step or command name, suffixed with the throttle profile if one was active
+     * @param millis duration, the mean duration for commands
+     * @param count number of timed invocations
+     */
+    public TimingRecord(String runId, long timestamp, Kind kind, String name, double millis, int count) {
+        this.runId = runId;
+        this.timestamp = timestamp;
+        this.kind = kind;
+        this.name = name;
+        this.millis = millis;
+        this.count = count;
+    }
+
+    /**
+     * Format the record as one tab separated history line
+     * @return history line
+     */
+    public String toLine() {
+        return String.join(SEPARATOR, runId, Long.toString(timestamp), kind.name(), name,
+                String.format(Locale.ROOT, "%.1f", millis), Integer.toString(count));
+    }
+
+    /**
+     * Parse a history line
+     * @param line tab separated history line
+     * @return timing record
+     */
+    public static TimingRecord fromLine(String line) {
+        String[] fields = line.split(SEPARATOR);
+        if (fields.length != 6) {
+            throw new IllegalArgumentException("Malformed history line: " + line);
+        }
+        return new TimingRecord(fields[0], Long.parseLong(fields[1]), Kind.valueOf(fields[2]), fields[3],
+                Double.parseDouble(fields[4]), Integer.parseInt(fields[5]));
+    }
+}
@@ -0,0 +1,68 @@
+package com.insider.jobs;
+
+import lombok.Getter;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A single job posting as extracted from the job listing
+ */
+@Getter
+public class JobPosting {
+
+    private final String url;
+    private final String position;
+    private final String department;
+    private final String location;
+
+    /**
+     * Constructor for JobPosting
+     * @param url posting URL, empty when the card has no link
+     * @param position position title
+     * @param department department
+     * @param location location
+     */
+    public JobPosting(String url, String position, String department, String location) {
+        this.url = Objects.requireNonNullElse(url, "");
+        this.position = Objects.requireNonNullElse(position, "");
+        this.department = Objects.requireNonNullElse(department, "");
+        this.location = Objects.requireNonNullElse(location, "");
+    }
+
+    /**
+     * Get identity of the posting across runs, the posting URL or the position and location without one
+     * @return snapshot key
+     */
+    public String getKey() {
+        return url.isEmpty() ? position + " | " + location : url;
+    }
+
+    /**
+     * Check if the posting has the same content as another posting of the same key
+     * @param other posting to compare with
+     * @return true if position, department and location are equal
+     */
+    public boolean hasSameContent(JobPosting other) {
+        return position.equals(other.position) && department.equals(other.department) && location.equals(other.location);
+    }
+
+    /**
+     * Get posting as a JSON friendly map
+     * @return posting fields
+     */
+    public Map<String, Object> toMap() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("url", url);
+        map.put("position", position);
+        map.put("department", department);
+        map.put("location", location);
+        return map;
+    }
+
+    @Override
+    public String toString() {
+        return position + " (" + department + ", " + location + ")" + (url.isEmpty() ? "" : " " + url);
+    }
+}
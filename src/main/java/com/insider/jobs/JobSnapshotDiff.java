@@ -0,0 +1,77 @@
+package com.insider.jobs;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Postings that appeared, disappeared or changed between the previous and the current snapshot of a filter combination
+ */
+@Getter
+public class JobSnapshotDiff {
+
+    /**
+     * A posting whose key stayed the same while its content changed
+     * @param before posting in the previous snapshot
+     * @param after posting in the current snapshot
+     */
+    public record Change(JobPosting before, JobPosting after) {
+    }
+
+    private final String filterKey;
+    private final boolean firstSnapshot;
+    private final int previousCount;
+    private final int currentCount;
+    private final List<JobPosting> added = new ArrayList<>();
+    private final List<JobPosting> removed = new ArrayList<>();
+    private final List<Change> changed = new ArrayList<>();
+
+    /**
+     * Constructor for JobSnapshotDiff
+     * @param filterKey filter combination of the snapshots
+     * @param firstSnapshot true if there was no previous snapshot to compare with
+     * @param previousCount postings in the previous snapshot
+     * @param currentCount postings in the current snapshot
+     */
+    JobSnapshotDiff(String filterKey, boolean firstSnapshot, int previousCount, int currentCount) {
+        this.filterKey = filterKey;
+        this.firstSnapshot = firstSnapshot;
+        this.previousCount = previousCount;
+        this.currentCount = currentCount;
+    }
+
+    /**
+     * Check if any posting appeared, disappeared or changed
+     * @return true if the snapshots differ
+     */
+    public boolean hasChanges() {
+        return !added.isEmpty() || !removed.isEmpty() || !changed.isEmpty();
+    }
+
+    /**
+     * Get diff as a JSON friendly map
+     * @return filter key, counts and the differing postings
+     */
+    public Map<String, Object> toMap() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("filter", filterKey);
+        map.put("firstSnapshot", firstSnapshot);
+        map.put("previousCount", previousCount);
+        map.put("currentCount", currentCount);
+        map.put("added", added.stream().map(JobPosting::toMap).toList());
+        map.put("removed", removed.stream().map(JobPosting::toMap).toList());
+        map.put("changed", changed.stream().map(change -> Map.of("before", change.before().toMap(), "after", change.after().toMap())).toList());
+        return map;
+    }
+
+    @Override
+    public String toString() {
+        return firstSnapshot
+                ? "first snapshot of " + filterKey + " with " + currentCount + " postings"
+                : "%s: %d added, %d removed, %d changed (%d -> %d postings)".formatted(
+                        filterKey, added.size(), removed.size(), changed.size(), previousCount, currentCount);
+    }
+}
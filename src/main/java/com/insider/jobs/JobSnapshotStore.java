@@ -0,0 +1,170 @@
+package com.insider.jobs;
+
+import com.insider.utils.LoggerUtil;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.json.Json;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Snapshots of the job listing, one gzip-compressed file per filter combination with the postings sorted
+ * by key. Recording a snapshot merges the sorted current postings with the previous snapshot as it is
+ * read from disk, so the diff is linear in the number of postings and only one snapshot is ever held
+ * in memory, however many filter combinations the store keeps.
+ */
+public class JobSnapshotStore {
+    private static final Logger logger = LoggerUtil.getLogger(JobSnapshotStore.class);
+    private static final int MAGIC = 0x494a4f42;
+    private static final int VERSION = 1;
+    private static final String SNAPSHOT_SUFFIX = ".jobs.gz";
+    private static final String DIFF_SUFFIX = ".diff.json";
+
+    private final Path directory;
+
+    /**
+     * Constructor for JobSnapshotStore
+     * @param directory directory holding the snapshots
+     */
+    public JobSnapshotStore(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Replace the snapshot of a filter combination with the current postings and diff it with the previous one.
+     * The diff is also written next to the snapshot.
+     * @param filterKey filter combination, such as location and department
+     * @param postings postings currently listed, in any order
+     * @return postings added, removed and changed since the previous snapshot
+     * @throws IOException if the snapshot cannot be written
+     */
+    public JobSnapshotDiff record(String filterKey, List<JobPosting> postings) throws IOException {
+        List<JobPosting> current = sortedUnique(postings);
+        Path snapshotFile = snapshotFile(filterKey);
+        Files.createDirectories(directory);
+
+        JobSnapshotDiff diff;
+        if (Files.exists(snapshotFile)) {
+            try {
+                diff = diff(filterKey, snapshotFile, current);
+            } catch (IOException e) {
+                LoggerUtil.logWarning(logger, "Could not read job snapshot " + snapshotFile + ", starting over: " + e.getMessage());
+                diff = new JobSnapshotDiff(filterKey, true, 0, current.size());
+            }
+        } else {
+            diff = new JobSnapshotDiff(filterKey, true, 0, current.size());
+        }
+
+        Path temporary = Files.createTempFile(directory, "snapshot", ".tmp");
+        try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(new GZIPOutputStream(Files.newOutputStream(temporary))))) {
+            output.writeInt(MAGIC);
+            output.writeInt(VERSION);
+            output.writeInt(current.size());
+            for (JobPosting posting : current) {
+                writePosting(output, posting);
+            }
+        }
+        Files.move(temporary, snapshotFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        Files.writeString(directory.resolve(baseName(filterKey) + DIFF_SUFFIX), new Json().toJson(diff.toMap()));
+        return diff;
+    }
+
+    /**
+     * Get snapshot file of a filter combination
+     * @param filterKey filter combination
+     * @return readable name with a hash of the full key, so distinct combinations never share a file
+     */
+    public Path snapshotFile(String filterKey) {
+        return directory.resolve(baseName(filterKey) + SNAPSHOT_SUFFIX);
+    }
+
+    /**
+     * Walk the previous snapshot and the current postings in key order at the same time
+     */
+    private static JobSnapshotDiff diff(String filterKey, Path snapshotFile, List<JobPosting> current) throws IOException {
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(new GZIPInputStream(Files.newInputStream(snapshotFile))))) {
+            if (input.readInt() != MAGIC || input.readInt() != VERSION) {
+                throw new IOException("Unsupported job snapshot format");
+            }
+            int previousCount = input.readInt();
+            JobSnapshotDiff diff = new JobSnapshotDiff(filterKey, false, previousCount, current.size());
+
+            int read = 0;
+            JobPosting previous = previousCount > 0 ? readPosting(input) : null;
+            int index = 0;
+            while (previous != null || index < current.size()) {
+                JobPosting next = index < current.size() ? current.get(index) : null;
+                int order = previous == null ? 1 : next == null ? -1 : previous.getKey().compareTo(next.getKey());
+                if (order < 0) {
+                    diff.getRemoved().add(previous);
+                } else if (order > 0) {
+                    diff.getAdded().add(next);
+                    index++;
+                    continue;
+                } else {
+                    if (!previous.hasSameContent(next)) {
+                        diff.getChanged().add(new JobSnapshotDiff.Change(previous, next));
+                    }
+                    index++;
+                }
+                read++;
+                previous = read < previousCount ? readPosting(input) : null;
+            }
+            return diff;
+        }
+    }
+
+    /**
+     * Sort postings by key and keep the first posting of a key listed more than once
+     */
+    private static List<JobPosting> sortedUnique(List<JobPosting> postings) {
+        List<JobPosting> sorted = new ArrayList<>(postings);
+        sorted.sort(Comparator.comparing(JobPosting::getKey));
+        List<JobPosting> unique = new ArrayList<>(sorted.size());
+        for (JobPosting posting : sorted) {
+            if (!unique.isEmpty() && unique.get(unique.size() - 1).getKey().equals(posting.getKey())) {
+                logger.debug("Duplicate job posting ignored: {}", posting);
+                continue;
+            }
+            unique.add(posting);
+        }
+        return unique;
+    }
+
+    private static void writePosting(DataOutputStream output, JobPosting posting) throws IOException {
+        output.writeUTF(posting.getUrl());
+        output.writeUTF(posting.getPosition());
+        output.writeUTF(posting.getDepartment());
+        output.writeUTF(posting.getLocation());
+    }
+
+    private static JobPosting readPosting(DataInputStream input) throws IOException {
+        return new JobPosting(input.readUTF(), input.readUTF(), input.readUTF(), input.readUTF());
+    }
+
+    private static String baseName(String filterKey) {
+        String slug = filterKey.toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9]+", "-").replaceAll("(^-|-$)", "");
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(filterKey.getBytes(StandardCharsets.UTF_8));
+            return slug + "-" + HexFormat.of().formatHex(digest).substring(0, 8);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.insider.listeners;
+
+import com.insider.exceptions.CareersPageException;
+import com.insider.exceptions.ElementException;
+import com.insider.exceptions.HomePageException;
+import com.insider.exceptions.PerformanceBudgetException;
+import com.insider.exceptions.QACareersPageException;
+import com.insider.exceptions.TimingRegressionException;
+import com.insider.exceptions.WebDriverFactoryException;
+import org.openqa.selenium.ElementClickInterceptedException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Classifies test failures into transient and deterministic categories
+ * based on the metadata carried by the custom exceptions
+ */
+public final class FailureClassifier {
+
+    /**
+     * Failure category used to decide whether a retry can help
+     */
+    public enum FailureCategory {
+        TRANSIENT,
+        DETERMINISTIC,
+        PERFORMANCE_BUDGET,
+        TIMING_REGRESSION
+    }
+
+    /**
+     * Result of a classification together with the reason it was chosen
+     * @param category failure category
+     * @param reason human readable reason for reporting
+     */
+    public record Classification(FailureCategory category, String reason) {
+
+        public boolean isTransient() {
+            return category == FailureCategory.TRANSIENT;
+        }
+    }
+
+    private static final Set<String> TRANSIENT_ELEMENT_OPERATIONS = Set.of(
+            "CLICK", "JS_CLICK", "GET_TEXT", "WAIT_VISIBLE", "WAIT_CLICKABLE", "SCROLL", "HOVER", "PAGE_LOAD", "SNAPSHOT");
+    private static final String NAVIGATION_OPERATION = "NAVIGATION";
+    private static final int MAX_CAUSE_DEPTH = 20;
+
+    // Private constructor to prevent instantiation
+    private FailureClassifier() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Classify a failure by walking its cause chain
+     * @param throwable failure thrown by the test method
+     * @return classification with category and reason
+     */
+    public static Classification classify(Throwable throwable) {
+        if (throwable == null) {
+            return new Classification(FailureCategory.DETERMINISTIC, "No failure information");
+        }
+
+        Classification metadataMatch = null;
+        Map<Throwable, Boolean> visited = new IdentityHashMap<>();
+        Throwable current = throwable;
+        int depth = 0;
+
+        while (current != null && depth < MAX_CAUSE_DEPTH && visited.put(current, Boolean.TRUE) == null) {
+            if (current instanceof PerformanceBudgetException e) {
+                return new Classification(FailureCategory.PERFORMANCE_BUDGET, "Budget breached on " + e.getPageName() + ": " + e.getBreaches());
+            }
+            if (current instanceof TimingRegressionException e) {
+                return new Classification(FailureCategory.TIMING_REGRESSION, "Timing regression of " + e.getStepName());
+            }
+            if (current instanceof AssertionError && current.getCause() == null) {
+                return new Classification(FailureCategory.DETERMINISTIC, "Assertion mismatch: " + current.getMessage());
+            }
+            if (isTransientDriverException(current)) {
+                return new Classification(FailureCategory.TRANSIENT, current.getClass().getSimpleName() + describe(metadataMatch));
+            }
+            if (metadataMatch == null) {
+                metadataMatch = classifyMetadata(current);
+            }
+            current = current.getCause();
+            depth++;
+        }
+
+        if (metadataMatch != null) {
+            return metadataMatch;
+        }
+        return new Classification(FailureCategory.DETERMINISTIC, "Unclassified failure: " + throwable.getClass().getSimpleName());
+    }
+
+    /**
+     * Check whether a Selenium exception is known to be timing related
+     * @param throwable exception to check
+     * @return true if the exception is transient by nature
+     */
+    private static boolean isTransientDriverException(Throwable throwable) {
+        return throwable instanceof TimeoutException
+                || throwable instanceof StaleElementReferenceException
+                || throwable instanceof ElementClickInterceptedException;
+    }
+
+    /**
+     * Classify a custom exception from its operation and element fields
+     * @param throwable exception to inspect
+     * @return transient classification if the metadata points to a timing operation, null otherwise
+     */
+    private static Classification classifyMetadata(Throwable throwable) {
+        if (throwable instanceof ElementException e && TRANSIENT_ELEMENT_OPERATIONS.contains(e.getOperation())) {
+            return transientOf(e.getOperation(), e.getElementName());
+        }
+        if (throwable instanceof HomePageException e && NAVIGATION_OPERATION.equalsIgnoreCase(e.getOperation())) {
+            return transientOf(e.getOperation(), e.getElementName());
+        }
+        if (throwable instanceof QACareersPageException e && NAVIGATION_OPERATION.equalsIgnoreCase(e.getOperation())) {
+            return transientOf(e.getOperation(), e.getElementName());
+        }
+        if (throwable instanceof WebDriverFactoryException e && NAVIGATION_OPERATION.equalsIgnoreCase(e.getOperation())) {
+            return transientOf(e.getOperation(), e.getBrowser());
+        }
+        if (throwable instanceof CareersPageException e && "Page Load".equalsIgnoreCase(e.getPageSection())) {
+            return transientOf(e.getVerificationType(), e.getPageSection());
+        }
+        return null;
+    }
+
+    private static Classification transientOf(String operation, String elementName) {
+        return new Classification(FailureCategory.TRANSIENT, "Operation: %s, Element: %s".formatted(operation, elementName));
+    }
+
+    private static String describe(Classification metadataMatch) {
+        return metadataMatch != null ? " (" + metadataMatch.reason() + ")" : "";
+    }
+}
@@ -0,0 +1,36 @@
+package com.insider.listeners;
+
+import com.insider.utils.ConfigManager;
+import com.insider.utils.FailureContext;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ITestResult;
+import org.testng.Reporter;
+
+/**
+ * TestNG listener that adds the failed test to the failure bundle of its root cause, capturing one
+ * when the failure did not pass through a page object, and links the bundle from the test result
+ */
+public class FailureContextListener implements IInvokedMethodListener {
+
+    @Override
+    public void beforeInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (method.isTestMethod()) {
+            FailureContext.current().reset();
+        }
+    }
+
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (!method.isTestMethod() || testResult.getStatus() != ITestResult.FAILURE || testResult.getThrowable() == null
+                || !ConfigManager.getInstance().isFailureContextEnabled()) {
+            return;
+        }
+        FailureContext context = FailureContext.current();
+        context.capture(testResult.getThrowable(), testResult.getMethod().getMethodName());
+        context.bundleFor(testResult.getThrowable()).ifPresent(bundle -> {
+            testResult.setAttribute("failure.bundle", bundle.toString());
+            Reporter.log("Failure bundle: " + bundle, false);
+        });
+    }
+}
@@ -0,0 +1,33 @@
+package com.insider.listeners;
+
+import com.insider.utils.ConfigManager;
+import com.insider.utils.HarRecorder;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ITestResult;
+import org.testng.Reporter;
+
+/**
+ * TestNG listener that captures one HAR file per test step when har.enabled is set
+ */
+public class HarCaptureListener implements IInvokedMethodListener {
+
+    @Override
+    public void beforeInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (method.isTestMethod() && ConfigManager.getInstance().isHarEnabled()) {
+            HarRecorder.current().beginStep(testResult.getMethod().getMethodName());
+        }
+    }
+
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (!method.isTestMethod() || !ConfigManager.getInstance().isHarEnabled()) {
+            return;
+        }
+        HarRecorder.current().endStep().ifPresent(summary -> {
+            testResult.setAttribute("har.summary", summary);
+            Reporter.log("HAR: " + summary.getOrDefault("harFile", "not written") + " - " + summary.get("requests")
+                    + " requests, network busy " + summary.get("networkBusyMs") + "ms of " + summary.get("stepDurationMs") + "ms", false);
+        });
+    }
+}
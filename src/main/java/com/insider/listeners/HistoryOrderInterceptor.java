@@ -0,0 +1,160 @@
+package com.insider.listeners;
+
+import com.insider.events.ResultEventStream;
+import com.insider.execution.TestSchedule;
+import com.insider.history.MethodHistory;
+import com.insider.history.TimingBaseline;
+import com.insider.utils.ConfigManager;
+import com.insider.utils.LoggerUtil;
+import org.apache.logging.log4j.Logger;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.IMethodInstance;
+import org.testng.IMethodInterceptor;
+import org.testng.ISuite;
+import org.testng.ITestContext;
+import org.testng.ITestResult;
+import org.testng.ITestNGMethod;
+import org.testng.Reporter;
+import org.testng.SkipException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * TestNG method interceptor that orders test methods by their run history instead of their priority:
+ * methods that failed recently and run fast go first, and methods whose dependencies already ran are
+ * interleaved with the rest. With run.budget.seconds set, only the methods with the highest expected
+ * value that fit the budget run, selected once for the whole suite; the others are ordered last and
+ * reported as skipped with the budget as the reason.
+ */
+public class HistoryOrderInterceptor implements IMethodInterceptor, IInvokedMethodListener {
+    private static final Logger logger = LoggerUtil.getLogger(HistoryOrderInterceptor.class);
+    private static final double UNKNOWN_METHOD_MILLIS = 60_000;
+
+    private final ConfigManager config = ConfigManager.getInstance();
+    private final Map<String, Set<String>> budgetSelections = new ConcurrentHashMap<>();
+    private final Set<String> deferredMethods = ConcurrentHashMap.newKeySet();
+    private MethodHistory history;
+
+    @Override
+    public List<IMethodInstance> intercept(List<IMethodInstance> methods, ITestContext context) {
+        if (!config.isHistoryOrderEnabled() && config.getRunBudgetSeconds() <= 0) {
+            return methods;
+        }
+        Map<String, TestSchedule.Candidate> candidates = candidates(methods.stream().map(IMethodInstance::getMethod).toList());
+        Map<String, IMethodInstance> byKey = new LinkedHashMap<>();
+        methods.forEach(method -> byKey.put(key(method.getMethod()), method));
+
+        List<String> keys = new ArrayList<>(byKey.keySet());
+        List<String> deferred = new ArrayList<>();
+        if (config.getRunBudgetSeconds() > 0) {
+            Set<String> selected = budgetSelection(context.getSuite());
+            deferred.addAll(keys.stream().filter(key -> !selected.contains(key)).toList());
+            keys.removeAll(deferred);
+            if (!deferred.isEmpty()) {
+                deferredMethods.addAll(deferred);
+                String message = "Deferred by the %ds run budget, reported as skipped: %s".formatted(config.getRunBudgetSeconds(), deferred);
+                LoggerUtil.logWarning(logger, message);
+                Reporter.log(message, false);
+            }
+        }
+        if (config.isHistoryOrderEnabled()) {
+            keys = TestSchedule.order(keys.stream().map(candidates::get).toList());
+            deferred = TestSchedule.order(deferred.stream().map(candidates::get).toList());
+        }
+        // Deferred methods stay in the run, last, so they are reported as skipped instead of disappearing
+        keys = new ArrayList<>(keys);
+        keys.addAll(deferred);
+
+        LoggerUtil.logInfo(logger, "Run order of '" + context.getName() + "':");
+        keys.forEach(key -> LoggerUtil.logInfo(logger, "  %-70s %5.1f%% failure, %8.0fms expected".formatted(
+                key, candidates.get(key).failureProbability() * 100, candidates.get(key).expectedMillis())));
+        return keys.stream().map(byKey::get).toList();
+    }
+
+    @Override
+    public void beforeInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (method.isTestMethod() && deferredMethods.contains(key(method.getTestMethod()))) {
+            throw new SkipException("Deferred by the %ds run budget (run.budget.seconds)".formatted(config.getRunBudgetSeconds()));
+        }
+    }
+
+    /**
+     * Select the methods of the whole suite that fit the budget, computed once per suite
+     */
+    private Set<String> budgetSelection(ISuite suite) {
+        return budgetSelections.computeIfAbsent(suite.getName(), name -> {
+            Map<String, TestSchedule.Candidate> candidates = candidates(suite.getAllMethods());
+            double budgetMillis = config.getRunBudgetSeconds() * 1000.0;
+            Set<String> selected = TestSchedule.selectWithinBudget(new ArrayList<>(candidates.values()), budgetMillis);
+            double expectedMillis = selected.stream().mapToDouble(key -> candidates.get(key).expectedMillis()).sum();
+            double value = selected.stream().mapToDouble(key -> candidates.get(key).failureProbability()).sum();
+            double totalValue = candidates.values().stream().mapToDouble(TestSchedule.Candidate::failureProbability).sum();
+            LoggerUtil.logInfo(logger, "Run budget %ds: %d of %d methods, %.0fms expected, %.0f%% of the expected failures covered".formatted(
+                    config.getRunBudgetSeconds(), selected.size(), candidates.size(), expectedMillis,
+                    totalValue == 0 ? 100 : value / totalValue * 100));
+            ResultEventStream.getInstance().emit("budget.plan", Map.of("budgetMillis", budgetMillis, "expectedMillis", expectedMillis,
+                    "selected", List.copyOf(selected),
+                    "deferred", candidates.keySet().stream().filter(key -> !selected.contains(key)).toList()));
+            return selected;
+        });
+    }
+
+    /**
+     * Build the schedule candidates of test methods from the run history
+     */
+    private Map<String, TestSchedule.Candidate> candidates(List<ITestNGMethod> methods) {
+        MethodHistory methodHistory = history();
+        Map<String, Double> knownMillis = new LinkedHashMap<>();
+        methods.forEach(method -> {
+            Double expected = methodHistory.expectedMillis(MethodHistory.stepLabel(method.getXmlTest(), method.getMethodName()));
+            if (expected != null) {
+                knownMillis.put(key(method), expected);
+            }
+        });
+        double unknownMillis = knownMillis.isEmpty() ? UNKNOWN_METHOD_MILLIS
+                : TimingBaseline.of(new ArrayList<>(knownMillis.values())).getMedian();
+
+        Map<String, TestSchedule.Candidate> candidates = new LinkedHashMap<>();
+        for (ITestNGMethod method : methods) {
+            String key = key(method);
+            String step = MethodHistory.stepLabel(method.getXmlTest(), method.getMethodName());
+            double expectedMillis = Math.max(1, knownMillis.getOrDefault(key, unknownMillis));
+            candidates.put(key, new TestSchedule.Candidate(key, expectedMillis, methodHistory.failureProbability(step), prerequisites(method)));
+        }
+        return candidates;
+    }
+
+    private synchronized MethodHistory history() {
+        if (history == null) {
+            history = MethodHistory.load(config);
+        }
+        return history;
+    }
+
+    /**
+     * Get keys of the methods a method depends on within its test element
+     */
+    private static Set<String> prerequisites(ITestNGMethod method) {
+        String test = method.getXmlTest() == null ? "" : method.getXmlTest().getName();
+        return Arrays.stream(method.getMethodsDependedUpon())
+                .filter(Objects::nonNull)
+                .filter(dependency -> dependency.lastIndexOf('.') > 0)
+                .map(dependency -> test + "/" + dependency.substring(0, dependency.lastIndexOf('.')) + "#"
+                        + dependency.substring(dependency.lastIndexOf('.') + 1))
+                .collect(Collectors.toSet());
+    }
+
+    private static String key(ITestNGMethod method) {
+        String test = method.getXmlTest() == null ? "" : method.getXmlTest().getName();
+        return test + "/" + method.getRealClass().getName() + "#" + method.getMethodName();
+    }
+}
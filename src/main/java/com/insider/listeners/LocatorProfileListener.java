@@ -0,0 +1,55 @@
+package com.insider.listeners;
+
+import com.insider.utils.ConfigManager;
+import com.insider.utils.LocatorRegistry;
+import com.insider.utils.LoggerUtil;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.json.Json;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * TestNG listener that logs the most expensive locators of the suite and writes the full
+ * lookup profile of the locator registry when the suite finishes
+ */
+public class LocatorProfileListener implements ISuiteListener {
+    private static final Logger logger = LoggerUtil.getLogger(LocatorProfileListener.class);
+
+    private final ConfigManager config = ConfigManager.getInstance();
+
+    @Override
+    public void onFinish(ISuite suite) {
+        if (!config.isLocatorProfileEnabled()) {
+            return;
+        }
+        List<Map<String, Object>> profile = LocatorRegistry.getInstance().profile();
+        if (profile.isEmpty()) {
+            return;
+        }
+        LoggerUtil.logInfo(logger, "Most expensive locators of suite '" + suite.getName() + "':");
+        profile.stream().limit(config.getLocatorProfileTop()).forEach(entry ->
+                LoggerUtil.logInfo(logger, "%-5s %8.1fms total %7.1fms mean %5d lookups %4d misses  %s".formatted(
+                        entry.get("strategy"), entry.get("totalMs"), entry.get("meanMs"),
+                        entry.get("lookups"), entry.get("misses"), entry.get("locator"))));
+
+        try {
+            Path profileDir = Paths.get(config.getLocatorProfileDir());
+            Files.createDirectories(profileDir);
+            String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"));
+            Path profileFile = profileDir.resolve("locator_profile_" + timestamp + ".json");
+            Files.writeString(profileFile, new Json().toJson(profile));
+            LoggerUtil.logInfo(logger, "Locator profile saved: " + profileFile);
+        } catch (IOException e) {
+            LoggerUtil.logError(logger, "Failed to write locator profile", e);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.insider.listeners;
+
+import com.insider.utils.ConfigManager;
+import com.insider.utils.MemorySampler;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ITestResult;
+
+/**
+ * TestNG listener that reports browser memory and DOM growth per test step when memory.enabled is set
+ */
+public class MemoryMonitorListener implements IInvokedMethodListener {
+
+    @Override
+    public void beforeInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (method.isTestMethod() && ConfigManager.getInstance().isMemoryMonitorEnabled()) {
+            MemorySampler.current().beginStep(testResult.getMethod().getMethodName());
+        }
+    }
+
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (method.isTestMethod() && ConfigManager.getInstance().isMemoryMonitorEnabled()) {
+            MemorySampler.current().endStep().ifPresent(summary -> testResult.setAttribute("memory.summary", summary));
+        }
+    }
+}
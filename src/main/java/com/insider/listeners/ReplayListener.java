@@ -0,0 +1,21 @@
+package com.insider.listeners;
+
+import com.insider.replay.ReplayServer;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+
+/**
+ * TestNG listener that runs the record and replay fixture server for the duration of a suite
+ */
+public class ReplayListener implements ISuiteListener {
+
+    @Override
+    public void onStart(ISuite suite) {
+        ReplayServer.start();
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        ReplayServer.stop();
+    }
+}
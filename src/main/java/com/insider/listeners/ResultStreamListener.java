@@ -0,0 +1,151 @@
+package com.insider.listeners;
+
+import com.insider.driver.DriverTier;
+import com.insider.events.ResultEventStream;
+import com.insider.utils.LoggerUtil;
+import com.insider.utils.WebDriverFactory;
+import org.openqa.selenium.WebDriver;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestContext;
+import org.testng.ITestResult;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+/**
+ * TestNG listener that streams suite, test and configuration events to the result event stream as
+ * they happen: test start and end with status and duration, and failures with their exception fields
+ * and failure bundle. Steps and assertions logged through LoggerUtil and the start of every driver
+ * are emitted from here as well; page object commands are emitted where they happen. Events inside
+ * a test carry the id of the running test.
+ */
+public class ResultStreamListener implements ISuiteListener, IInvokedMethodListener {
+    private static final int STACK_FRAMES = 8;
+    private static final long FLUSH_TIMEOUT_MILLIS = 5000;
+
+    private final ResultEventStream events = ResultEventStream.getInstance();
+    private final Set<WebDriver> reportedDrivers = Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+    private long suiteStartedAt;
+
+    @Override
+    public void onStart(ISuite suite) {
+        suiteStartedAt = System.currentTimeMillis();
+        LoggerUtil.setStepObserver((type, description) -> events.emit(type, Map.of("description", description)));
+        events.emit("suite.start", Map.of("suite", suite.getName(), "methods", suite.getAllMethods().size()));
+    }
+
+    @Override
+    public void beforeInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (!method.isTestMethod()) {
+            return;
+        }
+        ResultEventStream.setCurrentTest(testId(testResult));
+        events.emit("test.start", testFields(testResult));
+    }
+
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
+        emitDriverStart();
+        if (method.isConfigurationMethod() && testResult.getStatus() == ITestResult.FAILURE) {
+            Map<String, Object> fields = testFields(testResult);
+            fields.putAll(exceptionFields(testResult.getThrowable()));
+            events.emit("config.failure", fields);
+            return;
+        }
+        if (!method.isTestMethod()) {
+            return;
+        }
+        Map<String, Object> fields = testFields(testResult);
+        fields.put("status", status(testResult));
+        fields.put("millis", testResult.getEndMillis() - testResult.getStartMillis());
+        fields.put("retried", testResult.wasRetried());
+        if (testResult.getAttribute("failure.bundle") != null) {
+            fields.put("failureBundle", testResult.getAttribute("failure.bundle").toString());
+        }
+        if (testResult.getStatus() == ITestResult.FAILURE && testResult.getThrowable() != null) {
+            Map<String, Object> failure = new LinkedHashMap<>(fields);
+            failure.putAll(exceptionFields(testResult.getThrowable()));
+            events.emit("test.failure", failure);
+        }
+        events.emit("test.end", fields);
+        ResultEventStream.setCurrentTest(null);
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        int passed = 0;
+        int failed = 0;
+        int skipped = 0;
+        for (var suiteResult : suite.getResults().values()) {
+            ITestContext context = suiteResult.getTestContext();
+            passed += context.getPassedTests().size();
+            failed += context.getFailedTests().size();
+            skipped += context.getSkippedTests().size();
+        }
+        events.emit("suite.end", Map.of("suite", suite.getName(), "passed", passed, "failed", failed, "skipped", skipped,
+                "millis", System.currentTimeMillis() - suiteStartedAt));
+        events.flush(FLUSH_TIMEOUT_MILLIS);
+    }
+
+    /**
+     * Emit driver.start once for the driver of the current thread, drivers are started by setup methods
+     */
+    private void emitDriverStart() {
+        if (!WebDriverFactory.isDriverInitialized() || !reportedDrivers.add(WebDriverFactory.getDriver())) {
+            return;
+        }
+        Map<String, Object> fields = new LinkedHashMap<>();
+        fields.put("tier", WebDriverFactory.getTier().name());
+        if (WebDriverFactory.getTier() == DriverTier.BROWSER) {
+            fields.put("throttleProfile", WebDriverFactory.getThrottleProfile().getName());
+            fields.put("startupMillis", new LinkedHashMap<>(WebDriverFactory.getStartupBreakdown()));
+        }
+        events.emit("driver.start", fields);
+    }
+
+    private static String testId(ITestResult testResult) {
+        return testResult.getTestContext().getName() + "/" + testResult.getTestClass().getName() + "#" + testResult.getMethod().getMethodName();
+    }
+
+    private static Map<String, Object> testFields(ITestResult testResult) {
+        Map<String, Object> fields = new LinkedHashMap<>();
+        fields.put("test", testResult.getTestContext().getName());
+        fields.put("class", testResult.getTestClass().getName());
+        fields.put("method", testResult.getMethod().getMethodName());
+        return fields;
+    }
+
+    private static String status(ITestResult testResult) {
+        return switch (testResult.getStatus()) {
+            case ITestResult.SUCCESS -> "PASS";
+            case ITestResult.FAILURE -> "FAIL";
+            default -> "SKIP";
+        };
+    }
+
+    private static Map<String, Object> exceptionFields(Throwable failure) {
+        Map<String, Object> fields = new LinkedHashMap<>();
+        if (failure == null) {
+            return fields;
+        }
+        Throwable rootCause = failure;
+        while (rootCause.getCause() != null && rootCause.getCause() != rootCause) {
+            rootCause = rootCause.getCause();
+        }
+        fields.put("exception", failure.getClass().getName());
+        fields.put("message", String.valueOf(failure.getMessage()));
+        fields.put("rootCause", rootCause.getClass().getName());
+        fields.put("rootCauseMessage", String.valueOf(rootCause.getMessage()));
+        List<String> frames = Arrays.stream(rootCause.getStackTrace()).limit(STACK_FRAMES).map(StackTraceElement::toString).toList();
+        fields.put("stack", frames);
+        return fields;
+    }
+}
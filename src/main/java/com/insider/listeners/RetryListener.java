@@ -0,0 +1,46 @@
+package com.insider.listeners;
+
+import com.insider.utils.LoggerUtil;
+import org.apache.logging.log4j.Logger;
+import org.testng.IAnnotationTransformer;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.annotations.ITestAnnotation;
+import org.testng.internal.annotations.DisabledRetryAnalyzer;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.List;
+
+/**
+ * TestNG listener that attaches the transient retry analyzer to every test method
+ * and reports the retries performed at the end of the suite
+ */
+public class RetryListener implements IAnnotationTransformer, ISuiteListener {
+    private static final Logger logger = LoggerUtil.getLogger(RetryListener.class);
+
+    /**
+     * Attach retry analyzer to test methods that do not declare their own
+     */
+    @Override
+    @SuppressWarnings("rawtypes")
+    public void transform(ITestAnnotation annotation, Class testClass, Constructor testConstructor, Method testMethod) {
+        if (annotation.getRetryAnalyzerClass() == null
+                || annotation.getRetryAnalyzerClass() == DisabledRetryAnalyzer.class) {
+            annotation.setRetryAnalyzer(TransientRetryAnalyzer.class);
+        }
+    }
+
+    @Override
+    public void onStart(ISuite suite) {
+        TransientRetryAnalyzer.resetSuiteBudget(suite.getName());
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        List<String> retries = TransientRetryAnalyzer.getRetryLog(suite.getName());
+        LoggerUtil.logInfo(logger, "Suite '" + suite.getName() + "' performed " + retries.size()
+                + " retries, remaining budget: " + TransientRetryAnalyzer.getRemainingBudget(suite.getName()));
+        retries.forEach(entry -> LoggerUtil.logInfo(logger, entry));
+    }
+}
@@ -0,0 +1,218 @@
+package com.insider.listeners;
+
+import com.insider.execution.ShardPlan;
+import com.insider.history.MethodHistory;
+import com.insider.history.TimingBaseline;
+import com.insider.utils.ConfigManager;
+import com.insider.utils.LoggerUtil;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.json.Json;
+import org.testng.IAlterSuiteListener;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ISuiteResult;
+import org.testng.ITestContext;
+import org.testng.ITestResult;
+import org.testng.annotations.Test;
+import org.testng.xml.XmlClass;
+import org.testng.xml.XmlInclude;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * TestNG listener that runs shard shard.index of shard.count. Before the suite starts it removes the
+ * classes, or with shard.by=test the whole matrix rows, that the shard plan assigns to other shards,
+ * and when the suite finishes it writes the shard results for {@link com.insider.execution.ShardReportMerger}.
+ * Methods of a class always stay together because the journey steps depend on each other.
+ */
+public class ShardListener implements IAlterSuiteListener, ISuiteListener {
+    private static final Logger logger = LoggerUtil.getLogger(ShardListener.class);
+    private static final double UNKNOWN_METHOD_MILLIS = 1.0;
+
+    private final ConfigManager config = ConfigManager.getInstance();
+    private final List<Map<String, Object>> results = new ArrayList<>();
+    private ShardPlan plan;
+    private long startedAt;
+
+    @Override
+    public void alter(List<XmlSuite> suites) {
+        if (config.getShardCount() <= 1) {
+            return;
+        }
+        int shardIndex = config.getShardIndex();
+        if (shardIndex < 1 || shardIndex > config.getShardCount()) {
+            throw new IllegalArgumentException("shard.index must be between 1 and %d: %d".formatted(config.getShardCount(), shardIndex));
+        }
+
+        Map<String, Double> methodMillis = loadMethodMillis();
+        double unknownMillis = methodMillis.isEmpty() ? UNKNOWN_METHOD_MILLIS
+                : TimingBaseline.of(new ArrayList<>(methodMillis.values())).getMedian();
+        List<ShardPlan.Unit> units = new ArrayList<>();
+        for (XmlTest test : allTests(suites)) {
+            for (XmlClass xmlClass : test.getXmlClasses()) {
+                double estimate = testMethods(xmlClass).stream()
+                        .mapToDouble(method -> methodMillis.getOrDefault(MethodHistory.stepLabel(test, method), unknownMillis))
+                        .sum();
+                units.add(new ShardPlan.Unit(unitKey(test, xmlClass), estimate));
+            }
+        }
+        units = mergeUnitsOfSameKey(units);
+        plan = ShardPlan.of(units, config.getShardCount());
+
+        for (XmlSuite suite : allSuites(suites)) {
+            for (XmlTest test : suite.getTests()) {
+                test.setXmlClasses(test.getXmlClasses().stream()
+                        .filter(xmlClass -> plan.shardOf(unitKey(test, xmlClass)) == shardIndex)
+                        .collect(Collectors.toList()));
+            }
+            suite.getTests().removeIf(test -> test.getXmlClasses().isEmpty() && test.getXmlPackages().isEmpty());
+        }
+        LoggerUtil.logInfo(logger, "Shard %d of %d (plan %s, estimated %.0fms, %s timings): %s".formatted(
+                shardIndex, plan.getShardCount(), plan.fingerprint(), plan.estimatedMillis(shardIndex),
+                methodMillis.isEmpty() ? "no" : methodMillis.size() + " method", plan.unitsOf(shardIndex)));
+    }
+
+    @Override
+    public void onStart(ISuite suite) {
+        if (startedAt == 0) {
+            startedAt = System.currentTimeMillis();
+        }
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        if (plan == null) {
+            return;
+        }
+        for (ISuiteResult suiteResult : suite.getResults().values()) {
+            ITestContext context = suiteResult.getTestContext();
+            Stream.of(context.getPassedTests(), context.getFailedTests(), context.getSkippedTests())
+                    .flatMap(resultMap -> resultMap.getAllResults().stream())
+                    .forEach(result -> results.add(toEntry(context, result)));
+        }
+        writeResults();
+    }
+
+    private Map<String, Object> toEntry(ITestContext context, ITestResult result) {
+        Map<String, Object> entry = new LinkedHashMap<>();
+        entry.put("test", context.getName());
+        entry.put("class", result.getTestClass().getName());
+        entry.put("method", result.getMethod().getMethodName());
+        entry.put("step", MethodHistory.stepLabel(context.getCurrentXmlTest(), result.getMethod().getMethodName()));
+        entry.put("status", switch (result.getStatus()) {
+            case ITestResult.SUCCESS -> "PASS";
+            case ITestResult.FAILURE -> "FAIL";
+            default -> "SKIP";
+        });
+        entry.put("millis", result.getEndMillis() - result.getStartMillis());
+        if (result.getThrowable() != null) {
+            entry.put("error", result.getThrowable().getClass().getSimpleName() + ": " + result.getThrowable().getMessage());
+        }
+        if (result.getAttribute("failure.bundle") != null) {
+            entry.put("failureBundle", result.getAttribute("failure.bundle").toString());
+        }
+        return entry;
+    }
+
+    private void writeResults() {
+        int shardIndex = config.getShardIndex();
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("shardIndex", shardIndex);
+        report.put("shardCount", plan.getShardCount());
+        report.put("shardBy", config.getShardBy());
+        report.put("planFingerprint", plan.fingerprint());
+        report.put("plan", plan.toMap());
+        report.put("estimatedMillis", Math.round(plan.estimatedMillis(shardIndex)));
+        report.put("startedAt", startedAt);
+        report.put("wallMillis", System.currentTimeMillis() - startedAt);
+        report.put("results", results);
+        try {
+            Path resultsDir = Paths.get(config.getShardResultsDir());
+            Files.createDirectories(resultsDir);
+            Path resultsFile = resultsDir.resolve("shard-%d-of-%d.json".formatted(shardIndex, plan.getShardCount()));
+            Files.writeString(resultsFile, new Json().toJson(report));
+            LoggerUtil.logInfo(logger, "Shard results saved: " + resultsFile);
+        } catch (IOException e) {
+            LoggerUtil.logError(logger, "Failed to write shard results", e);
+        }
+    }
+
+    /**
+     * Load expected method durations from the merged shard report of shard.timings.file, so every machine plans
+     * from the same file. Without it every method is estimated the same: local run histories differ between
+     * machines, and even between shards run one after the other, which would give each shard a different plan.
+     */
+    private Map<String, Double> loadMethodMillis() {
+        Map<String, Double> methodMillis = new HashMap<>();
+        String timingsFile = config.getShardTimingsFile();
+        if (timingsFile.isEmpty()) {
+            LoggerUtil.logInfo(logger, "No shard.timings.file set, planning shards with uniform method estimates");
+            return methodMillis;
+        }
+        try {
+            Map<String, Object> merged = new Json().toType(Files.readString(Paths.get(timingsFile)), Json.MAP_TYPE);
+            Object timings = merged.get("methodMillis");
+            if (timings instanceof Map<?, ?> timingMap) {
+                timingMap.forEach((step, millis) -> methodMillis.put(step.toString(), ((Number) millis).doubleValue()));
+            }
+        } catch (IOException | RuntimeException e) {
+            LoggerUtil.logWarning(logger, "Could not read shard timings file " + timingsFile
+                    + ", planning shards with uniform method estimates: " + e.getMessage());
+        }
+        return methodMillis;
+    }
+
+    /**
+     * Get names of the test methods of a class element, limited to its includes if it has any
+     */
+    private static List<String> testMethods(XmlClass xmlClass) {
+        Set<String> included = xmlClass.getIncludedMethods().stream().map(XmlInclude::getName).collect(Collectors.toSet());
+        if (!included.isEmpty()) {
+            return included.stream().sorted().toList();
+        }
+        return Arrays.stream(xmlClass.getSupportClass().getMethods())
+                .filter(method -> method.isAnnotationPresent(Test.class))
+                .map(Method::getName)
+                .sorted()
+                .toList();
+    }
+
+    private String unitKey(XmlTest test, XmlClass xmlClass) {
+        return "test".equalsIgnoreCase(config.getShardBy()) ? test.getName() : test.getName() + "/" + xmlClass.getName();
+    }
+
+    private static List<ShardPlan.Unit> mergeUnitsOfSameKey(List<ShardPlan.Unit> units) {
+        Map<String, Double> byKey = new LinkedHashMap<>();
+        units.forEach(unit -> byKey.merge(unit.key(), unit.estimatedMillis(), Double::sum));
+        return byKey.entrySet().stream().map(entry -> new ShardPlan.Unit(entry.getKey(), entry.getValue())).toList();
+    }
+
+    private static List<XmlSuite> allSuites(Collection<XmlSuite> suites) {
+        List<XmlSuite> all = new ArrayList<>();
+        for (XmlSuite suite : suites) {
+            all.add(suite);
+            all.addAll(allSuites(suite.getChildSuites()));
+        }
+        return all;
+    }
+
+    private static List<XmlTest> allTests(Collection<XmlSuite> suites) {
+        return allSuites(suites).stream().flatMap(suite -> suite.getTests().stream()).toList();
+    }
+}
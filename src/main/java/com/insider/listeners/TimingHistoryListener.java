@@ -0,0 +1,125 @@
+package com.insider.listeners;
+
+import com.insider.exceptions.TimingRegressionException;
+import com.insider.history.RunHistoryStore;
+import com.insider.history.RunTimings;
+import com.insider.history.TimingBaseline;
+import com.insider.history.TimingRecord;
+import com.insider.utils.ConfigManager;
+import com.insider.utils.LoggerUtil;
+import org.apache.logging.log4j.Logger;
+import org.testng.IHookCallBack;
+import org.testng.IHookable;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestResult;
+import org.testng.Reporter;
+
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * TestNG listener that compares every step with its baseline from the run history
+ * and appends the step, failure and command timings of the run when the suite finishes.
+ * Regressions are logged; with history.gate=fail the step fails inside its own invocation,
+ * so retry, failure capture and reporting treat it like any other failure.
+ */
+public class TimingHistoryListener implements ISuiteListener, IInvokedMethodListener, IHookable {
+    private static final Logger logger = LoggerUtil.getLogger(TimingHistoryListener.class);
+    private static final String FAIL_GATE = "fail";
+
+    private final ConfigManager config = ConfigManager.getInstance();
+    private RunHistoryStore store;
+    private List<TimingRecord> history = List.of();
+    private long runStartedAt;
+
+    @Override
+    public void onStart(ISuite suite) {
+        if (!config.isHistoryEnabled()) {
+            return;
+        }
+        store = new RunHistoryStore(Paths.get(config.getHistoryFile()));
+        history = store.load();
+        runStartedAt = System.currentTimeMillis();
+    }
+
+    @Override
+    public void run(IHookCallBack callBack, ITestResult testResult) {
+        long start = System.nanoTime();
+        callBack.runTestMethod(testResult);
+        if (store == null || testResult.getThrowable() != null || !FAIL_GATE.equalsIgnoreCase(config.getHistoryGate())) {
+            return;
+        }
+        String step = RunTimings.label(testResult.getMethod().getMethodName());
+        double millis = (System.nanoTime() - start) / 1_000_000.0;
+        String regression = checkRegression(TimingRecord.Kind.STEP, step, millis);
+        if (regression != null) {
+            LoggerUtil.logError(logger, regression, null);
+            throw new TimingRegressionException(regression, step, baseline(TimingRecord.Kind.STEP, step).getMedian(), millis);
+        }
+    }
+
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (store == null || !method.isTestMethod()) {
+            return;
+        }
+        if (testResult.getStatus() == ITestResult.FAILURE) {
+            RunTimings.recordFailure(testResult.getMethod().getMethodName(), testResult.getEndMillis() - testResult.getStartMillis());
+            return;
+        }
+        if (testResult.getStatus() != ITestResult.SUCCESS) {
+            return;
+        }
+        String step = RunTimings.label(testResult.getMethod().getMethodName());
+        double millis = testResult.getEndMillis() - testResult.getStartMillis();
+        RunTimings.recordStep(testResult.getMethod().getMethodName(), millis);
+
+        // A step that regressed under the fail gate has already failed in run()
+        String regression = checkRegression(TimingRecord.Kind.STEP, step, millis);
+        if (regression != null) {
+            Reporter.log(regression, false);
+            LoggerUtil.logWarning(logger, regression);
+        }
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        if (store == null) {
+            return;
+        }
+        String runId = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"));
+        List<TimingRecord> records = RunTimings.drain(runId, runStartedAt);
+        for (TimingRecord record : records) {
+            if (record.getKind() == TimingRecord.Kind.COMMAND) {
+                String regression = checkRegression(TimingRecord.Kind.COMMAND, record.getName(), record.getMillis());
+                if (regression != null) {
+                    LoggerUtil.logWarning(logger, regression);
+                }
+            }
+        }
+        store.append(records);
+        store = null;
+    }
+
+    /**
+     * Compare a duration with the baseline of the previous runs
+     * @return regression message, null if the duration is within the tolerance or the history is too short
+     */
+    private String checkRegression(TimingRecord.Kind kind, String name, double millis) {
+        TimingBaseline baseline = baseline(kind, name);
+        if (baseline.getRuns() < config.getHistoryMinRuns() || !baseline.isRegression(millis, config.getHistoryTolerancePercent())) {
+            return null;
+        }
+        return "TIMING REGRESSION: %s %s took %.0fms, %.0f%% slower than the median %.0fms of the last %d runs"
+                .formatted(kind.name().toLowerCase(), name, millis, baseline.changePercent(millis), baseline.getMedian(), baseline.getRuns());
+    }
+
+    private TimingBaseline baseline(TimingRecord.Kind kind, String name) {
+        return TimingBaseline.of(RunHistoryStore.lastRuns(history, kind, name, config.getHistoryBaselineRuns()));
+    }
+}
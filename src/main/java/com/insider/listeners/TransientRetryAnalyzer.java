@@ -0,0 +1,94 @@
+package com.insider.listeners;
+
+import com.insider.listeners.FailureClassifier.Classification;
+import com.insider.utils.ConfigManager;
+import com.insider.utils.LoggerUtil;
+import org.apache.logging.log4j.Logger;
+import org.testng.IRetryAnalyzer;
+import org.testng.ITestResult;
+import org.testng.Reporter;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Retry analyzer that only retries transient failures, within a per-test limit and a per-suite budget
+ */
+public class TransientRetryAnalyzer implements IRetryAnalyzer {
+    private static final Logger logger = LoggerUtil.getLogger(TransientRetryAnalyzer.class);
+
+    private static final Map<String, AtomicInteger> SUITE_BUDGETS = new ConcurrentHashMap<>();
+    private static final Map<String, List<String>> RETRY_LOGS = new ConcurrentHashMap<>();
+
+    private final ConfigManager config = ConfigManager.getInstance();
+    private int attempts;
+
+    /**
+     * Decide whether a failed test should be retried
+     * @param result failed test result
+     * @return true if the test should be run again
+     */
+    @Override
+    public boolean retry(ITestResult result) {
+        String testName = result.getMethod().getQualifiedName();
+        Classification classification = FailureClassifier.classify(result.getThrowable());
+
+        if (!config.isRetryEnabled()) {
+            return false;
+        }
+        if (!classification.isTransient()) {
+            LoggerUtil.logInfo(logger, "Not retrying " + testName + " - " + classification.category().name().toLowerCase().replace('_', ' ')
+                    + " failure: " + classification.reason());
+            return false;
+        }
+        if (attempts >= config.getRetryMaxPerTest()) {
+            LoggerUtil.logWarning(logger, "Not retrying " + testName + " - per test retry limit of " + config.getRetryMaxPerTest() + " reached");
+            return false;
+        }
+
+        String suiteName = result.getTestContext().getSuite().getName();
+        AtomicInteger budget = SUITE_BUDGETS.computeIfAbsent(suiteName, name -> new AtomicInteger(config.getRetrySuiteBudget()));
+        if (budget.getAndUpdate(remaining -> Math.max(remaining - 1, 0)) <= 0) {
+            LoggerUtil.logWarning(logger, "Not retrying " + testName + " - suite retry budget exhausted for: " + suiteName);
+            return false;
+        }
+
+        attempts++;
+        String entry = "RETRY %d/%d %s - %s".formatted(attempts, config.getRetryMaxPerTest(), testName, classification.reason());
+        RETRY_LOGS.computeIfAbsent(suiteName, name -> new CopyOnWriteArrayList<>()).add(entry);
+        Reporter.log(entry, false);
+        LoggerUtil.logWarning(logger, entry);
+        return true;
+    }
+
+    /**
+     * Reset the retry budget for a suite
+     * @param suiteName suite name
+     */
+    static void resetSuiteBudget(String suiteName) {
+        SUITE_BUDGETS.remove(suiteName);
+        RETRY_LOGS.remove(suiteName);
+    }
+
+    /**
+     * Get remaining retry budget of a suite
+     * @param suiteName suite name
+     * @return remaining retries
+     */
+    static int getRemainingBudget(String suiteName) {
+        AtomicInteger budget = SUITE_BUDGETS.get(suiteName);
+        return budget != null ? budget.get() : ConfigManager.getInstance().getRetrySuiteBudget();
+    }
+
+    /**
+     * Get all retries performed so far in a suite
+     * @param suiteName suite name
+     * @return retry log entries
+     */
+    public static List<String> getRetryLog(String suiteName) {
+        return List.copyOf(RETRY_LOGS.getOrDefault(suiteName, List.of()));
+    }
+}
@@ -0,0 +1,76 @@
+package com.insider.load;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Thread-safe recorder of step latencies and errors with percentile reporting
+ */
+public class LatencyRecorder {
+
+    private final String stepName;
+    private long[] samples = new long[256];
+    private int count;
+    private int errors;
+
+    /**
+     * Constructor for LatencyRecorder
+     * @param stepName name of the measured step
+     */
+    public LatencyRecorder(String stepName) {
+        this.stepName = stepName;
+    }
+
+    /**
+     * Record a successful step
+     * @param nanos step duration in nanoseconds
+     */
+    public synchronized void record(long nanos) {
+        if (count == samples.length) {
+            samples = Arrays.copyOf(samples, samples.length * 2);
+        }
+        samples[count++] = nanos;
+    }
+
+    /**
+     * Record a failed step
+     */
+    public synchronized void recordError() {
+        errors++;
+    }
+
+    /**
+     * Get percentile latency of successful steps
+     * @param percentile percentile between 0 and 100
+     * @return latency in milliseconds, 0 if nothing was recorded
+     */
+    public synchronized double percentileMillis(double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        long[] sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile / 100.0 * count) - 1;
+        return sorted[Math.max(0, Math.min(index, count - 1))] / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    /**
+     * Get summary of the recorded step
+     * @return summary with counts, error rate and percentiles
+     */
+    public synchronized Map<String, Object> summary() {
+        int attempts = count + errors;
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("step", stepName);
+        summary.put("count", count);
+        summary.put("errors", errors);
+        summary.put("errorRate", attempts == 0 ? 0.0 : errors / (double) attempts);
+        summary.put("p50Ms", percentileMillis(50));
+        summary.put("p95Ms", percentileMillis(95));
+        summary.put("p99Ms", percentileMillis(99));
+        summary.put("maxMs", percentileMillis(100));
+        return summary;
+    }
+}
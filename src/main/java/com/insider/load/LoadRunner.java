@@ -0,0 +1,241 @@
+package com.insider.load;
+
+import com.insider.execution.BrowserSlots;
+import com.insider.pages.HomePage;
+import com.insider.pages.QACareersPage;
+import com.insider.replay.ReplayServer;
+import com.insider.utils.ConfigManager;
+import com.insider.utils.LoggerUtil;
+import com.insider.utils.MemorySampler;
+import com.insider.utils.WebDriverFactory;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.json.Json;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Synthetic load mode that runs the HomePage, CareersPage and QACareersPage journey from
+ * concurrent headless sessions with ramp-up, a fixed duration and a target journey rate,
+ * and reports latency percentiles and error rates per step.
+ * Run with replay.mode=replay to measure the framework against the local fixture server.
+ */
+public class LoadRunner {
+    private static final Logger logger = LoggerUtil.getLogger(LoadRunner.class);
+
+    private static final String STEP_NAVIGATION = "navigation";
+    private static final String STEP_FILTERING = "filtering";
+    private static final String STEP_REDIRECT = "redirect";
+
+    private final ConfigManager config = ConfigManager.getInstance();
+    private final Map<String, LatencyRecorder> recorders = new LinkedHashMap<>();
+    private final AtomicInteger journeys = new AtomicInteger();
+    private final AtomicLong nextJourneyStart = new AtomicLong();
+    private long journeyIntervalNanos;
+    private long deadlineNanos;
+
+    public LoadRunner() {
+        for (String step : List.of(STEP_NAVIGATION, STEP_FILTERING, STEP_REDIRECT)) {
+            recorders.put(step, new LatencyRecorder(step));
+        }
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        System.setProperty("headless", System.getProperty("headless", "true"));
+        ReplayServer.start();
+        try {
+            new LoadRunner().run();
+        } finally {
+            ReplayServer.stop();
+        }
+    }
+
+    /**
+     * Run the load test and write the report
+     */
+    public void run() throws InterruptedException {
+        int sessions = config.getLoadSessions();
+        long rampUpNanos = TimeUnit.SECONDS.toNanos(config.getLoadRampUpSeconds());
+        int targetRate = config.getLoadTargetRatePerMinute();
+        journeyIntervalNanos = targetRate > 0 ? TimeUnit.MINUTES.toNanos(1) / targetRate : 0;
+
+        long startNanos = System.nanoTime();
+        deadlineNanos = startNanos + rampUpNanos + TimeUnit.SECONDS.toNanos(config.getLoadDurationSeconds());
+        nextJourneyStart.set(startNanos);
+        LoggerUtil.logInfo(logger, "Starting load run with " + sessions + " sessions, ramp-up " + config.getLoadRampUpSeconds()
+                + "s, duration " + config.getLoadDurationSeconds() + "s, target rate " + targetRate + " journeys/min, throttle profile "
+                + config.getThrottleProfile());
+
+        if (sessions > BrowserSlots.getSlotCount()) {
+            LoggerUtil.logWarning(logger, "load.sessions=" + sessions + " exceeds the " + BrowserSlots.getSlotCount()
+                    + " browser slots, raise browser.slots to run every session at once");
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(sessions);
+        for (int i = 0; i < sessions; i++) {
+            long startDelayNanos = sessions > 1 ? rampUpNanos * i / (sessions - 1) : 0;
+            int sessionNumber = i + 1;
+            executor.submit(() -> runSession(sessionNumber, startNanos + startDelayNanos));
+        }
+        executor.shutdown();
+        executor.awaitTermination(deadlineNanos - System.nanoTime() + TimeUnit.MINUTES.toNanos(5), TimeUnit.NANOSECONDS);
+
+        writeReport(Duration.ofNanos(System.nanoTime() - startNanos), sessions, targetRate);
+    }
+
+    /**
+     * Run journeys in one browser session until the deadline
+     */
+    private void runSession(int sessionNumber, long startAtNanos) {
+        try {
+            sleepUntil(startAtNanos);
+            WebDriverFactory.initializeDriver();
+            LoggerUtil.logInfo(logger, "Load session " + sessionNumber + " started");
+
+            while (System.nanoTime() < deadlineNanos) {
+                if (!acquireJourneySlot()) {
+                    break;
+                }
+                if (!runJourney()) {
+                    WebDriverFactory.quitDriver();
+                    WebDriverFactory.initializeDriver();
+                }
+                journeys.incrementAndGet();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            LoggerUtil.logError(logger, "Load session " + sessionNumber + " aborted", e);
+        } finally {
+            WebDriverFactory.quitDriver();
+        }
+    }
+
+    /**
+     * Run the journey once, measuring every step
+     * @return true if every step succeeded
+     */
+    private boolean runJourney() {
+        HomePage homePage = new HomePage();
+        QACareersPage qaCareersPage = new QACareersPage();
+
+        boolean passed = measure(STEP_NAVIGATION, () -> {
+            homePage.navigateToHomePage();
+            homePage.navigateToCareersPage();
+        }) && measure(STEP_FILTERING, () -> {
+            qaCareersPage.navigateToQACareersPage();
+            qaCareersPage.clickSeeAllQaJobs();
+            qaCareersPage.applyJobFilters();
+            qaCareersPage.verifyJobListDisplayed();
+        }) && measure(STEP_REDIRECT, () -> {
+            qaCareersPage.clickViewRoleButton();
+            qaCareersPage.verifyLeverApplicationRedirect();
+        });
+
+        if (passed) {
+            closeExtraWindows();
+        }
+        return passed;
+    }
+
+    /**
+     * Measure one step of the journey
+     * @param step step name
+     * @param action step action
+     * @return true if the step succeeded
+     */
+    private boolean measure(String step, Runnable action) {
+        MemorySampler.current().beginStep(step);
+        long start = System.nanoTime();
+        try {
+            action.run();
+            recorders.get(step).record(System.nanoTime() - start);
+            return true;
+        } catch (Exception | AssertionError e) {
+            recorders.get(step).recordError();
+            LoggerUtil.logWarning(logger, "Load step '" + step + "' failed: " + e.getMessage());
+            return false;
+        } finally {
+            MemorySampler.current().endStep();
+        }
+    }
+
+    /**
+     * Wait for the next journey start allowed by the target rate
+     * @return false if the next slot is past the deadline
+     */
+    private boolean acquireJourneySlot() throws InterruptedException {
+        if (journeyIntervalNanos == 0) {
+            return true;
+        }
+        long now = System.nanoTime();
+        long slot = nextJourneyStart.getAndUpdate(next -> Math.max(next, now) + journeyIntervalNanos);
+        slot = Math.max(slot, now);
+        if (slot >= deadlineNanos) {
+            return false;
+        }
+        sleepUntil(slot);
+        return true;
+    }
+
+    /**
+     * Close the application form window opened by View Role and return to the first window
+     */
+    private void closeExtraWindows() {
+        WebDriver driver = WebDriverFactory.getDriver();
+        List<String> handles = List.copyOf(driver.getWindowHandles());
+        for (int i = 1; i < handles.size(); i++) {
+            driver.switchTo().window(handles.get(i)).close();
+        }
+        driver.switchTo().window(handles.get(0));
+    }
+
+    private static void sleepUntil(long nanoTime) throws InterruptedException {
+        long remaining = nanoTime - System.nanoTime();
+        if (remaining > 0) {
+            TimeUnit.NANOSECONDS.sleep(remaining);
+        }
+    }
+
+    /**
+     * Log the per step summary and write it as JSON
+     */
+    private void writeReport(Duration elapsed, int sessions, int targetRate) {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("finishedAt", LocalDateTime.now().toString());
+        report.put("replayMode", config.getReplayMode());
+        report.put("throttleProfile", config.getThrottleProfile());
+        report.put("sessions", sessions);
+        report.put("targetRatePerMinute", targetRate);
+        report.put("elapsedSeconds", elapsed.toSeconds());
+        report.put("journeys", journeys.get());
+        report.put("steps", recorders.values().stream().map(LatencyRecorder::summary).toList());
+
+        recorders.values().forEach(recorder -> LoggerUtil.logInfo(logger, "Load step summary: " + recorder.summary()));
+
+        try {
+            Path resultDir = Paths.get(config.getLoadResultsDir());
+            Files.createDirectories(resultDir);
+            String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"));
+            Path reportFile = resultDir.resolve("load_report_" + timestamp + ".json");
+            Files.writeString(reportFile, new Json().toJson(report));
+            LoggerUtil.logInfo(logger, "Load report saved: " + reportFile);
+        } catch (IOException e) {
+            LoggerUtil.logError(logger, "Failed to write load report", e);
+        }
+    }
+}
@@ -1,14 +1,27 @@
 package com.insider.pages;
 
+import com.insider.driver.DriverTier;
+import com.insider.events.ResultEventStream;
 import com.insider.exceptions.ElementException;
+import com.insider.history.RunTimings;
+import com.insider.utils.ConfigManager;
+import com.insider.utils.FailureContext;
+import com.insider.utils.LocatorRegistry;
 import com.insider.utils.LoggerUtil;
+import com.insider.utils.MemorySampler;
+import com.insider.utils.PageMetrics;
+import com.insider.utils.PerformanceMonitor;
+import com.insider.utils.SectionSnapshot;
 import com.insider.utils.WebDriverFactory;
+import com.insider.visual.VisualBaselineStore;
+import com.insider.visual.VisualComparison;
 import org.apache.logging.log4j.Logger;
 import org.openqa.selenium.*;
 import org.openqa.selenium.interactions.Actions;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
 import org.testng.Assert;
+import org.testng.Reporter;
 
 import java.io.File;
 import java.io.IOException;
@@ -16,14 +29,70 @@ import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Base page class containing common web element operations
  */
 public abstract class BasePage {
     protected static final Logger logger = LoggerUtil.getLogger(BasePage.class);
+
+    // Scrolls the page one viewport at a time so lazy-loaded sections render, then waits until
+    // every selector matches or the deadline passes and reports every section in one result
+    private static final String SECTION_SNAPSHOT_SCRIPT = """
+            const [sections, textLimit, stepDelay, timeoutMs, done] = arguments;
+            const deadline = Date.now() + timeoutMs;
+            const snapshot = () => {
+                const result = {};
+                for (const [name, selector] of Object.entries(sections)) {
+                    const element = document.querySelector(selector);
+                    if (!element) {
+                        result[name] = { present: false, visible: false };
+                        continue;
+                    }
+                    const rect = element.getBoundingClientRect();
+                    const style = window.getComputedStyle(element);
+                    const text = (element.innerText || '').trim();
+                    result[name] = {
+                        present: true,
+                        visible: rect.width > 0 && rect.height > 0 && style.display !== 'none'
+                            && style.visibility !== 'hidden' && parseFloat(style.opacity) > 0,
+                        x: rect.left + window.scrollX,
+                        y: rect.top + window.scrollY,
+                        width: rect.width,
+                        height: rect.height,
+                        textLength: text.length,
+                        text: text.substring(0, textLimit)
+                    };
+                }
+                return result;
+            };
+            const awaitSections = () => {
+                const missing = Object.values(sections).some(selector => !document.querySelector(selector));
+                if (missing && Date.now() < deadline) {
+                    setTimeout(awaitSections, stepDelay);
+                } else {
+                    done(snapshot());
+                }
+            };
+            let offset = 0;
+            const scrollPass = () => {
+                offset += window.innerHeight;
+                window.scrollTo(0, offset);
+                if (offset < document.documentElement.scrollHeight && Date.now() < deadline) {
+                    setTimeout(scrollPass, stepDelay);
+                } else {
+                    window.scrollTo(0, 0);
+                    awaitSections();
+                }
+            };
+            scrollPass();""";
+    private static final int SNAPSHOT_SCROLL_DELAY_MS = 100;
     protected WebDriver driver;
     protected WebDriverWait wait;
+    protected final LocatorRegistry locatorRegistry = LocatorRegistry.getInstance();
 
     protected BasePage() {
         this.driver = WebDriverFactory.getDriver();
@@ -36,13 +105,16 @@ public abstract class BasePage {
      * @param elementName element name for logging
      */
     protected void clickElement(By locator, String elementName) {
+        long start = System.nanoTime();
         try {
             WebElement element = wait.until(ExpectedConditions.elementToBeClickable(locator));
             element.click();
             LoggerUtil.logInfo(logger, "Clicked on element: " + elementName);
+            recordCommand("CLICK " + elementName, start);
+            MemorySampler.current().sample("click " + elementName);
         } catch (Exception e) {
             LoggerUtil.logError(logger, "Failed to click on element: " + elementName, e);
-            takeScreenshot("click_error_" + elementName);
+            captureFailure(e, "click_error_" + elementName);
             throw new ElementException("Failed to click on element", elementName, "CLICK", e);
         }
     }
@@ -53,13 +125,16 @@ public abstract class BasePage {
      * @param elementName element name for logging
      */
     protected void clickElementWithJS(By locator, String elementName) {
+        long start = System.nanoTime();
         try {
             WebElement element = wait.until(ExpectedConditions.presenceOfElementLocated(locator));
             ((JavascriptExecutor) driver).executeScript("arguments[0].click();", element);
             LoggerUtil.logInfo(logger, "Clicked on element with JavaScript: " + elementName);
+            recordCommand("JS_CLICK " + elementName, start);
+            MemorySampler.current().sample("JavaScript click " + elementName);
         } catch (Exception e) {
             LoggerUtil.logError(logger, "Failed to click on element with JavaScript: " + elementName, e);
-            takeScreenshot("js_click_error_" + elementName);
+            captureFailure(e, "js_click_error_" + elementName);
             throw new ElementException("Failed to click on element with JavaScript", elementName, "JS_CLICK", e);
         }
     }
@@ -71,14 +146,16 @@ public abstract class BasePage {
      * @return element text
      */
     protected String getElementText(By locator, String elementName) {
+        long start = System.nanoTime();
         try {
             WebElement element = wait.until(ExpectedConditions.visibilityOfElementLocated(locator));
             String text = element.getText();
             LoggerUtil.logInfo(logger, "Retrieved text from element: " + elementName + " - Text: " + text);
+            recordCommand("GET_TEXT " + elementName, start);
             return text;
         } catch (Exception e) {
             LoggerUtil.logError(logger, "Failed to get text from element: " + elementName, e);
-            takeScreenshot("get_text_error_" + elementName);
+            captureFailure(e, "get_text_error_" + elementName);
             throw new ElementException("Failed to get text from element", elementName, "GET_TEXT", e);
         }
     }
@@ -90,10 +167,12 @@ public abstract class BasePage {
      * @return true if element is displayed
      */
     protected boolean isElementDisplayed(By locator, String elementName) {
+        long start = System.nanoTime();
         try {
             WebElement element = wait.until(ExpectedConditions.visibilityOfElementLocated(locator));
             boolean displayed = element.isDisplayed();
             LoggerUtil.logInfo(logger, "Element display status: " + elementName + " - Displayed: " + displayed);
+            recordCommand("IS_DISPLAYED " + elementName, start);
             return displayed;
         } catch (Exception e) {
             LoggerUtil.logWarning(logger, "Element not displayed: " + elementName);
@@ -108,13 +187,15 @@ public abstract class BasePage {
      * @return WebElement
      */
     protected WebElement waitForElementVisible(By locator, String elementName) {
+        long start = System.nanoTime();
         try {
             WebElement element = wait.until(ExpectedConditions.visibilityOfElementLocated(locator));
             LoggerUtil.logInfo(logger, "Element is now visible: " + elementName);
+            recordCommand("WAIT_VISIBLE " + elementName, start);
             return element;
         } catch (Exception e) {
             LoggerUtil.logError(logger, "Element did not become visible: " + elementName, e);
-            takeScreenshot("wait_error_" + elementName);
+            captureFailure(e, "wait_error_" + elementName);
             throw new ElementException("Element did not become visible", elementName, "WAIT_VISIBLE", e);
         }
     }
@@ -126,12 +207,14 @@ public abstract class BasePage {
      * @param elementName element name for logging
      */
     protected void waitForElementClickable(By locator, String elementName) {
+        long start = System.nanoTime();
         try {
             wait.until(ExpectedConditions.elementToBeClickable(locator));
             LoggerUtil.logInfo(logger, "Element is now clickable: " + elementName);
+            recordCommand("WAIT_CLICKABLE " + elementName, start);
         } catch (Exception e) {
             LoggerUtil.logError(logger, "Element did not become clickable: " + elementName, e);
-            takeScreenshot("wait_clickable_error_" + elementName);
+            captureFailure(e, "wait_clickable_error_" + elementName);
             throw new ElementException("Element did not become clickable", elementName, "WAIT_CLICKABLE", e);
         }
     }
@@ -142,10 +225,13 @@ public abstract class BasePage {
      * @param elementName element name for logging
      */
     protected void scrollToElement(By locator, String elementName) {
+        long start = System.nanoTime();
         try {
             WebElement element = wait.until(ExpectedConditions.presenceOfElementLocated(locator));
             ((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView(true);", element);
             LoggerUtil.logInfo(logger, "Scrolled to element: " + elementName);
+            recordCommand("SCROLL " + elementName, start);
+            MemorySampler.current().sample("scroll to " + elementName);
         } catch (Exception e) {
             LoggerUtil.logError(logger, "Failed to scroll to element: " + elementName, e);
             throw new ElementException("Failed to scroll to element", elementName, "SCROLL", e);
@@ -158,13 +244,16 @@ public abstract class BasePage {
      * @param elementName element name for logging
      */
     protected void hoverOverElement(WebElement element, String elementName) {
+        long start = System.nanoTime();
         try {
             Actions actions = new Actions(driver);
             actions.moveToElement(element).perform();
             LoggerUtil.logInfo(logger, "Hovered over element: " + elementName);
+            recordCommand("HOVER " + elementName, start);
+            MemorySampler.current().sample("hover " + elementName);
         } catch (Exception e) {
             LoggerUtil.logError(logger, "Failed to hover over element: " + elementName, e);
-            takeScreenshot("hover_error_" + elementName);
+            captureFailure(e, "hover_error_" + elementName);
             throw new ElementException("Failed to hover over element", elementName, "HOVER", e);
         }
     }
@@ -173,10 +262,16 @@ public abstract class BasePage {
      * Wait for page to load completely
      */
     protected void waitForPageLoad() {
+        if (isStaticTier()) {
+            return;
+        }
+        long start = System.nanoTime();
         try {
             wait.until(webDriver -> ((JavascriptExecutor) webDriver)
                     .executeScript("return document.readyState").equals("complete"));
             LoggerUtil.logInfo(logger, "Page loaded completely");
+            recordCommand("PAGE_LOAD", start);
+            MemorySampler.current().sample("page load");
         } catch (Exception e) {
             LoggerUtil.logError(logger, "Page did not load completely", e);
             throw new ElementException("Page did not load completely", "PAGE", "PAGE_LOAD", e);
@@ -188,8 +283,12 @@ public abstract class BasePage {
      * @param fileName screenshot file name
      */
     protected void takeScreenshot(String fileName) {
+        if (!(driver instanceof TakesScreenshot takesScreenshot)) {
+            LoggerUtil.logInfo(logger, "Skipping screenshot, the driver cannot take screenshots: " + fileName);
+            return;
+        }
         try {
-            File screenshot = ((TakesScreenshot) driver).getScreenshotAs(OutputType.FILE);
+            File screenshot = takesScreenshot.getScreenshotAs(OutputType.FILE);
             String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"));
             String screenshotPath = "screenshots/" + fileName + "_" + timestamp + ".png";
             
@@ -202,6 +301,31 @@ public abstract class BasePage {
         }
     }
 
+    /**
+     * Capture the failure bundle of a caught exception, or add this layer to the bundle
+     * already captured for its root cause by an inner layer
+     * @param failure caught exception
+     * @param name name of the failing operation
+     */
+    protected void captureFailure(Throwable failure, String name) {
+        if (ConfigManager.getInstance().isFailureContextEnabled()) {
+            FailureContext.current().capture(failure, name);
+        } else {
+            takeScreenshot(name);
+        }
+    }
+
+    /**
+     * Record a completed command in the run timings, the recent commands of the failure context
+     * and the result event stream
+     */
+    private void recordCommand(String command, long startNanos) {
+        RunTimings.recordCommand(command, startNanos);
+        FailureContext.current().recordCommand(command);
+        ResultEventStream.getInstance().emit("command", Map.of("command", command,
+                "millis", (System.nanoTime() - startNanos) / 1_000_000.0));
+    }
+
     /**
      * Verify current URL contains expected text
      * @param expectedUrlText expected URL text
@@ -214,7 +338,7 @@ public abstract class BasePage {
             LoggerUtil.logAssertion(logger, "URL contains expected text: " + expectedUrlText);
         } catch (Exception e) {
             LoggerUtil.logError(logger, "URL verification failed for: " + expectedUrlText, e);
-            takeScreenshot("url_verification_error");
+            captureFailure(e, "url_verification_error");
             throw e;
         }
     }
@@ -231,11 +355,117 @@ public abstract class BasePage {
             LoggerUtil.logAssertion(logger, "Title contains expected text: " + expectedTitleText);
         } catch (Exception e) {
             LoggerUtil.logError(logger, "Title verification failed for: " + expectedTitleText, e);
-            takeScreenshot("title_verification_error");
+            captureFailure(e, "title_verification_error");
             throw e;
         }
     }
 
+    /**
+     * Capture presence, visibility, bounding box and a text sample of several sections with one
+     * script call, after a single scroll pass over the page so lazy-loaded sections are rendered
+     * @param sectionSelectors CSS selector of every section, keyed by section name
+     * @param textLimit maximum number of characters of the text sample
+     * @return snapshot of every section, in the order of the given map
+     */
+    protected Map<String, SectionSnapshot> snapshotSections(Map<String, String> sectionSelectors, int textLimit) {
+        if (isStaticTier()) {
+            return snapshotStaticSections(sectionSelectors, textLimit);
+        }
+        long start = System.nanoTime();
+        try {
+            long timeoutMs = Math.max(0, ConfigManager.getInstance().getExplicitWait() * 1000L - 500);
+            Object result = ((JavascriptExecutor) driver).executeAsyncScript(SECTION_SNAPSHOT_SCRIPT,
+                    sectionSelectors, textLimit, SNAPSHOT_SCROLL_DELAY_MS, timeoutMs);
+            Map<?, ?> values = result instanceof Map<?, ?> map ? map : Map.of();
+
+            Map<String, SectionSnapshot> snapshots = new LinkedHashMap<>();
+            for (String name : sectionSelectors.keySet()) {
+                snapshots.put(name, new SectionSnapshot(name, values.get(name) instanceof Map<?, ?> section ? section : Map.of()));
+            }
+            LoggerUtil.logInfo(logger, "Captured section snapshot: " + snapshots.values());
+            recordCommand("SNAPSHOT " + String.join(", ", sectionSelectors.keySet()), start);
+            MemorySampler.current().sample("section snapshot");
+            return snapshots;
+        } catch (Exception e) {
+            LoggerUtil.logError(logger, "Failed to capture section snapshot: " + sectionSelectors.keySet(), e);
+            captureFailure(e, "section_snapshot_error");
+            throw new ElementException("Failed to capture section snapshot", String.join(", ", sectionSelectors.keySet()), "SNAPSHOT", e);
+        }
+    }
+
+    /**
+     * Snapshot sections from the markup of a static page, without layout
+     */
+    private Map<String, SectionSnapshot> snapshotStaticSections(Map<String, String> sectionSelectors, int textLimit) {
+        Map<String, SectionSnapshot> snapshots = new LinkedHashMap<>();
+        sectionSelectors.forEach((name, selector) -> {
+            Map<String, Object> values = new LinkedHashMap<>();
+            driver.findElements(By.cssSelector(selector)).stream().findFirst().ifPresentOrElse(element -> {
+                String text = element.getText().trim();
+                values.put("present", true);
+                values.put("visible", element.isDisplayed());
+                values.put("textLength", text.length());
+                values.put("text", text.substring(0, Math.min(textLimit, text.length())));
+            }, () -> values.put("present", false));
+            snapshots.put(name, new SectionSnapshot(name, values));
+        });
+        LoggerUtil.logInfo(logger, "Captured static section snapshot: " + snapshots.values());
+        return snapshots;
+    }
+
+    /**
+     * Take an element screenshot of every section and hand it to the visual baseline store, which hashes
+     * and compares it off the test thread. Sections that are not on the page are left to the snapshot checks.
+     * @param sectionSelectors section names mapped to their CSS selectors
+     * @return pending comparisons by section name, empty when visual baselines are disabled or on the static tier
+     */
+    protected Map<String, CompletableFuture<VisualComparison>> captureSectionVisuals(Map<String, String> sectionSelectors) {
+        Map<String, CompletableFuture<VisualComparison>> comparisons = new LinkedHashMap<>();
+        if (!ConfigManager.getInstance().isVisualEnabled() || isStaticTier()) {
+            return comparisons;
+        }
+        int windowWidth = driver.manage().window().getSize().getWidth();
+        sectionSelectors.forEach((name, selector) -> {
+            long start = System.nanoTime();
+            driver.findElements(locatorRegistry.get(selector)).stream().findFirst().ifPresent(section -> {
+                byte[] png = section.getScreenshotAs(OutputType.BYTES);
+                recordCommand("SECTION SCREENSHOT " + name, start);
+                String key = getPageKey() + "/" + name + "@" + windowWidth;
+                comparisons.put(name, VisualBaselineStore.getInstance().compare(key, png));
+            });
+        });
+        return comparisons;
+    }
+
+    /**
+     * Wait for the visual comparisons of the sections and verify each section still looks like its baseline
+     * @param comparisons pending comparisons by section name
+     */
+    protected void verifySectionVisuals(Map<String, CompletableFuture<VisualComparison>> comparisons) {
+        comparisons.forEach((name, pending) -> {
+            VisualComparison comparison = pending.join();
+            ResultEventStream.getInstance().emit("visual", Map.of("section", name, "key", comparison.key(),
+                    "status", comparison.status().name(), "distance", comparison.distance(),
+                    "threshold", ConfigManager.getInstance().getVisualHashThreshold()));
+            Assert.assertTrue(comparison.matches(), name + " no longer looks like its visual baseline: " + comparison);
+            if (comparison.status() == VisualComparison.Status.NEW_BASELINE) {
+                String message = name + " had no visual baseline, recorded one from this run without comparing: " + comparison;
+                LoggerUtil.logWarning(logger, message);
+                Reporter.log("VISUAL BASELINE CREATED: " + message, false);
+                return;
+            }
+            LoggerUtil.logAssertion(logger, name + " visual check: " + comparison);
+        });
+    }
+
+    /**
+     * Check if the page is served by the static driver tier, where nothing is rendered or scripted
+     * @return true on the static tier
+     */
+    protected boolean isStaticTier() {
+        return WebDriverFactory.getTier() == DriverTier.STATIC;
+    }
+
     /**
      * Get current page URL
      * @return current URL
@@ -251,4 +481,50 @@ public abstract class BasePage {
     public String getCurrentTitle() {
         return driver.getTitle();
     }
-}
\ No newline at end of file
+
+    /**
+     * Collect web performance metrics of the current page
+     * @return page metrics
+     */
+    public PageMetrics collectPerformanceMetrics() {
+        return PerformanceMonitor.collect(driver);
+    }
+
+    /**
+     * Collect the performance metrics of the current page, to be checked against its budget once the functional checks passed
+     * @return page metrics, null when performance metrics are disabled or the page is not rendered
+     */
+    public PageMetrics capturePerformanceMetrics() {
+        if (!ConfigManager.getInstance().isPerformanceMetricsEnabled() || isStaticTier()) {
+            return null;
+        }
+        return collectPerformanceMetrics();
+    }
+
+    /**
+     * Verify the current page against its performance budgets, does nothing when metrics are disabled
+     * or on the static driver tier
+     */
+    public void verifyPerformanceBudget() {
+        verifyPerformanceBudget(capturePerformanceMetrics());
+    }
+
+    /**
+     * Verify metrics captured earlier meet the performance budget of this page
+     * @param metrics page metrics from {@link #capturePerformanceMetrics()}, null skips the check
+     */
+    public void verifyPerformanceBudget(PageMetrics metrics) {
+        if (metrics == null) {
+            return;
+        }
+        PerformanceMonitor.verifyBudget(getPageKey(), metrics);
+    }
+
+    /**
+     * Get key of the page used for perf.budget.&lt;page&gt; properties
+     * @return page key
+     */
+    protected String getPageKey() {
+        return getClass().getSimpleName().toLowerCase();
+    }
+}
@@ -4,12 +4,16 @@ import com.insider.constants.Locators;
 import com.insider.exceptions.HomePageException;
 import com.insider.utils.ConfigManager;
 import com.insider.utils.LoggerUtil;
+import com.insider.utils.NavigationMap;
+import com.insider.utils.ValidationCache;
 import com.insider.utils.WebDriverFactory;
 import org.apache.logging.log4j.Logger;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebElement;
 import org.testng.Assert;
 
+import java.util.Optional;
+
 /**
  * Page Object Model for Insider Home Page
  */
@@ -20,10 +24,11 @@ public class HomePage extends BasePage {
     private static final String COMPANY_MENU = "Company Menu";
     private static final String CAREERS_LINK = "Careers Link";
     private static final String ACCEPT_COOKIES_BUTTON = "Accept Cookies Button";
+    private static final String CAREERS_MENU_LABEL = "Careers";
     
-    private final By companyMenuLocator = By.xpath(Locators.HOME_COMPANY_MENU);
-    private final By careersLinkLocator = By.xpath(Locators.HOME_CAREERS_LINK);
-    private final By acceptCookiesButtonLocator = By.cssSelector(Locators.ACCEPT_COOKIES_BUTTON);
+    private final By companyMenuLocator = locatorRegistry.get(Locators.HOME_COMPANY_MENU);
+    private final By careersLinkLocator = locatorRegistry.get(Locators.HOME_CAREERS_LINK);
+    private final By acceptCookiesButtonLocator = locatorRegistry.get(Locators.ACCEPT_COOKIES_BUTTON);
 
     /**
      * Navigate to Insider home page
@@ -37,15 +42,18 @@ public class HomePage extends BasePage {
             LoggerUtil.logInfo(logger, "Navigated to Insider home page: " + config.getBaseUrl());
         } catch (Exception e) {
             LoggerUtil.logError(logger, "Failed to navigate to home page", e);
-            takeScreenshot("home_page_navigation_error");
+            captureFailure(e, "home_page_navigation_error");
             throw new HomePageException("Failed to navigate to home page", "Navigation", "Home Page", e);
         }
     }
 
     /**
-     * Accept cookies if the accept cookies button is present
+     * Accept cookies if the accept cookies button is present, static pages have no consent banner to dismiss
      */
     public void acceptCookiesIfPresent() {
+        if (isStaticTier()) {
+            return;
+        }
         try {
             if (isElementDisplayed(acceptCookiesButtonLocator, ACCEPT_COOKIES_BUTTON)) {
                 clickElement(acceptCookiesButtonLocator, ACCEPT_COOKIES_BUTTON);
@@ -76,26 +84,52 @@ public class HomePage extends BasePage {
             LoggerUtil.logAssertion(logger, "Home page loaded successfully - URL: " + currentUrl + ", Title: " + pageTitle);
         } catch (Exception e) {
             LoggerUtil.logError(logger, "Home page verification failed", e);
-            takeScreenshot("home_page_verification_error");
+            captureFailure(e, "home_page_verification_error");
             throw new HomePageException("Home page verification failed", "Verification", "Home Page", e);
         }
     }
 
     /**
-     * Navigate to Careers page
+     * Navigate to Careers page directly through the cached navigation map,
+     * falling back to the Company menu when navigation mapping is disabled or the link is gone
      */
     public void navigateToCareersPage() {
         try {
-            clickCareersLink();
+            ValidationCache.getInstance().prefetch(config.getCareersUrl());
+            Optional<String> careersUrl = config.isNavigationMapEnabled()
+                    ? NavigationMap.getInstance().resolve(driver, CAREERS_MENU_LABEL)
+                    : Optional.empty();
+            if (careersUrl.isPresent()) {
+                WebDriverFactory.navigateTo(careersUrl.get());
+            } else {
+                LoggerUtil.logInfo(logger, "No mapped Careers link, navigating through the Company menu");
+                clickCareersLink();
+            }
             waitForPageLoad();
             LoggerUtil.logInfo(logger, "Navigated to Careers page");
         } catch (Exception e) {
             LoggerUtil.logError(logger, "Failed to navigate to Careers page", e);
-            takeScreenshot("careers_page_navigation_error");
+            captureFailure(e, "careers_page_navigation_error");
             throw new HomePageException("Failed to navigate to Careers page", "Navigation", "Careers Page", e);
         }
     }
 
+    /**
+     * Navigate to Careers page through the Company menu, for tests that cover the menu itself
+     */
+    public void navigateToCareersPageViaMenu() {
+        try {
+            ValidationCache.getInstance().prefetch(config.getCareersUrl());
+            clickCareersLink();
+            waitForPageLoad();
+            LoggerUtil.logInfo(logger, "Navigated to Careers page through the Company menu");
+        } catch (Exception e) {
+            LoggerUtil.logError(logger, "Failed to navigate to Careers page through the Company menu", e);
+            captureFailure(e, "careers_menu_navigation_error");
+            throw new HomePageException("Failed to navigate to Careers page through the Company menu", "Navigation", "Careers Page", e);
+        }
+    }
+
     /**
      * Click on Careers link from Company dropdown
      */
@@ -103,13 +137,13 @@ public class HomePage extends BasePage {
         try {
             Assert.assertTrue(isCompanyMenuDisplayed(), "Company menu is not displayed, cannot click Careers link");
             hoverOverCompanyMenu();
-            Assert.assertTrue(isCareersLinkDisplayed(), "Careers link is not displayed after hovering over Company menu");
+            Assert.assertTrue(isElementDisplayed(careersLinkLocator, CAREERS_LINK), "Careers link is not displayed after hovering over Company menu");
             scrollToElement(careersLinkLocator, CAREERS_LINK);
             clickElement(careersLinkLocator, CAREERS_LINK);
             LoggerUtil.logInfo(logger, "Clicked on Careers link");
         } catch (Exception e) {
             LoggerUtil.logError(logger, "Failed to click on Careers link", e);
-            takeScreenshot("careers_link_click_error");
+            captureFailure(e, "careers_link_click_error");
             throw new HomePageException("Failed to click on Careers link", "Click", CAREERS_LINK, e);
         }
     }
@@ -125,7 +159,7 @@ public class HomePage extends BasePage {
             waitForElementVisible(careersLinkLocator, CAREERS_LINK);
         } catch (Exception e) {
             LoggerUtil.logError(logger, "Failed to hover over " + COMPANY_MENU, e);
-            takeScreenshot("company_menu_hover_error");
+            captureFailure(e, "company_menu_hover_error");
             throw new HomePageException("Failed to hover over " + COMPANY_MENU, "Hover", COMPANY_MENU, e);
         }
     }
@@ -152,4 +186,9 @@ public class HomePage extends BasePage {
         }
     }
 
+    @Override
+    protected String getPageKey() {
+        return "home";
+    }
+
 }
\ No newline at end of file
@@ -1,9 +1,15 @@
 package com.insider.pages;
 
 import com.insider.constants.Locators;
+import com.insider.events.ResultEventStream;
 import com.insider.exceptions.QACareersPageException;
+import com.insider.jobs.JobPosting;
+import com.insider.jobs.JobSnapshotDiff;
+import com.insider.jobs.JobSnapshotStore;
 import com.insider.utils.ConfigManager;
 import com.insider.utils.LoggerUtil;
+import com.insider.utils.StrategyMemory;
+import com.insider.utils.ValidationCache;
 import com.insider.utils.WebDriverFactory;
 import org.apache.logging.log4j.Logger;
 import org.openqa.selenium.By;
@@ -13,8 +19,14 @@ import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.Select;
 import org.testng.Assert;
 
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
 
 /**
  * Page Object Model for Insider QA Careers Page
@@ -22,6 +34,8 @@ import java.util.Set;
 public class QACareersPage extends BasePage {
     private static final Logger logger = LoggerUtil.getLogger(QACareersPage.class);
     private final ConfigManager config = ConfigManager.getInstance();
+    private final ValidationCache validationCache = ValidationCache.getInstance();
+    private final StrategyMemory strategyMemory = StrategyMemory.getInstance();
 
     private static final String SEE_ALL_QA_JOBS_BUTTON = "See All QA Jobs Button";
     private static final String JOB_LIST_CONTAINER = "Job List Container";
@@ -31,28 +45,46 @@ public class QACareersPage extends BasePage {
     private static final String VIEW_ROLE_BUTTON = "View Role Button";
     private static final String LEVER_APPLICATION_FORM = "Lever Application Form";
     private static final String ACTUAL_TEXT_PREFIX = ", Actual: ";
+    private static final String JOB_DATA_CACHE_KEY = "qa.jobs.data";
+    private static final String STANDARD_STRATEGY = "select";
+    private static final String ALTERNATIVE_STRATEGY = "option-click";
+    private static final String JOB_POSTINGS_SCRIPT = """
+            const [cardSelector, positionSelector, departmentSelector, locationSelector, linkSelector] = arguments;
+            const text = (card, selector) => {
+                const element = card.querySelector(selector);
+                return element ? element.innerText.replace(/\\s+/g, ' ').trim() : '';
+            };
+            return Array.from(document.querySelectorAll(cardSelector)).map(card => {
+                const link = card.querySelector(linkSelector);
+                return [link ? link.href : '', text(card, positionSelector), text(card, departmentSelector), text(card, locationSelector)];
+            });
+            """;
     
-    private final By seeAllQaJobsButtonLocator = By.xpath(Locators.QA_SEE_ALL_JOBS_BUTTON);
-    private final By jobListContainerLocator = By.cssSelector(Locators.JOB_LIST_CONTAINER);
-    private final By jobCardLocator = By.cssSelector(Locators.JOB_CARD);
-    private final By jobPositionLocator = By.cssSelector(Locators.JOB_POSITION);
-    private final By jobDepartmentLocator = By.cssSelector(Locators.JOB_DEPARTMENT);
-    private final By jobLocationLocator = By.cssSelector(Locators.JOB_LOCATION);
-    private final By viewRoleButtonLocator = By.xpath(Locators.VIEW_ROLE_BUTTON);
-    private final By locationFilterDropdownLocator = By.cssSelector(Locators.LOCATION_FILTER_DROPDOWN);
-    private final By departmentFilterDropdownLocator = By.cssSelector(Locators.DEPARTMENT_FILTER_DROPDOWN);
+    private final By seeAllQaJobsButtonLocator = locatorRegistry.get(Locators.QA_SEE_ALL_JOBS_BUTTON);
+    private final By jobListContainerLocator = locatorRegistry.get(Locators.JOB_LIST_CONTAINER);
+    private final By jobCardLocator = locatorRegistry.get(Locators.JOB_CARD);
+    private final By jobPositionLocator = locatorRegistry.get(Locators.JOB_POSITION);
+    private final By jobDepartmentLocator = locatorRegistry.get(Locators.JOB_DEPARTMENT);
+    private final By jobLocationLocator = locatorRegistry.get(Locators.JOB_LOCATION);
+    private final By viewRoleButtonLocator = locatorRegistry.get(Locators.VIEW_ROLE_BUTTON);
+    private final By locationFilterDropdownLocator = locatorRegistry.get(Locators.LOCATION_FILTER_DROPDOWN);
+    private final By departmentFilterDropdownLocator = locatorRegistry.get(Locators.DEPARTMENT_FILTER_DROPDOWN);
+    private String appliedLocation = "";
+    private String appliedDepartment = "";
 
     /**
      * Navigate to QA careers page
      */
     public void navigateToQACareersPage() {
         try {
+            // The job listing is fingerprinted while the page loads, the job data validation reads the result
+            validationCache.prefetch(config.getQaJobsFingerprintUrl());
             WebDriverFactory.navigateTo(config.getQaCareersUrl());
             waitForPageLoad();
             LoggerUtil.logInfo(logger, "Navigated to QA careers page: " + config.getQaCareersUrl());
         } catch (Exception e) {
             LoggerUtil.logError(logger, "Failed to navigate to QA careers page", e);
-            takeScreenshot("qa_careers_navigation_error");
+            captureFailure(e, "qa_careers_navigation_error");
             throw new QACareersPageException("Failed to navigate to QA careers page", "Navigation", "QA Careers Page", e);
         }
     }
@@ -68,7 +100,7 @@ public class QACareersPage extends BasePage {
             LoggerUtil.logInfo(logger, "Clicked on 'See all QA jobs' button");
         } catch (Exception e) {
             LoggerUtil.logError(logger, "Failed to click 'See all QA jobs' button", e);
-            takeScreenshot("see_all_qa_jobs_error");
+            captureFailure(e, "see_all_qa_jobs_error");
             throw new QACareersPageException("Failed to click 'See all QA jobs' button", "Click", SEE_ALL_QA_JOBS_BUTTON, e);
         }
     }
@@ -77,16 +109,27 @@ public class QACareersPage extends BasePage {
      * Apply both location and department filters
      */
     public void applyJobFilters() {
+        applyJobFilters(config.getLocationFilter(), config.getDepartmentFilter());
+    }
+
+    /**
+     * Apply both location and department filters with the given values
+     * @param location location to filter by
+     * @param department department to filter by
+     */
+    public void applyJobFilters(String location, String department) {
         try {
             LoggerUtil.logInfo(logger, "Applying job filters...");
             Thread.sleep(5000);
-            filterByLocation(config.getLocationFilter());
-            filterByDepartment(config.getDepartmentFilter());
+            filterByLocation(location);
+            filterByDepartment(department);
+            appliedLocation = location;
+            appliedDepartment = department;
 
             LoggerUtil.logInfo(logger, "Applied both location and department filters successfully");
         } catch (Exception e) {
             LoggerUtil.logError(logger, "Failed to apply job filters", e);
-            takeScreenshot("job_filters_error");
+            captureFailure(e, "job_filters_error");
             throw new QACareersPageException("Failed to apply job filters", "Filter", "Job Filters", e);
         }
     }
@@ -98,15 +141,15 @@ public class QACareersPage extends BasePage {
      */
     public void filterByLocation(String location) {
         try {
-            boolean filterApplied = applyStandardLocationFilter(location);
-            if (!filterApplied) {
-                applyAlternativeLocationFilter(location);
-            }
+            Map<String, Callable<Boolean>> strategies = new LinkedHashMap<>();
+            strategies.put(STANDARD_STRATEGY, () -> applyStandardLocationFilter(location));
+            strategies.put(ALTERNATIVE_STRATEGY, () -> applyAlternativeLocationFilter(location));
+            strategyMemory.apply(getPageKey() + ".location-filter", strategies);
             waitForFilterToApply();
             LoggerUtil.logInfo(logger, "Applied location filter: " + location);
         } catch (Exception e) {
             LoggerUtil.logError(logger, "Failed to apply location filter: " + location, e);
-            takeScreenshot("location_filter_error");
+            captureFailure(e, "location_filter_error");
             throw new QACareersPageException("Failed to apply location filter: " + location, "Filter", LOCATION_FILTER_DROPDOWN, e);
         }
     }
@@ -119,13 +162,13 @@ public class QACareersPage extends BasePage {
     private boolean applyStandardLocationFilter(String location) {
         try {
             clickElementWithJS(locationFilterDropdownLocator, LOCATION_FILTER_DROPDOWN);
-            waitForElementClickable(By.xpath(String.format(Locators.LOCATION_FILTER_OPTION, location)), "Location Option: " + location);
+            waitForElementClickable(locatorRegistry.get(Locators.LOCATION_FILTER_OPTION, location), "Location Option: " + location);
             WebElement locationDropdown = waitForElementVisible(locationFilterDropdownLocator, LOCATION_FILTER_DROPDOWN);
             Select select = new Select(locationDropdown);
             select.selectByVisibleText(location);
             return true;
         } catch (Exception e) {
-            LoggerUtil.logWarning(logger, "Standard location filter approach failed, trying alternative methods");
+            LoggerUtil.logWarning(logger, "Standard location filter approach failed");
             return false;
         }
     }
@@ -133,10 +176,12 @@ public class QACareersPage extends BasePage {
     /**
      * Apply alternative location filter by finding clickable elements with location text
      * @param location location to filter by
+     * @return true if the dropdown now has the location selected
      */
-    private void applyAlternativeLocationFilter(String location) {
-        By alternativeLocationLocator = By.xpath(String.format(Locators.LOCATION_FILTER_OPTION, location));
+    private boolean applyAlternativeLocationFilter(String location) {
+        By alternativeLocationLocator = locatorRegistry.get(Locators.LOCATION_FILTER_OPTION, location);
         clickElement(alternativeLocationLocator, "Alternative Location Filter: " + location);
+        return isOptionSelected(locationFilterDropdownLocator, LOCATION_FILTER_DROPDOWN, location);
     }
 
     /**
@@ -158,17 +203,16 @@ public class QACareersPage extends BasePage {
                 return;
             }
             
-            boolean filterApplied = applyStandardDepartmentFilter(department);
-            
-            if (!filterApplied) {
-                applyAlternativeDepartmentFilter(department);
-            }
-            
+            Map<String, Callable<Boolean>> strategies = new LinkedHashMap<>();
+            strategies.put(STANDARD_STRATEGY, () -> applyStandardDepartmentFilter(department));
+            strategies.put(ALTERNATIVE_STRATEGY, () -> applyAlternativeDepartmentFilter(department));
+            strategyMemory.apply(getPageKey() + ".department-filter", strategies);
+
             waitForFilterToApply();
             LoggerUtil.logInfo(logger, "Applied department filter: " + department);
         } catch (Exception e) {
             LoggerUtil.logError(logger, "Failed to apply department filter: " + department, e);
-            takeScreenshot("department_filter_error");
+            captureFailure(e, "department_filter_error");
             throw new QACareersPageException("Failed to apply department filter: " + department, "Filter", DEPARTMENT_FILTER_DROPDOWN, e);
         }
     }
@@ -216,7 +260,7 @@ public class QACareersPage extends BasePage {
             select.selectByVisibleText(department);
             return true;
         } catch (Exception e) {
-            LoggerUtil.logWarning(logger, "Standard department filter approach failed, trying alternative methods");
+            LoggerUtil.logWarning(logger, "Standard department filter approach failed");
             return false;
         }
     }
@@ -224,10 +268,34 @@ public class QACareersPage extends BasePage {
     /**
      * Apply alternative department filter by finding clickable elements with department text
      * @param department department to filter by
+     * @return true if the dropdown now has the department selected
      */
-    private void applyAlternativeDepartmentFilter(String department) {
-        By alternativeDepartmentLocator = By.xpath(String.format(Locators.DEPARTMENT_FILTER_OPTION, department));
+    private boolean applyAlternativeDepartmentFilter(String department) {
+        By alternativeDepartmentLocator = locatorRegistry.get(Locators.DEPARTMENT_FILTER_OPTION, department);
         clickElement(alternativeDepartmentLocator, "Alternative Department Filter: " + department);
+        return isOptionSelected(departmentFilterDropdownLocator, DEPARTMENT_FILTER_DROPDOWN, department);
+    }
+
+    /**
+     * Check if a filter dropdown has the given value selected
+     * @param dropdownLocator locator of the filter select element
+     * @param dropdownName name of the dropdown for logging
+     * @param value expected option text
+     * @return true if the selected option text contains the value
+     */
+    private boolean isOptionSelected(By dropdownLocator, String dropdownName, String value) {
+        try {
+            WebElement dropdown = waitForElementVisible(dropdownLocator, dropdownName);
+            String currentSelection = new Select(dropdown).getFirstSelectedOption().getText();
+            if (currentSelection.toLowerCase().contains(value.toLowerCase())) {
+                return true;
+            }
+            LoggerUtil.logWarning(logger, dropdownName + " still shows '" + currentSelection + "' after clicking '" + value + "'");
+            return false;
+        } catch (Exception e) {
+            LoggerUtil.logWarning(logger, "Could not verify the " + dropdownName + " selection: " + e.getMessage());
+            return false;
+        }
     }
 
     /**
@@ -245,7 +313,7 @@ public class QACareersPage extends BasePage {
             LoggerUtil.logAssertion(logger, "Job list is displayed with " + jobCards.size() + " job cards");
         } catch (Exception e) {
             LoggerUtil.logError(logger, "Job list verification failed", e);
-            takeScreenshot("job_list_verification_error");
+            captureFailure(e, "job_list_verification_error");
             throw new QACareersPageException("Job list verification failed", "Verification", JOB_LIST_CONTAINER, e);
         }
     }
@@ -258,17 +326,76 @@ public class QACareersPage extends BasePage {
         return getAllJobCards().size();
     }
 
+    /**
+     * Extract position, department, location and posting URL of every listed job with one script call
+     * @return job postings in listing order
+     */
+    public List<JobPosting> extractJobPostings() {
+        try {
+            waitForElementVisible(jobListContainerLocator, JOB_LIST_CONTAINER);
+            Object result = ((JavascriptExecutor) driver).executeScript(JOB_POSTINGS_SCRIPT, Locators.JOB_CARD,
+                    Locators.JOB_POSITION, Locators.JOB_DEPARTMENT, Locators.JOB_LOCATION, Locators.JOB_POSTING_LINK);
+            List<JobPosting> postings = new ArrayList<>();
+            if (result instanceof List<?> cards) {
+                for (Object card : cards) {
+                    List<?> fields = (List<?>) card;
+                    postings.add(new JobPosting((String) fields.get(0), (String) fields.get(1), (String) fields.get(2), (String) fields.get(3)));
+                }
+            }
+            LoggerUtil.logInfo(logger, "Extracted " + postings.size() + " job postings");
+            return postings;
+        } catch (Exception e) {
+            LoggerUtil.logError(logger, "Failed to extract job postings", e);
+            captureFailure(e, "job_postings_extraction_error");
+            throw new QACareersPageException("Failed to extract job postings", "Extraction", JOB_CARD, e);
+        }
+    }
+
+    /**
+     * Store the listed jobs as the snapshot of a filter combination and report the postings that appeared,
+     * disappeared or changed since the previous run. Changes are reported, not failed.
+     * @param location applied location filter
+     * @param department applied department filter
+     * @return diff with the previous snapshot, null when job snapshots are disabled or could not be extracted or written
+     */
+    public JobSnapshotDiff recordJobSnapshot(String location, String department) {
+        if (!config.isJobSnapshotEnabled()) {
+            return null;
+        }
+        String filterKey = location + " / " + department;
+        try {
+            JobSnapshotDiff diff = new JobSnapshotStore(Paths.get(config.getJobSnapshotDir())).record(filterKey, extractJobPostings());
+            LoggerUtil.logInfo(logger, "Job snapshot " + diff);
+            diff.getAdded().forEach(posting -> LoggerUtil.logInfo(logger, "  added: " + posting));
+            diff.getRemoved().forEach(posting -> LoggerUtil.logInfo(logger, "  removed: " + posting));
+            diff.getChanged().forEach(change -> LoggerUtil.logInfo(logger, "  changed: " + change.before() + " -> " + change.after()));
+            ResultEventStream.getInstance().emit("jobs.diff", Map.of("filter", filterKey, "firstSnapshot", diff.isFirstSnapshot(),
+                    "added", diff.getAdded().size(), "removed", diff.getRemoved().size(), "changed", diff.getChanged().size(),
+                    "postings", diff.getCurrentCount()));
+            return diff;
+        } catch (IOException | QACareersPageException e) {
+            LoggerUtil.logWarning(logger, "Could not record job snapshot for " + filterKey + ": " + e.getMessage());
+            return null;
+        }
+    }
+
     /**
      * Validate all jobs contain expected position, department, and location
      */
     public void validateAllJobData() {
         try {
-            List<WebElement> jobCards = getAllJobCards();
-            Assert.assertFalse(jobCards.isEmpty(), "No job cards found for validation");
-            
             String expectedPosition = config.getExpectedPositionText();
             String expectedDepartment = config.getExpectedDepartmentText();
             String expectedLocation = config.getExpectedLocationText();
+            // A pass only holds for the listing it was made against, so the applied filters are part of the key
+            String cacheKey = JOB_DATA_CACHE_KEY + "[" + appliedLocation + "/" + appliedDepartment + "]["
+                    + expectedPosition + "/" + expectedDepartment + "/" + expectedLocation + "]";
+            if (validationCache.isCachedPass(cacheKey, config.getQaJobsFingerprintUrl())) {
+                return;
+            }
+
+            List<WebElement> jobCards = getAllJobCards();
+            Assert.assertFalse(jobCards.isEmpty(), "No job cards found for validation");
             
             int validJobs = 0;
             int totalJobs = jobCards.size();
@@ -278,11 +405,12 @@ public class QACareersPage extends BasePage {
                 validateJob(jobCard, i + 1, expectedPosition, expectedDepartment, expectedLocation);
                 validJobs++;
             }
+            validationCache.recordPass(cacheKey, config.getQaJobsFingerprintUrl());
             
             LoggerUtil.logAssertion(logger, "All " + validJobs + " jobs validated successfully. Position contains '" + expectedPosition + "', Department contains '" + expectedDepartment + "', Location contains '" + expectedLocation + "'");
         } catch (Exception e) {
             LoggerUtil.logError(logger, "Job data validation failed", e);
-            takeScreenshot("job_data_validation_error");
+            captureFailure(e, "job_data_validation_error");
             throw new QACareersPageException("Job data validation failed", "Validation", "Job Data", e);
         }
     }
@@ -319,7 +447,7 @@ public class QACareersPage extends BasePage {
 
         } catch (Exception e) {
             LoggerUtil.logError(logger, "Failed to validate job " + jobNumber, e);
-            takeScreenshot("job_validation_error_" + jobNumber);
+            captureFailure(e, "job_validation_error_" + jobNumber);
             throw e;
         }
     }
@@ -342,7 +470,7 @@ public class QACareersPage extends BasePage {
             throw new QACareersPageException("No View Role button found in any job card", "Click", VIEW_ROLE_BUTTON);
         } catch (Exception e) {
             LoggerUtil.logError(logger, "Failed to click View Role button", e);
-            takeScreenshot("view_role_click_error");
+            captureFailure(e, "view_role_click_error");
             throw new QACareersPageException("Failed to click View Role button", "Click", VIEW_ROLE_BUTTON, e);
         }
     }
@@ -359,7 +487,7 @@ public class QACareersPage extends BasePage {
             return jobCards;
         } catch (Exception e) {
             LoggerUtil.logError(logger, "Failed to get job cards", e);
-            takeScreenshot("get_job_cards_error");
+            captureFailure(e, "get_job_cards_error");
             throw new QACareersPageException("Failed to get job cards", "Retrieval", JOB_CARD, e);
         }
     }
@@ -408,14 +536,19 @@ public class QACareersPage extends BasePage {
             String currentUrl = driver.getCurrentUrl();
             Assert.assertTrue(currentUrl.contains("jobs.lever.co"), "Not redirected to Lever application form. Expected URL to contain 'jobs.lever.co', Actual: " + currentUrl);
             
-            boolean isFormDisplayed = isElementDisplayed(By.cssSelector(Locators.LEVER_APPLICATION_FORM), LEVER_APPLICATION_FORM);
+            boolean isFormDisplayed = isElementDisplayed(locatorRegistry.get(Locators.LEVER_APPLICATION_FORM), LEVER_APPLICATION_FORM);
             Assert.assertTrue(isFormDisplayed, "Lever application form is not displayed");
             
             LoggerUtil.logAssertion(logger, "Successfully redirected to Lever application form: " + currentUrl);
         } catch (Exception e) {
             LoggerUtil.logError(logger, "Lever application redirect verification failed", e);
-            takeScreenshot("lever_redirect_error");
+            captureFailure(e, "lever_redirect_error");
             throw new QACareersPageException("Lever application redirect verification failed", "Verification", LEVER_APPLICATION_FORM, e);
         }
     }
+
+    @Override
+    protected String getPageKey() {
+        return "qa.careers";
+    }
 }
\ No newline at end of file
@@ -0,0 +1,150 @@
+package com.insider.replay;
+
+import com.insider.exceptions.ReplayServerException;
+import com.insider.utils.LoggerUtil;
+import org.apache.logging.log4j.Logger;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * In-memory store of recorded exchanges with a compact gzip-compressed binary file format
+ */
+public class ExchangeStore {
+    private static final Logger logger = LoggerUtil.getLogger(ExchangeStore.class);
+    private static final int MAGIC = 0x49525031;
+    private static final int VERSION = 1;
+
+    private final Map<String, RecordedExchange> exchanges = new ConcurrentHashMap<>();
+
+    /**
+     * Add an exchange, the first recording of a request is kept so replays stay deterministic
+     * @param exchange recorded exchange
+     */
+    public void add(RecordedExchange exchange) {
+        exchanges.putIfAbsent(exchange.getKey(), exchange);
+    }
+
+    /**
+     * Find the recorded exchange of a request
+     * @param method HTTP method
+     * @param url URL without scheme
+     * @return recorded exchange if present
+     */
+    public Optional<RecordedExchange> find(String method, String url) {
+        return Optional.ofNullable(exchanges.get(RecordedExchange.keyOf(method, url)));
+    }
+
+    /**
+     * Get number of recorded exchanges
+     * @return exchange count
+     */
+    public int size() {
+        return exchanges.size();
+    }
+
+    /**
+     * Get all recorded exchanges
+     * @return recorded exchanges
+     */
+    public Collection<RecordedExchange> getExchanges() {
+        return List.copyOf(exchanges.values());
+    }
+
+    /**
+     * Write all exchanges to a fixture file
+     * @param file fixture file
+     */
+    public void save(Path file) {
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(new GZIPOutputStream(Files.newOutputStream(file))))) {
+                output.writeInt(MAGIC);
+                output.writeInt(VERSION);
+                output.writeInt(exchanges.size());
+                for (RecordedExchange exchange : exchanges.values()) {
+                    writeExchange(output, exchange);
+                }
+            }
+            LoggerUtil.logInfo(logger, "Saved " + exchanges.size() + " recorded exchanges to: " + file);
+        } catch (IOException e) {
+            throw new ReplayServerException("Failed to save recorded exchanges", "SAVE", file.toString(), e);
+        }
+    }
+
+    /**
+     * Load exchanges from a fixture file
+     * @param file fixture file
+     * @return store with the loaded exchanges
+     */
+    public static ExchangeStore load(Path file) {
+        ExchangeStore store = new ExchangeStore();
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(new GZIPInputStream(Files.newInputStream(file))))) {
+            if (input.readInt() != MAGIC || input.readInt() != VERSION) {
+                throw new IOException("Unsupported fixture format");
+            }
+            int count = input.readInt();
+            for (int i = 0; i < count; i++) {
+                store.add(readExchange(input));
+            }
+            LoggerUtil.logInfo(logger, "Loaded " + count + " recorded exchanges from: " + file);
+            return store;
+        } catch (IOException e) {
+            throw new ReplayServerException("Failed to load recorded exchanges", "LOAD", file.toString(), e);
+        }
+    }
+
+    private static void writeExchange(DataOutputStream output, RecordedExchange exchange) throws IOException {
+        output.writeUTF(exchange.getMethod());
+        output.writeUTF(exchange.getUrl());
+        output.writeShort(exchange.getStatus());
+        output.writeInt(exchange.getDurationMillis());
+        output.writeShort(exchange.getHeaders().size());
+        for (Map.Entry<String, List<String>> header : exchange.getHeaders().entrySet()) {
+            output.writeUTF(header.getKey());
+            output.writeShort(header.getValue().size());
+            for (String value : header.getValue()) {
+                output.writeUTF(value);
+            }
+        }
+        output.writeInt(exchange.getBody().length);
+        output.write(exchange.getBody());
+    }
+
+    private static RecordedExchange readExchange(DataInputStream input) throws IOException {
+        String method = input.readUTF();
+        String url = input.readUTF();
+        int status = input.readUnsignedShort();
+        int durationMillis = input.readInt();
+        int headerCount = input.readUnsignedShort();
+        Map<String, List<String>> headers = new LinkedHashMap<>();
+        for (int i = 0; i < headerCount; i++) {
+            String name = input.readUTF();
+            int valueCount = input.readUnsignedShort();
+            List<String> values = new ArrayList<>(valueCount);
+            for (int j = 0; j < valueCount; j++) {
+                values.add(input.readUTF());
+            }
+            headers.put(name, values);
+        }
+        byte[] body = new byte[input.readInt()];
+        input.readFully(body);
+        return new RecordedExchange(method, url, status, headers, body, durationMillis);
+    }
+}
@@ -0,0 +1,56 @@
+package com.insider.replay;
+
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A single recorded HTTP request and response pair
+ */
+@Getter
+public class RecordedExchange {
+
+    private final String method;
+    private final String url;
+    private final int status;
+    private final Map<String, List<String>> headers;
+    private final byte[] body;
+    private final int durationMillis;
+
+    /**
+     * Constructor for RecordedExchange
+     * @param method HTTP method
+     * @param url upstream URL without scheme (host, path and query)
+     * @param status response status code
+     * @param headers response headers kept for replay
+     * @param body response body
+     * @param durationMillis upstream response time when recorded
+     */
+    public RecordedExchange(String method, String url, int status, Map<String, List<String>> headers, byte[] body, int durationMillis) {
+        this.method = method;
+        this.url = url;
+        this.status = status;
+        this.headers = headers;
+        this.body = body;
+        this.durationMillis = durationMillis;
+    }
+
+    /**
+     * Get lookup key of the exchange
+     * @return key built from method and URL
+     */
+    public String getKey() {
+        return keyOf(method, url);
+    }
+
+    /**
+     * Build lookup key for a request
+     * @param method HTTP method
+     * @param url URL without scheme
+     * @return lookup key
+     */
+    public static String keyOf(String method, String url) {
+        return method + " " + url;
+    }
+}
@@ -0,0 +1,323 @@
+package com.insider.replay;
+
+import com.insider.exceptions.ReplayServerException;
+import com.insider.utils.ConfigManager;
+import com.insider.utils.LoggerUtil;
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.ProxySelector;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Embedded HTTP proxy that records every exchange of a journey against the live sites
+ * and replays them locally for network-free, deterministic runs.
+ * The browser and Java HTTP clients use it as an HTTP proxy; HTTPS URLs are served over
+ * plain HTTP so no TLS interception is needed.
+ */
+public class ReplayServer {
+
+    /**
+     * Operating mode of the fixture server
+     */
+    public enum Mode {
+        OFF,
+        RECORD,
+        REPLAY;
+
+        public static Mode from(String value) {
+            return value == null || value.isBlank() ? OFF : Mode.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        }
+    }
+
+    // Private constructor to prevent instantiation
+    private ReplayServer() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    private static final Logger logger = LoggerUtil.getLogger(ReplayServer.class);
+    private static final String LOOPBACK = "127.0.0.1";
+    private static final Set<String> FORWARDED_REQUEST_HEADERS = Set.of(
+            "accept", "accept-language", "user-agent", "cookie", "content-type", "referer", "origin");
+    private static final Set<String> RECORDED_RESPONSE_HEADERS = Set.of(
+            "content-type", "content-encoding", "location", "set-cookie", "cache-control", "etag", "last-modified");
+    private static final List<String> TEXT_CONTENT_TYPES = List.of("text/", "javascript", "json", "xml");
+
+    private static HttpServer server;
+    private static HttpClient upstreamClient;
+    private static ExchangeStore store;
+    private static Mode mode = Mode.OFF;
+    private static Path fixtureFile;
+
+    /**
+     * Start the fixture server in the configured mode, does nothing when the mode is OFF
+     */
+    public static synchronized void start() {
+        ConfigManager config = ConfigManager.getInstance();
+        Mode configuredMode = Mode.from(config.getReplayMode());
+        if (configuredMode == Mode.OFF || server != null) {
+            return;
+        }
+
+        fixtureFile = Paths.get(config.getReplayFixtureFile());
+        try {
+            if (configuredMode == Mode.REPLAY) {
+                if (!Files.exists(fixtureFile)) {
+                    throw new IOException("Fixture file not found, run once with replay.mode=record");
+                }
+                store = ExchangeStore.load(fixtureFile);
+            } else {
+                store = new ExchangeStore();
+                upstreamClient = HttpClient.newBuilder()
+                        .followRedirects(HttpClient.Redirect.NEVER)
+                        .connectTimeout(Duration.ofSeconds(config.getExplicitWait()))
+                        .build();
+            }
+
+            server = HttpServer.create(new InetSocketAddress(LOOPBACK, config.getReplayPort()), 0);
+            server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+            server.createContext("/", ReplayServer::handle);
+            server.start();
+            mode = configuredMode;
+            config.setReplayRouting(true);
+            LoggerUtil.logInfo(logger, "Replay server started in " + mode + " mode on port " + config.getReplayPort());
+        } catch (IOException e) {
+            LoggerUtil.logError(logger, "Failed to start replay server", e);
+            throw new ReplayServerException("Failed to start replay server", "START", fixtureFile.toString(), e);
+        }
+    }
+
+    /**
+     * Stop the fixture server, recorded exchanges are written to the fixture file in record mode
+     */
+    public static synchronized void stop() {
+        if (server == null) {
+            return;
+        }
+        server.stop(0);
+        ConfigManager.getInstance().setReplayRouting(false);
+        if (mode == Mode.RECORD) {
+            store.save(fixtureFile);
+        }
+        LoggerUtil.logInfo(logger, "Replay server stopped");
+        server = null;
+        upstreamClient = null;
+        store = null;
+        mode = Mode.OFF;
+    }
+
+    /**
+     * Check if the fixture server is running
+     * @return true if running
+     */
+    public static boolean isRunning() {
+        return server != null;
+    }
+
+    /**
+     * Get proxy address the browser should use
+     * @return proxy address in host:port form
+     */
+    public static String getProxyAddress() {
+        return LOOPBACK + ":" + ConfigManager.getInstance().getReplayPort();
+    }
+
+    /**
+     * Route a Java HTTP client through the fixture server when it is running
+     * @param builder HTTP client builder
+     * @return the same builder
+     */
+    public static HttpClient.Builder applyProxy(HttpClient.Builder builder) {
+        if (isRunning()) {
+            builder.proxy(ProxySelector.of(new InetSocketAddress(LOOPBACK, ConfigManager.getInstance().getReplayPort())));
+        }
+        return builder;
+    }
+
+    /**
+     * Get the URI a Java HTTP client sends through the fixture server. The server does not tunnel CONNECT,
+     * so while it runs HTTPS URLs are requested over plain HTTP; it forwards and records them as HTTPS.
+     * @param uri URI to request
+     * @return URI to send, unchanged when the server is not running
+     */
+    public static URI route(URI uri) {
+        if (!isRunning() || !"https".equalsIgnoreCase(uri.getScheme())) {
+            return uri;
+        }
+        return URI.create("http" + uri.toString().substring("https".length()));
+    }
+
+    /**
+     * Handle one proxied request
+     */
+    private static void handle(HttpExchange exchange) {
+        try {
+            String method = exchange.getRequestMethod();
+            String url = upstreamUrl(exchange);
+            RecordedExchange recorded = mode == Mode.RECORD
+                    ? record(exchange, method, url)
+                    : store.find(method, url).orElse(null);
+
+            if (recorded == null) {
+                LoggerUtil.logWarning(logger, "No recorded exchange for: " + method + " " + url);
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+            injectLatency(recorded);
+            respond(exchange, recorded);
+        } catch (Exception e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            LoggerUtil.logError(logger, "Replay server failed to handle request: " + exchange.getRequestURI(), e);
+            sendBadGateway(exchange);
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Report a failed exchange to the client if no response was sent yet
+     */
+    private static void sendBadGateway(HttpExchange exchange) {
+        try {
+            exchange.sendResponseHeaders(502, -1);
+        } catch (IOException e) {
+            LoggerUtil.logWarning(logger, "Response already started for: " + exchange.getRequestURI());
+        }
+    }
+
+    /**
+     * Forward a request to the live site over HTTPS and record the exchange
+     */
+    private static RecordedExchange record(HttpExchange exchange, String method, String url) throws IOException, InterruptedException {
+        byte[] requestBody = exchange.getRequestBody().readAllBytes();
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create("https://" + url))
+                .timeout(Duration.ofSeconds(ConfigManager.getInstance().getPageLoadTimeout()))
+                .method(method, requestBody.length > 0
+                        ? HttpRequest.BodyPublishers.ofByteArray(requestBody)
+                        : HttpRequest.BodyPublishers.noBody());
+        exchange.getRequestHeaders().forEach((name, values) -> {
+            if (FORWARDED_REQUEST_HEADERS.contains(name.toLowerCase(Locale.ROOT))) {
+                values.forEach(value -> request.header(name, toHttps(value)));
+            }
+        });
+
+        long start = System.nanoTime();
+        HttpResponse<byte[]> response = upstreamClient.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+        int durationMillis = (int) Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+        Map<String, List<String>> headers = new LinkedHashMap<>();
+        response.headers().map().forEach((name, values) -> {
+            if (RECORDED_RESPONSE_HEADERS.contains(name.toLowerCase(Locale.ROOT))) {
+                headers.put(name, new ArrayList<>(values));
+            }
+        });
+
+        RecordedExchange recorded = new RecordedExchange(method, url, response.statusCode(), headers, response.body(), durationMillis);
+        store.add(recorded);
+        return recorded;
+    }
+
+    /**
+     * Write a recorded exchange to the client, rewriting HTTPS references to HTTP
+     */
+    private static void respond(HttpExchange exchange, RecordedExchange recorded) throws IOException {
+        Headers responseHeaders = exchange.getResponseHeaders();
+        String contentType = "";
+        boolean encoded = false;
+        for (Map.Entry<String, List<String>> header : recorded.getHeaders().entrySet()) {
+            String name = header.getKey().toLowerCase(Locale.ROOT);
+            for (String value : header.getValue()) {
+                switch (name) {
+                    case "location" -> responseHeaders.add(header.getKey(), toHttp(value));
+                    case "set-cookie" -> responseHeaders.add(header.getKey(), value.replaceAll("(?i);\\s*secure", "").replaceAll("(?i);\\s*samesite=none", ""));
+                    case "content-encoding" -> {
+                        encoded = true;
+                        responseHeaders.add(header.getKey(), value);
+                    }
+                    case "content-type" -> {
+                        contentType = value.toLowerCase(Locale.ROOT);
+                        responseHeaders.add(header.getKey(), value);
+                    }
+                    default -> responseHeaders.add(header.getKey(), value);
+                }
+            }
+        }
+
+        byte[] body = recorded.getBody();
+        if (!encoded && isText(contentType)) {
+            body = toHttp(new String(body, StandardCharsets.UTF_8)).getBytes(StandardCharsets.UTF_8);
+        }
+        boolean noBody = body.length == 0 || recorded.getStatus() == 204 || recorded.getStatus() == 304;
+        exchange.sendResponseHeaders(recorded.getStatus(), noBody ? -1 : body.length);
+        if (!noBody) {
+            try (OutputStream output = exchange.getResponseBody()) {
+                output.write(body);
+            }
+        }
+    }
+
+    /**
+     * Delay a replayed response by the configured latency
+     */
+    private static void injectLatency(RecordedExchange recorded) throws InterruptedException {
+        if (mode != Mode.REPLAY) {
+            return;
+        }
+        ConfigManager config = ConfigManager.getInstance();
+        long delay = config.isReplayRecordedLatency() ? recorded.getDurationMillis() : config.getReplayLatencyMillis();
+        int jitter = config.getReplayLatencyJitterMillis();
+        if (jitter > 0) {
+            delay += ThreadLocalRandom.current().nextInt(jitter + 1);
+        }
+        if (delay > 0) {
+            Thread.sleep(delay);
+        }
+    }
+
+    /**
+     * Build upstream URL without scheme from a proxy style or origin style request
+     */
+    private static String upstreamUrl(HttpExchange exchange) {
+        URI uri = exchange.getRequestURI();
+        String host = uri.getHost() != null
+                ? uri.getHost() + (uri.getPort() > 0 && uri.getPort() != 80 ? ":" + uri.getPort() : "")
+                : exchange.getRequestHeaders().getFirst("Host");
+        String path = uri.getRawPath() == null || uri.getRawPath().isEmpty() ? "/" : uri.getRawPath();
+        return host + path + (uri.getRawQuery() != null ? "?" + uri.getRawQuery() : "");
+    }
+
+    private static boolean isText(String contentType) {
+        return TEXT_CONTENT_TYPES.stream().anyMatch(contentType::contains);
+    }
+
+    private static String toHttp(String value) {
+        return value.replace("https://", "http://").replace("https:\\/\\/", "http:\\/\\/");
+    }
+
+    private static String toHttps(String value) {
+        return value.replace("http://", "https://");
+    }
+}
@@ -0,0 +1,222 @@
+package com.insider.utils;
+
+import com.insider.exceptions.CheckpointException;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.json.Json;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Saves browser state after each successful journey step and restores the nearest
+ * checkpoint into a fresh session when a later step is retried or rerun
+ */
+public class CheckpointManager {
+    private static final Logger logger = LoggerUtil.getLogger(CheckpointManager.class);
+    private static final Json JSON = new Json();
+
+    private final ConfigManager config = ConfigManager.getInstance();
+    private final List<String> steps;
+    private final Path checkpointDir;
+    private String sessionStep;
+    private boolean resumeChainIntact = true;
+
+    /**
+     * Constructor for CheckpointManager
+     * @param journeyName name of the journey, used as checkpoint sub directory
+     * @param steps ordered step names of the journey
+     */
+    public CheckpointManager(String journeyName, List<String> steps) {
+        this.steps = List.copyOf(steps);
+        this.checkpointDir = Paths.get(config.getCheckpointDir(), journeyName);
+    }
+
+    /**
+     * Check whether a step can be skipped because a rerun resumes from a later checkpoint
+     * @param stepName step name
+     * @return true if the step completed in a previous run and its checkpoint is still valid
+     */
+    public boolean shouldSkip(String stepName) {
+        if (!config.isCheckpointEnabled() || !config.isCheckpointResume() || !resumeChainIntact) {
+            return false;
+        }
+        if (load(stepName).isPresent()) {
+            LoggerUtil.logInfo(logger, "Resuming journey - step '" + stepName + "' already completed in a previous run");
+            return true;
+        }
+        resumeChainIntact = false;
+        return false;
+    }
+
+    /**
+     * Restore the checkpoint of the previous step when the live session is not at that state
+     * @param stepName step about to run
+     * @return restored checkpoint, empty if no restore was needed
+     */
+    public Optional<JourneyCheckpoint> restoreIfNeeded(String stepName) {
+        resumeChainIntact = false;
+        int index = steps.indexOf(stepName);
+        if (!config.isCheckpointEnabled() || index <= 0) {
+            return Optional.empty();
+        }
+
+        String requiredStep = steps.get(index - 1);
+        if (requiredStep.equals(sessionStep)) {
+            return Optional.empty();
+        }
+
+        JourneyCheckpoint checkpoint = load(requiredStep)
+                .orElseThrow(() -> new CheckpointException("No valid checkpoint to resume from", "RESTORE", requiredStep, null));
+        restore(checkpoint);
+        return Optional.of(checkpoint);
+    }
+
+    /**
+     * Save a checkpoint of the current browser state after a successful step. The last step completes
+     * the journey and clears its checkpoints instead, so a resumed run after a full pass starts over.
+     * @param stepName step that completed
+     * @param filters job filters applied up to this step
+     */
+    public void save(String stepName, Map<String, String> filters) {
+        sessionStep = stepName;
+        if (!config.isCheckpointEnabled()) {
+            return;
+        }
+        if (stepName.equals(steps.get(steps.size() - 1))) {
+            clear();
+            return;
+        }
+        try {
+            WebDriver driver = WebDriverFactory.getDriver();
+            JourneyCheckpoint checkpoint = new JourneyCheckpoint(stepName, System.currentTimeMillis(),
+                    driver.getCurrentUrl(), new ArrayList<>(driver.manage().getCookies()), readLocalStorage(driver), filters);
+
+            Files.createDirectories(checkpointDir);
+            Files.writeString(checkpointFile(stepName), JSON.toJson(checkpoint.toMap()));
+            LoggerUtil.logInfo(logger, "Checkpoint saved for step '" + stepName + "' at " + checkpoint.getUrl());
+        } catch (Exception e) {
+            LoggerUtil.logWarning(logger, "Failed to save checkpoint for step '" + stepName + "': " + e.getMessage());
+        }
+    }
+
+    /**
+     * Mark the live session as no longer matching any checkpoint
+     * @param stepName step that failed
+     */
+    public void markFailed(String stepName) {
+        LoggerUtil.logInfo(logger, "Step '" + stepName + "' failed, next attempt will restore from the nearest checkpoint");
+        sessionStep = null;
+    }
+
+    /**
+     * Delete the checkpoints of every step of the journey
+     */
+    private void clear() {
+        for (String step : steps) {
+            try {
+                Files.deleteIfExists(checkpointFile(step));
+            } catch (IOException e) {
+                LoggerUtil.logWarning(logger, "Failed to delete checkpoint for step '" + step + "': " + e.getMessage());
+            }
+        }
+        LoggerUtil.logInfo(logger, "Journey completed, checkpoints cleared from " + checkpointDir);
+    }
+
+    /**
+     * Restore a checkpoint into a fresh WebDriver session
+     * @param checkpoint checkpoint to restore
+     */
+    private void restore(JourneyCheckpoint checkpoint) {
+        String stepName = checkpoint.getStepName();
+        try {
+            LoggerUtil.logInfo(logger, "Restoring checkpoint of step '" + stepName + "' into a fresh session");
+            WebDriverFactory.quitDriver();
+            WebDriverFactory.initializeDriver();
+            WebDriver driver = WebDriverFactory.getDriver();
+
+            URI uri = URI.create(checkpoint.getUrl());
+            WebDriverFactory.navigateTo(uri.getScheme() + "://" + uri.getHost() + "/");
+            for (Cookie cookie : checkpoint.getCookies()) {
+                addCookieIfSameSite(driver, cookie, uri.getHost());
+            }
+            ((JavascriptExecutor) driver).executeScript(
+                    "for (const [key, value] of Object.entries(arguments[0])) { window.localStorage.setItem(key, value); }",
+                    checkpoint.getLocalStorage());
+
+            WebDriverFactory.navigateTo(checkpoint.getUrl());
+            sessionStep = stepName;
+        } catch (Exception e) {
+            LoggerUtil.logError(logger, "Failed to restore checkpoint of step '" + stepName + "'", e);
+            throw new CheckpointException("Failed to restore checkpoint", "RESTORE", stepName, e);
+        }
+    }
+
+    /**
+     * Add a cookie to the session if it belongs to the host currently loaded
+     */
+    private void addCookieIfSameSite(WebDriver driver, Cookie cookie, String host) {
+        String domain = cookie.getDomain() != null ? cookie.getDomain().replaceFirst("^\\.", "") : host;
+        if (!host.endsWith(domain)) {
+            return;
+        }
+        try {
+            driver.manage().addCookie(cookie);
+        } catch (Exception e) {
+            LoggerUtil.logWarning(logger, "Could not restore cookie: " + cookie.getName());
+        }
+    }
+
+    /**
+     * Read local storage of the current origin
+     */
+    @SuppressWarnings("unchecked")
+    private Map<String, String> readLocalStorage(WebDriver driver) {
+        Object result = ((JavascriptExecutor) driver).executeScript("return Object.assign({}, window.localStorage);");
+        Map<String, String> localStorage = new LinkedHashMap<>();
+        if (result instanceof Map<?, ?> map) {
+            ((Map<String, Object>) map).forEach((key, value) -> localStorage.put(key, String.valueOf(value)));
+        }
+        return localStorage;
+    }
+
+    /**
+     * Load a checkpoint from disk if it exists and has not expired
+     * @param stepName step name
+     * @return checkpoint if present and valid
+     */
+    private Optional<JourneyCheckpoint> load(String stepName) {
+        Path file = checkpointFile(stepName);
+        if (!Files.exists(file)) {
+            return Optional.empty();
+        }
+        try {
+            Map<String, Object> map = JSON.toType(Files.readString(file), Json.MAP_TYPE);
+            JourneyCheckpoint checkpoint = JourneyCheckpoint.fromMap(map);
+            long age = System.currentTimeMillis() - checkpoint.getCreatedAt();
+            if (age > Duration.ofMinutes(config.getCheckpointTtlMinutes()).toMillis()) {
+                LoggerUtil.logInfo(logger, "Checkpoint of step '" + stepName + "' has expired");
+                return Optional.empty();
+            }
+            return Optional.of(checkpoint);
+        } catch (IOException | RuntimeException e) {
+            LoggerUtil.logWarning(logger, "Ignoring unreadable checkpoint for step '" + stepName + "': " + e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private Path checkpointFile(String stepName) {
+        return checkpointDir.resolve(stepName + ".json");
+    }
+}
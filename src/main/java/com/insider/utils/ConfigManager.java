@@ -6,6 +6,8 @@ import org.apache.logging.log4j.Logger;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Properties;
 
 /**
@@ -22,6 +24,7 @@ public class ConfigManager {
     }
 
     private final Properties properties;
+    private volatile boolean replayRouting;
 
     private ConfigManager() {
         properties = new Properties();
@@ -47,12 +50,12 @@ public class ConfigManager {
     }
 
     /**
-     * Get property value by key
+     * Get property value by key, a JVM system property with the same key takes precedence
      * @param key property key
      * @return property value
      */
     public String getProperty(String key) {
-        return properties.getProperty(key);
+        return System.getProperty(key, properties.getProperty(key));
     }
 
     /**
@@ -62,7 +65,8 @@ public class ConfigManager {
      * @return property value or default value
      */
     public String getProperty(String key, String defaultValue) {
-        return properties.getProperty(key, defaultValue);
+        String value = getProperty(key);
+        return value != null ? value : defaultValue;
     }
 
     /**
@@ -72,7 +76,26 @@ public class ConfigManager {
      */
     public int getIntProperty(String key) {
         try {
-            return Integer.parseInt(properties.getProperty(key));
+            return Integer.parseInt(getProperty(key));
+        } catch (NumberFormatException e) {
+            logger.error("Invalid integer value for key: {}", key, e);
+            throw new ConfigManagerException("Invalid integer value for key: %s".formatted(key), "GET_INT_PROPERTY", key, e);
+        }
+    }
+
+    /**
+     * Get integer property value with default value
+     * @param key property key
+     * @param defaultValue default value if key not found
+     * @return integer value or default value
+     */
+    public int getIntProperty(String key, int defaultValue) {
+        String value = getProperty(key);
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.trim());
         } catch (NumberFormatException e) {
             logger.error("Invalid integer value for key: {}", key, e);
             throw new ConfigManagerException("Invalid integer value for key: %s".formatted(key), "GET_INT_PROPERTY", key, e);
@@ -85,7 +108,31 @@ public class ConfigManager {
      * @return boolean value
      */
     public boolean getBooleanProperty(String key) {
-        return Boolean.parseBoolean(properties.getProperty(key));
+        return Boolean.parseBoolean(getProperty(key));
+    }
+
+    /**
+     * Get boolean property value with default value
+     * @param key property key
+     * @param defaultValue default value if key not found
+     * @return boolean value or default value
+     */
+    public boolean getBooleanProperty(String key, boolean defaultValue) {
+        String value = getProperty(key);
+        return value == null || value.isBlank() ? defaultValue : Boolean.parseBoolean(value.trim());
+    }
+
+    /**
+     * Get comma separated property value as a list
+     * @param key property key
+     * @param defaultValue default value if key not found
+     * @return trimmed non-empty items
+     */
+    public List<String> getListProperty(String key, String defaultValue) {
+        return Arrays.stream(getProperty(key, defaultValue).split(","))
+                .map(String::trim)
+                .filter(item -> !item.isEmpty())
+                .toList();
     }
 
     /**
@@ -93,7 +140,7 @@ public class ConfigManager {
      * @return base URL
      */
     public String getBaseUrl() {
-        return getProperty("base.url");
+        return routeUrl(getProperty("base.url"));
     }
 
     /**
@@ -101,7 +148,7 @@ public class ConfigManager {
      * @return careers URL
      */
     public String getCareersUrl() {
-        return getProperty("careers.url");
+        return routeUrl(getProperty("careers.url"));
     }
 
     /**
@@ -109,7 +156,7 @@ public class ConfigManager {
      * @return QA careers URL
      */
     public String getQaCareersUrl() {
-        return getProperty("qa.careers.url");
+        return routeUrl(getProperty("qa.careers.url"));
     }
 
     /**
@@ -199,4 +246,721 @@ public class ConfigManager {
     public String getWindowSize() {
         return getProperty("window.size", "1920,1080");
     }
+
+    /**
+     * Check if retry of transient failures is enabled
+     * @return true if retry is enabled
+     */
+    public boolean isRetryEnabled() {
+        return getBooleanProperty("retry.enabled", true);
+    }
+
+    /**
+     * Get maximum number of retries for a single test method
+     * @return maximum retries per test
+     */
+    public int getRetryMaxPerTest() {
+        return getIntProperty("retry.max.per.test", 1);
+    }
+
+    /**
+     * Get total number of retries allowed across the whole suite
+     * @return suite retry budget
+     */
+    public int getRetrySuiteBudget() {
+        return getIntProperty("retry.suite.budget", 3);
+    }
+
+    /**
+     * Check if journey checkpoints are saved after each successful step
+     * @return true if checkpoints are enabled
+     */
+    public boolean isCheckpointEnabled() {
+        return getBooleanProperty("checkpoint.enabled", true);
+    }
+
+    /**
+     * Check if a rerun should resume from saved checkpoints instead of replaying completed steps
+     * @return true if resume mode is enabled
+     */
+    public boolean isCheckpointResume() {
+        return getBooleanProperty("checkpoint.resume", false);
+    }
+
+    /**
+     * Get directory where checkpoints are stored
+     * @return checkpoint directory
+     */
+    public String getCheckpointDir() {
+        return getProperty("checkpoint.dir", "checkpoints");
+    }
+
+    /**
+     * Get checkpoint time to live
+     * @return checkpoint time to live in minutes
+     */
+    public int getCheckpointTtlMinutes() {
+        return getIntProperty("checkpoint.ttl.minutes", 60);
+    }
+
+    /**
+     * Check if cached validation results are used for unchanged pages
+     * @return true if the validation cache is enabled
+     */
+    public boolean isCacheEnabled() {
+        return getBooleanProperty("cache.enabled", true);
+    }
+
+    /**
+     * Check if cached validation results should be ignored for this run
+     * @return true if a full validation is forced
+     */
+    public boolean isCacheForceRefresh() {
+        return getBooleanProperty("cache.force.refresh", false);
+    }
+
+    /**
+     * Get directory where cached validation results are stored
+     * @return cache directory
+     */
+    public String getCacheDir() {
+        return getProperty("cache.dir", "cache");
+    }
+
+    /**
+     * Get cached validation result time to live
+     * @return time to live in minutes
+     */
+    public int getCacheTtlMinutes() {
+        return getIntProperty("cache.ttl.minutes", 360);
+    }
+
+    /**
+     * Get URL fingerprinted to detect changes of the QA job listing
+     * @return QA job listing fingerprint URL
+     */
+    public String getQaJobsFingerprintUrl() {
+        return routeUrl(getProperty("cache.qa.jobs.fingerprint.url", getQaCareersUrl()));
+    }
+
+    /**
+     * Get record and replay fixture server mode
+     * @return off, record or replay
+     */
+    public String getReplayMode() {
+        return getProperty("replay.mode", "off");
+    }
+
+    /**
+     * Get port of the record and replay fixture server
+     * @return fixture server port
+     */
+    public int getReplayPort() {
+        return getIntProperty("replay.port", 8089);
+    }
+
+    /**
+     * Get file where recorded exchanges are stored
+     * @return fixture file path
+     */
+    public String getReplayFixtureFile() {
+        return getProperty("replay.fixture.file", "fixtures/insider-careers.bin.gz");
+    }
+
+    /**
+     * Get fixed latency added to every replayed response
+     * @return latency in milliseconds
+     */
+    public int getReplayLatencyMillis() {
+        return getIntProperty("replay.latency.ms", 0);
+    }
+
+    /**
+     * Get maximum random latency added on top of the fixed latency
+     * @return jitter in milliseconds
+     */
+    public int getReplayLatencyJitterMillis() {
+        return getIntProperty("replay.latency.jitter.ms", 0);
+    }
+
+    /**
+     * Check if replayed responses should be delayed by the latency measured when recording
+     * @return true if recorded latency is replayed
+     */
+    public boolean isReplayRecordedLatency() {
+        return getBooleanProperty("replay.latency.recorded", false);
+    }
+
+    /**
+     * Get number of concurrent browser sessions in load mode
+     * @return session count
+     */
+    public int getLoadSessions() {
+        return getIntProperty("load.sessions", 4);
+    }
+
+    /**
+     * Get time over which load mode sessions are started
+     * @return ramp-up in seconds
+     */
+    public int getLoadRampUpSeconds() {
+        return getIntProperty("load.ramp.up.seconds", 30);
+    }
+
+    /**
+     * Get duration of a load run after ramp-up
+     * @return duration in seconds
+     */
+    public int getLoadDurationSeconds() {
+        return getIntProperty("load.duration.seconds", 300);
+    }
+
+    /**
+     * Get target journey rate across all load mode sessions, 0 runs journeys back to back
+     * @return journeys per minute
+     */
+    public int getLoadTargetRatePerMinute() {
+        return getIntProperty("load.target.rate.per.minute", 12);
+    }
+
+    /**
+     * Get directory where load reports are written
+     * @return load results directory
+     */
+    public String getLoadResultsDir() {
+        return getProperty("load.results.dir", "load-results");
+    }
+
+    /**
+     * Get default throttle profile name, used when a test does not select one
+     * @return throttle profile name
+     */
+    public String getThrottleProfile() {
+        return getProperty("throttle.profile", "none");
+    }
+
+    /**
+     * Check if web performance metrics are collected and budgets checked
+     * @return true if performance metrics are enabled
+     */
+    public boolean isPerformanceMetricsEnabled() {
+        return getBooleanProperty("perf.enabled", true);
+    }
+
+    /**
+     * Get what a performance budget breach does: warn logs and reports it, fail also fails the step
+     * @return budget mode, warn unless set to fail
+     */
+    public String getPerformanceBudgetMode() {
+        return getProperty("perf.budget.mode", "warn").trim().toLowerCase();
+    }
+
+    /**
+     * Check if a HAR file is captured for every test step
+     * @return true if HAR capture is enabled
+     */
+    public boolean isHarEnabled() {
+        return getBooleanProperty("har.enabled", false);
+    }
+
+    /**
+     * Get directory where HAR files and step network summaries are written
+     * @return HAR directory
+     */
+    public String getHarDir() {
+        return getProperty("har.dir", "har");
+    }
+
+    /**
+     * Get maximum number of requests buffered for one step, later requests are counted as dropped
+     * @return maximum entries per step
+     */
+    public int getHarMaxEntriesPerStep() {
+        return getIntProperty("har.max.entries.per.step", 1000);
+    }
+
+    /**
+     * Get number of slowest and largest resources listed in a step network summary
+     * @return summary list size
+     */
+    public int getHarSummaryTop() {
+        return getIntProperty("har.summary.top", 5);
+    }
+
+    /**
+     * Check if browser memory and DOM growth is sampled after page object actions
+     * @return true if memory monitoring is enabled
+     */
+    public boolean isMemoryMonitorEnabled() {
+        return getBooleanProperty("memory.enabled", false);
+    }
+
+    /**
+     * Check if the RSS of the Chrome processes is read from /proc with every memory sample
+     * @return true if RSS sampling is enabled
+     */
+    public boolean isMemoryRssEnabled() {
+        return getBooleanProperty("memory.rss.enabled", true);
+    }
+
+    /**
+     * Get number of consecutive runs of a step a metric must grow on before an alert is raised
+     * @return growth window
+     */
+    public int getMemoryGrowthWindow() {
+        return getIntProperty("memory.growth.window", 5);
+    }
+
+    /**
+     * Get minimum overall growth across the window for a memory growth alert
+     * @return growth threshold in percent
+     */
+    public int getMemoryGrowthThresholdPercent() {
+        return getIntProperty("memory.growth.threshold.percent", 20);
+    }
+
+    /**
+     * Check if step and command timings are kept in the run history
+     * @return true if the run history is enabled
+     */
+    public boolean isHistoryEnabled() {
+        return getBooleanProperty("history.enabled", true);
+    }
+
+    /**
+     * Get run history file
+     * @return run history file path
+     */
+    public String getHistoryFile() {
+        return getProperty("history.file", "history/run-history.tsv");
+    }
+
+    /**
+     * Get number of previous runs the timing baseline is computed from
+     * @return baseline runs
+     */
+    public int getHistoryBaselineRuns() {
+        return getIntProperty("history.baseline.runs", 10);
+    }
+
+    /**
+     * Get minimum number of previous runs before regressions are reported
+     * @return minimum runs
+     */
+    public int getHistoryMinRuns() {
+        return getIntProperty("history.min.runs", 3);
+    }
+
+    /**
+     * Get allowed slowdown of a step relative to its baseline median
+     * @return tolerance in percent
+     */
+    public int getHistoryTolerancePercent() {
+        return getIntProperty("history.tolerance.percent", 25);
+    }
+
+    /**
+     * Get action taken on a step regression, warn unless failing is explicitly configured
+     * @return regression gate mode, warn or fail
+     */
+    public String getHistoryGate() {
+        return getProperty("history.gate", "warn");
+    }
+
+    /**
+     * Check if page objects navigate directly through the cached navigation map
+     * @return true if the navigation map is enabled
+     */
+    public boolean isNavigationMapEnabled() {
+        return getBooleanProperty("nav.map.enabled", true);
+    }
+
+    /**
+     * Get time after which the navigation map is rebuilt from the menu
+     * @return navigation map TTL in minutes
+     */
+    public int getNavigationMapTtlMinutes() {
+        return getIntProperty("nav.map.ttl.minutes", 1440);
+    }
+
+    /**
+     * Get maximum link depth followed by the link crawler
+     * @return crawl depth
+     */
+    public int getCrawlerMaxDepth() {
+        return getIntProperty("crawler.max.depth", 3);
+    }
+
+    /**
+     * Get maximum number of links checked by the link crawler
+     * @return page limit
+     */
+    public int getCrawlerMaxPages() {
+        return getIntProperty("crawler.max.pages", 2000);
+    }
+
+    /**
+     * Get number of concurrent requests the link crawler sends to one host
+     * @return requests per host
+     */
+    public int getCrawlerMaxPerHost() {
+        return getIntProperty("crawler.max.per.host", 4);
+    }
+
+    /**
+     * Get path prefixes whose pages are parsed for further links
+     * @return expanded path prefixes
+     */
+    public List<String> getCrawlerExpandPaths() {
+        return getListProperty("crawler.expand.paths", "/careers");
+    }
+
+    /**
+     * Get robots.txt style path rules the link crawler never requests
+     * @return exclusion rules
+     */
+    public List<String> getCrawlerExclusions() {
+        return getListProperty("crawler.exclude", "");
+    }
+
+    /**
+     * Check if the link crawler honours the Disallow rules of robots.txt
+     * @return true if robots.txt is respected
+     */
+    public boolean isCrawlerRespectRobots() {
+        return getBooleanProperty("crawler.respect.robots", true);
+    }
+
+    /**
+     * Check if the link crawler also checks links to other sites
+     * @return true if external links are checked
+     */
+    public boolean isCrawlerCheckExternal() {
+        return getBooleanProperty("crawler.check.external", false);
+    }
+
+    /**
+     * Get directory the link crawler writes its reports to
+     * @return crawl results directory
+     */
+    public String getCrawlerResultsDir() {
+        return getProperty("crawler.results.dir", "crawl-results");
+    }
+
+    /**
+     * Check if the locator registry rewrites XPath locators to equivalent CSS selectors
+     * @return true if XPath is rewritten to CSS
+     */
+    public boolean isLocatorCssRewriteEnabled() {
+        return getBooleanProperty("locator.css.rewrite", true);
+    }
+
+    /**
+     * Check if the locator registry measures the time of every element lookup
+     * @return true if locator profiling is enabled
+     */
+    public boolean isLocatorProfileEnabled() {
+        return getBooleanProperty("locator.profile.enabled", true);
+    }
+
+    /**
+     * Get number of most expensive locators logged at the end of the suite
+     * @return locator count
+     */
+    public int getLocatorProfileTop() {
+        return getIntProperty("locator.profile.top", 10);
+    }
+
+    /**
+     * Get directory the locator profile is written to
+     * @return locator profile directory
+     */
+    public String getLocatorProfileDir() {
+        return getProperty("locator.profile.dir", "locator-profile");
+    }
+
+    /**
+     * Check if page objects remember which interaction strategy worked for an element
+     * @return true if the strategy memory is enabled
+     */
+    public boolean isStrategyMemoryEnabled() {
+        return getBooleanProperty("strategy.memory.enabled", true);
+    }
+
+    /**
+     * Get number of consecutive failures after which a strategy is tried last
+     * @return failures before demotion
+     */
+    public int getStrategyDemoteAfter() {
+        return getIntProperty("strategy.demote.after", 2);
+    }
+
+    /**
+     * Check if failures are captured as one artifact bundle per root cause
+     * @return true if failure bundles are enabled
+     */
+    public boolean isFailureContextEnabled() {
+        return getBooleanProperty("failure.context.enabled", true);
+    }
+
+    /**
+     * Get directory failure bundles are written to
+     * @return failure bundle directory
+     */
+    public String getFailureBundleDir() {
+        return getProperty("failure.bundle.dir", "failures");
+    }
+
+    /**
+     * Get number of recent page object commands kept for a failure bundle
+     * @return recent command count
+     */
+    public int getFailureRecentCommands() {
+        return getIntProperty("failure.recent.commands", 20);
+    }
+
+    /**
+     * Check if tests that only need static markup run on the HTTP and HTML parser driver
+     * @return true if the static driver tier is enabled
+     */
+    public boolean isStaticTierEnabled() {
+        return getBooleanProperty("driver.static.enabled", true);
+    }
+
+    /**
+     * Get User-Agent header sent by the static page driver
+     * @return user agent
+     */
+    public String getStaticUserAgent() {
+        return getProperty("driver.static.user.agent",
+                "Mozilla/5.0 (X11; Linux x86_64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/127.0.0.0 Safari/537.36");
+    }
+
+    /**
+     * Check if all Chrome sessions are created against one chromedriver process per JVM
+     * @return true if the driver service is shared
+     */
+    public boolean isDriverServiceShared() {
+        return getBooleanProperty("driver.service.shared", true);
+    }
+
+    /**
+     * Get chromedriver executable path, empty to resolve it through Selenium Manager and cache it
+     * @return chromedriver path
+     */
+    public String getChromeDriverPath() {
+        return getProperty("chrome.driver.path", "").trim();
+    }
+
+    /**
+     * Get headless mode used when headless is enabled
+     * @return "new" for Chrome's new headless mode or "shell" for the chrome-headless-shell binary
+     */
+    public String getHeadlessMode() {
+        return getProperty("headless.mode", "new").trim().toLowerCase();
+    }
+
+    /**
+     * Get chrome-headless-shell binary path used by the shell headless mode
+     * @return headless shell path, empty to use the Chrome binary
+     */
+    public String getHeadlessShellPath() {
+        return getProperty("chrome.headless.shell.path", "").trim();
+    }
+
+    /**
+     * Get number of concurrent browser sessions allowed
+     * @return browser slots, 0 to size them from the machine's memory
+     */
+    public int getBrowserSlots() {
+        return getIntProperty("browser.slots", 0);
+    }
+
+    /**
+     * Get memory budgeted per browser session when sizing browser slots
+     * @return memory per browser in megabytes
+     */
+    public int getBrowserSlotMemoryMb() {
+        return getIntProperty("browser.slot.memory.mb", 1024);
+    }
+
+    /**
+     * Get memory kept free for the JVM and the system when sizing browser slots
+     * @return reserved memory in megabytes
+     */
+    public int getBrowserSlotReservedMemoryMb() {
+        return getIntProperty("browser.slot.reserved.memory.mb", 2048);
+    }
+
+    /**
+     * Get maximum time a test waits for a free browser slot
+     * @return slot timeout in seconds
+     */
+    public int getBrowserSlotTimeoutSeconds() {
+        return getIntProperty("browser.slot.timeout.seconds", 600);
+    }
+
+    /**
+     * Get number of shards the suite is split into
+     * @return shard count, 1 to run everything
+     */
+    public int getShardCount() {
+        return getIntProperty("shard.count", 1);
+    }
+
+    /**
+     * Get shard run by this JVM
+     * @return shard index from 1 to the shard count
+     */
+    public int getShardIndex() {
+        return getIntProperty("shard.index", 1);
+    }
+
+    /**
+     * Get unit kept together on one shard
+     * @return "class" for a test class within a matrix row or "test" for a whole matrix row
+     */
+    public String getShardBy() {
+        return getProperty("shard.by", "class");
+    }
+
+    /**
+     * Get directory for shard results and the merged report
+     * @return shard results directory
+     */
+    public String getShardResultsDir() {
+        return getProperty("shard.results.dir", "shard-results");
+    }
+
+    /**
+     * Get merged shard report whose timings balance the plan instead of uniform estimates
+     * @return merged report path, empty to balance the plan with uniform estimates
+     */
+    public String getShardTimingsFile() {
+        return getProperty("shard.timings.file", "").trim();
+    }
+
+    /**
+     * Check if test events are streamed as newline-delimited JSON while the run is in progress
+     * @return true if the result event stream is enabled
+     */
+    public boolean isEventsEnabled() {
+        return getBooleanProperty("events.enabled", true);
+    }
+
+    /**
+     * Get file the result events are appended to, suffixed with the shard index in sharded runs
+     * @return events file path
+     */
+    public String getEventsFile() {
+        return getProperty("events.file", "events/results.jsonl");
+    }
+
+    /**
+     * Get TCP endpoint the result events are also streamed to
+     * @return host:port, empty to stream to the file only
+     */
+    public String getEventsSocket() {
+        return getProperty("events.socket", "").trim();
+    }
+
+    /**
+     * Get number of events queued for the writer before new events are dropped
+     * @return event queue capacity
+     */
+    public int getEventsQueueCapacity() {
+        return getIntProperty("events.queue.capacity", 10000);
+    }
+
+    /**
+     * Check if page sections are compared against their visual baselines
+     * @return true if visual baselines are enabled
+     */
+    public boolean isVisualEnabled() {
+        return getBooleanProperty("visual.enabled", true);
+    }
+
+    /**
+     * Get directory of the visual baseline index and the images of sections that changed
+     * @return visual baseline directory
+     */
+    public String getVisualBaselineDir() {
+        return getProperty("visual.baseline.dir", "visual-baselines");
+    }
+
+    /**
+     * Get largest Hamming distance between a section hash and its baseline that still matches
+     * @return distance threshold out of 64 bits
+     */
+    public int getVisualHashThreshold() {
+        return getIntProperty("visual.hash.threshold", 10);
+    }
+
+    /**
+     * Get number of threads that decode and hash section screenshots
+     * @return hashing thread count
+     */
+    public int getVisualHashThreads() {
+        return Math.max(1, getIntProperty("visual.hash.threads", 2));
+    }
+
+    /**
+     * Check if sections that changed replace their baseline instead of failing
+     * @return true to accept visual changes as the new baseline
+     */
+    public boolean isVisualBaselineUpdate() {
+        return getBooleanProperty("visual.baseline.update", false);
+    }
+
+    /**
+     * Check if the extracted job postings are stored and diffed with the previous run
+     * @return true if job snapshots are enabled
+     */
+    public boolean isJobSnapshotEnabled() {
+        return getBooleanProperty("jobs.snapshot.enabled", true);
+    }
+
+    /**
+     * Get directory of the job listing snapshots and their latest diffs
+     * @return job snapshot directory
+     */
+    public String getJobSnapshotDir() {
+        return getProperty("jobs.snapshot.dir", "job-snapshots");
+    }
+
+    /**
+     * Check if test methods are ordered by their run history, recently failing and fast methods first
+     * @return true if history ordering is enabled
+     */
+    public boolean isHistoryOrderEnabled() {
+        return getBooleanProperty("order.history.enabled", true);
+    }
+
+    /**
+     * Get wall-clock budget of the run, only the methods with the highest expected value that fit it run
+     * @return budget in seconds, 0 to run every method
+     */
+    public int getRunBudgetSeconds() {
+        return getIntProperty("run.budget.seconds", 0);
+    }
+
+    /**
+     * Turn routing of site URLs through the fixture server on or off, set by the server on start and stop
+     * @param routing true while the fixture server is running
+     */
+    public void setReplayRouting(boolean routing) {
+        replayRouting = routing;
+    }
+
+    /**
+     * Route a site URL through the fixture server, which serves HTTPS sites over plain HTTP
+     * @param url configured URL
+     * @return URL to use, unchanged while the fixture server is not running
+     */
+    private String routeUrl(String url) {
+        if (url == null || !replayRouting) {
+            return url;
+        }
+        return url.replaceFirst("^https://", "http://");
+    }
 }
\ No newline at end of file
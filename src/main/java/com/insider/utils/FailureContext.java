@@ -0,0 +1,174 @@
+package com.insider.utils;
+
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.logging.LogEntry;
+import org.openqa.selenium.logging.LogType;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Collects one artifact bundle per failure: screenshot, page source, browser console log, URL,
+ * title and the most recent page object commands. Bundles are keyed by the root cause, so the
+ * innermost catch block that sees a failure captures the bundle and every outer layer that wraps
+ * and rethrows it only adds its name to the bundle context.
+ */
+public class FailureContext {
+    private static final Logger logger = LoggerUtil.getLogger(FailureContext.class);
+    private static final ThreadLocal<FailureContext> contexts = ThreadLocal.withInitial(FailureContext::new);
+    private static final String CONTEXT_FILE_NAME = "context.json";
+
+    private final ConfigManager config = ConfigManager.getInstance();
+    private final Map<Throwable, Bundle> bundles = new IdentityHashMap<>();
+    private final Deque<String> recentCommands = new ArrayDeque<>();
+
+    /**
+     * Artifacts and context of one root cause
+     */
+    private record Bundle(Path directory, Map<String, Object> context, List<String> layers) {
+    }
+
+    private FailureContext() {
+    }
+
+    /**
+     * Get the failure context of the current thread
+     * @return failure context
+     */
+    public static FailureContext current() {
+        return contexts.get();
+    }
+
+    /**
+     * Remember a completed page object command for the next failure bundle
+     * @param command command name
+     */
+    public void recordCommand(String command) {
+        recentCommands.addLast(LocalDateTime.now().format(DateTimeFormatter.ofPattern("HH:mm:ss.SSS")) + " " + command);
+        while (recentCommands.size() > config.getFailureRecentCommands()) {
+            recentCommands.removeFirst();
+        }
+    }
+
+    /**
+     * Capture the bundle of a failure on its first layer, or add the layer to the existing bundle
+     * @param failure caught exception
+     * @param layer name of the catching layer
+     */
+    public void capture(Throwable failure, String layer) {
+        Throwable rootCause = rootCause(failure);
+        Bundle bundle = bundles.get(rootCause);
+        if (bundle != null) {
+            bundle.layers().add(layer);
+            writeContext(bundle);
+            logger.debug("Failure already captured in {}, added layer {}", bundle.directory(), layer);
+            return;
+        }
+
+        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss_SSS"));
+        Path directory = Paths.get(config.getFailureBundleDir(), timestamp + "_" + layer.replaceAll("[^A-Za-z0-9_.-]", "_"));
+        Map<String, Object> context = new LinkedHashMap<>();
+        context.put("capturedAt", LocalDateTime.now().toString());
+        context.put("rootCause", rootCause.getClass().getName() + ": " + rootCause.getMessage());
+        context.put("recentCommands", new ArrayList<>(recentCommands));
+        bundle = new Bundle(directory, context, new ArrayList<>(List.of(layer)));
+        bundles.put(rootCause, bundle);
+
+        try {
+            Files.createDirectories(directory);
+            collectBrowserState(bundle);
+            writeContext(bundle);
+            LoggerUtil.logInfo(logger, "Failure bundle saved: " + directory);
+        } catch (IOException e) {
+            LoggerUtil.logError(logger, "Failed to save failure bundle: " + directory, e);
+        }
+    }
+
+    /**
+     * Get the bundle directory captured for a failure
+     * @param failure exception, matched by its root cause
+     * @return bundle directory, empty if nothing was captured for the failure
+     */
+    public Optional<Path> bundleFor(Throwable failure) {
+        return failure == null ? Optional.empty() : Optional.ofNullable(bundles.get(rootCause(failure))).map(Bundle::directory);
+    }
+
+    /**
+     * Forget the bundles and commands of the previous test
+     */
+    public void reset() {
+        bundles.clear();
+        recentCommands.clear();
+    }
+
+    /**
+     * Save screenshot, page source and console log, each one is skipped if the browser cannot provide it
+     */
+    private void collectBrowserState(Bundle bundle) {
+        if (!WebDriverFactory.isDriverInitialized()) {
+            return;
+        }
+        WebDriver driver = WebDriverFactory.getDriver();
+        try {
+            bundle.context().put("url", driver.getCurrentUrl());
+            bundle.context().put("title", driver.getTitle());
+        } catch (RuntimeException e) {
+            bundle.context().put("url", "unavailable: " + e.getMessage());
+        }
+        try {
+            if (driver instanceof TakesScreenshot takesScreenshot) {
+                Files.write(bundle.directory().resolve("screenshot.png"), takesScreenshot.getScreenshotAs(OutputType.BYTES));
+            }
+        } catch (IOException | RuntimeException e) {
+            LoggerUtil.logWarning(logger, "Could not capture screenshot for failure bundle: " + e.getMessage());
+        }
+        try {
+            Files.writeString(bundle.directory().resolve("page.html"), driver.getPageSource());
+        } catch (IOException | RuntimeException e) {
+            LoggerUtil.logWarning(logger, "Could not capture page source for failure bundle: " + e.getMessage());
+        }
+        try {
+            String console = driver.manage().logs().get(LogType.BROWSER).getAll().stream()
+                    .map(LogEntry::toString)
+                    .collect(Collectors.joining(System.lineSeparator()));
+            Files.writeString(bundle.directory().resolve("console.log"), console);
+        } catch (IOException | RuntimeException e) {
+            logger.debug("Browser console log not available: {}", e.getMessage());
+        }
+    }
+
+    private void writeContext(Bundle bundle) {
+        Map<String, Object> context = new LinkedHashMap<>(bundle.context());
+        context.put("layers", bundle.layers());
+        try {
+            Files.writeString(bundle.directory().resolve(CONTEXT_FILE_NAME), new Json().toJson(context));
+        } catch (IOException e) {
+            LoggerUtil.logWarning(logger, "Could not write failure context: " + e.getMessage());
+        }
+    }
+
+    private static Throwable rootCause(Throwable failure) {
+        Throwable current = failure;
+        while (current.getCause() != null && current.getCause() != current) {
+            current = current.getCause();
+        }
+        return current;
+    }
+}
@@ -0,0 +1,440 @@
+package com.insider.utils;
+
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.Json;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+
+/**
+ * Records the requests of each test step from the DevTools Network domain and writes them
+ * as a HAR file with a summary of the slowest and largest resources and requests per domain.
+ * Requests are only buffered while a step is active, and at most har.max.entries.per.step
+ * requests are kept per step.
+ */
+public class HarRecorder {
+    private static final Logger logger = LoggerUtil.getLogger(HarRecorder.class);
+    private static final ThreadLocal<HarRecorder> recorders = ThreadLocal.withInitial(HarRecorder::new);
+    private static final String HAR_VERSION = "1.2";
+
+    private final ConfigManager config = ConfigManager.getInstance();
+    private final Map<String, Entry> inFlight = new LinkedHashMap<>();
+    private final List<Entry> completed = new ArrayList<>();
+    private int sessionGeneration;
+    private int dropped;
+    private String stepName;
+    private Instant stepStartedAt;
+    private long stepStartNanos;
+
+    private HarRecorder() {
+    }
+
+    /**
+     * Get the recorder of the current thread
+     * @return HAR recorder
+     */
+    public static HarRecorder current() {
+        return recorders.get();
+    }
+
+    /**
+     * Subscribe to the Network events of a browser session, does nothing when capture is disabled
+     * @param driver WebDriver session
+     */
+    public void connect(WebDriver driver) {
+        if (!config.isHarEnabled()) {
+            return;
+        }
+        if (!(driver instanceof HasDevTools hasDevTools)) {
+            LoggerUtil.logWarning(logger, "Browser does not support DevTools, HAR capture disabled for this session");
+            return;
+        }
+        try {
+            DevTools devTools = hasDevTools.getDevTools();
+            devTools.createSessionIfThereIsNotOne();
+            devTools.send(new Command<>("Network.enable", Map.of("maxTotalBufferSize", 0)));
+
+            String prefix = (++sessionGeneration) + ":";
+            listen(devTools, "Network.requestWillBeSent", event -> onRequest(prefix, event));
+            listen(devTools, "Network.responseReceived", event -> onResponse(prefix, event));
+            listen(devTools, "Network.loadingFinished", event -> onFinished(prefix, event));
+            listen(devTools, "Network.loadingFailed", event -> onFailed(prefix, event));
+            LoggerUtil.logInfo(logger, "HAR capture connected to browser session");
+        } catch (Exception e) {
+            LoggerUtil.logWarning(logger, "HAR capture could not connect to DevTools: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Start capturing a step, an unfinished previous step is discarded
+     * @param name step name
+     */
+    public synchronized void beginStep(String name) {
+        clear();
+        stepName = name;
+        stepStartedAt = Instant.now();
+        stepStartNanos = System.nanoTime();
+    }
+
+    /**
+     * Finish the current step and write its HAR file and summary
+     * @return summary of the step, empty if no step was active
+     */
+    public synchronized Optional<Map<String, Object>> endStep() {
+        if (stepName == null) {
+            return Optional.empty();
+        }
+        double stepDurationMs = (System.nanoTime() - stepStartNanos) / 1_000_000.0;
+        List<Entry> entries = new ArrayList<>(completed);
+        entries.addAll(inFlight.values());
+        entries.sort(Comparator.comparingDouble(entry -> entry.startTimestamp));
+
+        String label = stepName + ("none".equals(WebDriverFactory.getThrottleProfile().getName())
+                ? "" : "_" + WebDriverFactory.getThrottleProfile().getName());
+        Map<String, Object> summary = summarize(label, entries, stepDurationMs);
+        try {
+            Path harDir = Paths.get(config.getHarDir());
+            Files.createDirectories(harDir);
+            String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"));
+            Path harFile = harDir.resolve(label + "_" + timestamp + ".har");
+            Files.writeString(harFile, new Json().toJson(toHar(label, entries, stepDurationMs)));
+            Files.writeString(harDir.resolve(label + "_" + timestamp + "_summary.json"), new Json().toJson(summary));
+            summary.put("harFile", harFile.toString());
+            LoggerUtil.logInfo(logger, "HAR saved for step '" + stepName + "': " + harFile);
+        } catch (IOException e) {
+            LoggerUtil.logWarning(logger, "Could not write HAR for step '" + stepName + "': " + e.getMessage());
+        }
+        LoggerUtil.logInfo(logger, "Network summary for step '" + stepName + "': " + summary);
+        clear();
+        stepName = null;
+        return Optional.of(summary);
+    }
+
+    private void clear() {
+        inFlight.clear();
+        completed.clear();
+        dropped = 0;
+    }
+
+    private static void listen(DevTools devTools, String method, Consumer<Map<String, Object>> handler) {
+        devTools.addListener(new Event<Map<String, Object>>(method, input -> input.read(Json.MAP_TYPE)), handler);
+    }
+
+    private synchronized void onRequest(String prefix, Map<String, Object> event) {
+        if (stepName == null) {
+            return;
+        }
+        String id = prefix + event.get("requestId");
+        Entry redirected = inFlight.remove(id);
+        if (redirected != null && event.get("redirectResponse") instanceof Map<?, ?> redirectResponse) {
+            redirected.applyResponse(redirectResponse);
+            redirected.endTimestamp = number(event.get("timestamp"));
+            completed.add(redirected);
+        }
+        if (inFlight.size() + completed.size() >= config.getHarMaxEntriesPerStep()) {
+            dropped++;
+            return;
+        }
+        Entry entry = new Entry();
+        entry.startTimestamp = number(event.get("timestamp"));
+        entry.wallTime = number(event.get("wallTime"));
+        entry.resourceType = String.valueOf(event.get("type"));
+        if (event.get("request") instanceof Map<?, ?> request) {
+            entry.url = String.valueOf(request.get("url"));
+            entry.method = String.valueOf(request.get("method"));
+            entry.requestHeaders = request.get("headers") instanceof Map<?, ?> headers ? headers : Map.of();
+        }
+        inFlight.put(id, entry);
+    }
+
+    private synchronized void onResponse(String prefix, Map<String, Object> event) {
+        Entry entry = inFlight.get(prefix + event.get("requestId"));
+        if (entry != null && event.get("response") instanceof Map<?, ?> response) {
+            entry.applyResponse(response);
+        }
+    }
+
+    private synchronized void onFinished(String prefix, Map<String, Object> event) {
+        Entry entry = inFlight.remove(prefix + event.get("requestId"));
+        if (entry != null) {
+            entry.endTimestamp = number(event.get("timestamp"));
+            entry.encodedBytes = (long) number(event.get("encodedDataLength"));
+            completed.add(entry);
+        }
+    }
+
+    private synchronized void onFailed(String prefix, Map<String, Object> event) {
+        Entry entry = inFlight.remove(prefix + event.get("requestId"));
+        if (entry != null) {
+            entry.endTimestamp = number(event.get("timestamp"));
+            entry.errorText = String.valueOf(event.get("errorText"));
+            completed.add(entry);
+        }
+    }
+
+    /**
+     * Summarize a step: slowest and largest resources, requests per domain, and how much
+     * of the step had at least one request in flight
+     */
+    private Map<String, Object> summarize(String label, List<Entry> entries, double stepDurationMs) {
+        int top = config.getHarSummaryTop();
+        Map<String, Integer> perDomain = new TreeMap<>();
+        long totalBytes = 0;
+        int failed = 0;
+        for (Entry entry : entries) {
+            perDomain.merge(entry.host(), 1, Integer::sum);
+            totalBytes += entry.encodedBytes;
+            if (entry.errorText != null || entry.status >= 400) {
+                failed++;
+            }
+        }
+        double networkBusyMs = networkBusyMillis(entries);
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("step", label);
+        summary.put("stepDurationMs", Math.round(stepDurationMs));
+        summary.put("requests", entries.size());
+        summary.put("failedRequests", failed);
+        summary.put("droppedRequests", dropped);
+        summary.put("totalBytes", totalBytes);
+        summary.put("networkBusyMs", Math.round(networkBusyMs));
+        summary.put("networkIdleMs", Math.round(Math.max(0, stepDurationMs - networkBusyMs)));
+        summary.put("slowest", entries.stream()
+                .sorted(Comparator.comparingDouble(Entry::totalMillis).reversed())
+                .limit(top)
+                .map(entry -> Map.of("url", entry.url, "status", entry.status, "timeMs", Math.round(entry.totalMillis())))
+                .toList());
+        summary.put("largest", entries.stream()
+                .sorted(Comparator.comparingLong((Entry entry) -> entry.encodedBytes).reversed())
+                .limit(top)
+                .map(entry -> Map.of("url", entry.url, "status", entry.status, "bytes", entry.encodedBytes))
+                .toList());
+        summary.put("requestsPerDomain", perDomain.entrySet().stream()
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                .map(domain -> Map.of("domain", domain.getKey(), "requests", domain.getValue()))
+                .toList());
+        return summary;
+    }
+
+    /**
+     * Length of the union of all request intervals
+     */
+    private static double networkBusyMillis(List<Entry> entries) {
+        double busy = 0;
+        double spanStart = -1;
+        double spanEnd = -1;
+        for (Entry entry : entries) {
+            double end = entry.endTimestamp > 0 ? entry.endTimestamp : entry.startTimestamp;
+            if (entry.startTimestamp > spanEnd) {
+                busy += spanEnd - spanStart;
+                spanStart = entry.startTimestamp;
+                spanEnd = end;
+            } else {
+                spanEnd = Math.max(spanEnd, end);
+            }
+        }
+        return (busy + spanEnd - spanStart) * 1000;
+    }
+
+    private Map<String, Object> toHar(String label, List<Entry> entries, double stepDurationMs) {
+        Map<String, Object> page = new LinkedHashMap<>();
+        page.put("startedDateTime", stepStartedAt.toString());
+        page.put("id", label);
+        page.put("title", label);
+        page.put("pageTimings", Map.of("onContentLoad", -1, "onLoad", Math.round(stepDurationMs)));
+
+        Map<String, Object> log = new LinkedHashMap<>();
+        log.put("version", HAR_VERSION);
+        log.put("creator", Map.of("name", "insider-careers-tests", "version", "1.0"));
+        log.put("pages", List.of(page));
+        log.put("entries", entries.stream().map(entry -> entry.toHarEntry(label)).toList());
+        return Map.of("log", log);
+    }
+
+    private static double number(Object value) {
+        return value instanceof Number number ? number.doubleValue() : -1;
+    }
+
+    private static List<Map<String, Object>> nameValues(Map<?, ?> values) {
+        List<Map<String, Object>> list = new ArrayList<>();
+        values.forEach((name, value) -> list.add(Map.of("name", String.valueOf(name), "value", String.valueOf(value))));
+        return list;
+    }
+
+    /**
+     * One captured request with the values needed for the HAR entry
+     */
+    private static class Entry {
+        private String url = "";
+        private String method = "GET";
+        private String resourceType;
+        private Map<?, ?> requestHeaders = Map.of();
+        private Map<?, ?> responseHeaders = Map.of();
+        private Map<?, ?> timing = Map.of();
+        private String statusText = "";
+        private String protocol = "";
+        private String mimeType = "";
+        private String errorText;
+        private int status;
+        private double wallTime;
+        private double startTimestamp;
+        private double endTimestamp = -1;
+        private long encodedBytes;
+
+        private void applyResponse(Map<?, ?> response) {
+            status = (int) number(response.get("status"));
+            statusText = String.valueOf(response.get("statusText"));
+            protocol = String.valueOf(response.get("protocol"));
+            mimeType = String.valueOf(response.get("mimeType"));
+            responseHeaders = response.get("headers") instanceof Map<?, ?> headers ? headers : Map.of();
+            timing = response.get("timing") instanceof Map<?, ?> responseTiming ? responseTiming : Map.of();
+        }
+
+        private String host() {
+            try {
+                String host = URI.create(url).getHost();
+                return host != null ? host : "(" + resourceType + ")";
+            } catch (IllegalArgumentException e) {
+                return "(invalid)";
+            }
+        }
+
+        private double totalMillis() {
+            return endTimestamp > 0 ? (endTimestamp - startTimestamp) * 1000 : 0;
+        }
+
+        private double timing(String name) {
+            return number(timing.get(name));
+        }
+
+        /**
+         * Split the request time into HAR phases from the DevTools resource timing
+         */
+        private Map<String, Object> harTimings() {
+            Map<String, Object> timings = new LinkedHashMap<>();
+            double requestTime = timing("requestTime");
+            if (requestTime < 0) {
+                timings.put("blocked", 0);
+                timings.put("dns", -1);
+                timings.put("connect", -1);
+                timings.put("ssl", -1);
+                timings.put("send", 0);
+                timings.put("wait", totalMillis());
+                timings.put("receive", 0);
+                return timings;
+            }
+            double queued = Math.max(0, (requestTime - startTimestamp) * 1000);
+            double dnsStart = timing("dnsStart");
+            double connectStart = timing("connectStart");
+            double sslStart = timing("sslStart");
+            double sendStart = timing("sendStart");
+            double sendEnd = timing("sendEnd");
+            double headersEnd = timing("receiveHeadersEnd");
+            double firstPhase = dnsStart >= 0 ? dnsStart : connectStart >= 0 ? connectStart : Math.max(0, sendStart);
+
+            timings.put("blocked", queued + firstPhase);
+            timings.put("dns", dnsStart >= 0 ? timing("dnsEnd") - dnsStart : -1);
+            timings.put("connect", connectStart >= 0 ? timing("connectEnd") - connectStart : -1);
+            timings.put("ssl", sslStart >= 0 ? timing("sslEnd") - sslStart : -1);
+            timings.put("send", Math.max(0, sendEnd - sendStart));
+            timings.put("wait", Math.max(0, headersEnd - sendEnd));
+            timings.put("receive", endTimestamp > 0 ? Math.max(0, (endTimestamp - requestTime) * 1000 - headersEnd) : 0);
+            return timings;
+        }
+
+        private Map<String, Object> toHarEntry(String pageRef) {
+            Map<String, Object> timings = harTimings();
+            double time = timings.entrySet().stream()
+                    .filter(phase -> !"ssl".equals(phase.getKey()))
+                    .mapToDouble(phase -> ((Number) phase.getValue()).doubleValue())
+                    .filter(value -> value > 0)
+                    .sum();
+
+            Map<String, Object> request = new LinkedHashMap<>();
+            request.put("method", method);
+            request.put("url", url);
+            request.put("httpVersion", protocol);
+            request.put("headers", nameValues(requestHeaders));
+            request.put("queryString", queryString());
+            request.put("cookies", List.of());
+            request.put("headersSize", -1);
+            request.put("bodySize", -1);
+
+            Map<String, Object> response = new LinkedHashMap<>();
+            response.put("status", status);
+            response.put("statusText", statusText);
+            response.put("httpVersion", protocol);
+            response.put("headers", nameValues(responseHeaders));
+            response.put("cookies", List.of());
+            response.put("content", Map.of("size", encodedBytes, "mimeType", mimeType));
+            response.put("redirectURL", String.valueOf(caseInsensitive(responseHeaders, "location")));
+            response.put("headersSize", -1);
+            response.put("bodySize", endTimestamp > 0 ? encodedBytes : -1);
+            if (errorText != null) {
+                response.put("_error", errorText);
+            }
+
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("pageref", pageRef);
+            entry.put("startedDateTime", Instant.ofEpochMilli((long) (wallTime * 1000)).toString());
+            entry.put("time", time);
+            entry.put("request", request);
+            entry.put("response", response);
+            entry.put("cache", Map.of());
+            entry.put("timings", timings);
+            entry.put("_resourceType", resourceType);
+            return entry;
+        }
+
+        private List<Map<String, Object>> queryString() {
+            List<Map<String, Object>> parameters = new ArrayList<>();
+            int queryStart = url.indexOf('?');
+            if (queryStart < 0) {
+                return parameters;
+            }
+            String query = url.substring(queryStart + 1).replaceFirst("#.*$", "");
+            for (String parameter : query.split("&")) {
+                if (parameter.isEmpty()) {
+                    continue;
+                }
+                String[] pair = parameter.split("=", 2);
+                try {
+                    parameters.add(Map.of("name", URLDecoder.decode(pair[0], StandardCharsets.UTF_8),
+                            "value", pair.length > 1 ? URLDecoder.decode(pair[1], StandardCharsets.UTF_8) : ""));
+                } catch (IllegalArgumentException e) {
+                    parameters.add(Map.of("name", pair[0], "value", pair.length > 1 ? pair[1] : ""));
+                }
+            }
+            return parameters;
+        }
+
+        private static Object caseInsensitive(Map<?, ?> headers, String name) {
+            return headers.entrySet().stream()
+                    .filter(header -> name.equalsIgnoreCase(String.valueOf(header.getKey())))
+                    .<Object>map(Map.Entry::getValue)
+                    .findFirst()
+                    .orElse("");
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.insider.utils;
+
+import lombok.Getter;
+import org.openqa.selenium.Cookie;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Browser state saved after a successful journey step
+ */
+@Getter
+public class JourneyCheckpoint {
+
+    private final String stepName;
+    private final long createdAt;
+    private final String url;
+    private final List<Cookie> cookies;
+    private final Map<String, String> localStorage;
+    private final Map<String, String> filters;
+
+    /**
+     * Constructor for JourneyCheckpoint
+     * @param stepName name of the step that completed
+     * @param createdAt creation time in epoch milliseconds
+     * @param url current page URL
+     * @param cookies browser cookies
+     * @param localStorage local storage entries of the current origin
+     * @param filters job filters applied up to this step
+     */
+    public JourneyCheckpoint(String stepName, long createdAt, String url, List<Cookie> cookies,
+                             Map<String, String> localStorage, Map<String, String> filters) {
+        this.stepName = stepName;
+        this.createdAt = createdAt;
+        this.url = url;
+        this.cookies = List.copyOf(cookies);
+        this.localStorage = Map.copyOf(localStorage);
+        this.filters = Map.copyOf(filters);
+    }
+
+    /**
+     * Convert checkpoint to a JSON friendly map
+     * @return map representation
+     */
+    public Map<String, Object> toMap() {
+        List<Map<String, Object>> cookieMaps = new ArrayList<>();
+        for (Cookie cookie : cookies) {
+            Map<String, Object> cookieMap = new LinkedHashMap<>();
+            cookieMap.put("name", cookie.getName());
+            cookieMap.put("value", cookie.getValue());
+            cookieMap.put("domain", cookie.getDomain());
+            cookieMap.put("path", cookie.getPath());
+            cookieMap.put("expiry", cookie.getExpiry() != null ? cookie.getExpiry().getTime() : null);
+            cookieMap.put("secure", cookie.isSecure());
+            cookieMap.put("httpOnly", cookie.isHttpOnly());
+            cookieMap.put("sameSite", cookie.getSameSite());
+            cookieMaps.add(cookieMap);
+        }
+
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("stepName", stepName);
+        map.put("createdAt", createdAt);
+        map.put("url", url);
+        map.put("cookies", cookieMaps);
+        map.put("localStorage", localStorage);
+        map.put("filters", filters);
+        return map;
+    }
+
+    /**
+     * Create checkpoint from its map representation
+     * @param map map representation
+     * @return checkpoint
+     */
+    @SuppressWarnings("unchecked")
+    public static JourneyCheckpoint fromMap(Map<String, Object> map) {
+        List<Cookie> cookies = new ArrayList<>();
+        for (Map<String, Object> cookieMap : (List<Map<String, Object>>) map.getOrDefault("cookies", List.of())) {
+            Number expiry = (Number) cookieMap.get("expiry");
+            cookies.add(new Cookie(
+                    (String) cookieMap.get("name"),
+                    (String) cookieMap.get("value"),
+                    (String) cookieMap.get("domain"),
+                    (String) cookieMap.get("path"),
+                    expiry != null ? new Date(expiry.longValue()) : null,
+                    Boolean.TRUE.equals(cookieMap.get("secure")),
+                    Boolean.TRUE.equals(cookieMap.get("httpOnly")),
+                    (String) cookieMap.get("sameSite")));
+        }
+
+        return new JourneyCheckpoint(
+                (String) map.get("stepName"),
+                ((Number) map.get("createdAt")).longValue(),
+                (String) map.get("url"),
+                cookies,
+                (Map<String, String>) map.getOrDefault("localStorage", Map.of()),
+                (Map<String, String>) map.getOrDefault("filters", Map.of()));
+    }
+}
@@ -0,0 +1,170 @@
+package com.insider.utils;
+
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.By;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebElement;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry that compiles every locator string from Locators once into a By, rewriting XPath to an
+ * equivalent CSS selector where XPathToCss finds one, and caches parameterized locators per argument.
+ * Each By measures the time of every element lookup so the most expensive locators can be reported.
+ */
+public class LocatorRegistry {
+    private static final Logger logger = LoggerUtil.getLogger(LocatorRegistry.class);
+
+    /**
+     * Initialization-on-demand holder idiom for thread-safe lazy initialization
+     */
+    private static class LocatorRegistryHolder {
+        private static final LocatorRegistry INSTANCE = new LocatorRegistry();
+    }
+
+    private final ConfigManager config = ConfigManager.getInstance();
+    private final Map<String, By> locators = new ConcurrentHashMap<>();
+    private final Map<String, LookupStats> stats = new ConcurrentHashMap<>();
+
+    private LocatorRegistry() {
+    }
+
+    /**
+     * Get singleton instance of LocatorRegistry
+     * @return LocatorRegistry instance
+     */
+    public static LocatorRegistry getInstance() {
+        return LocatorRegistryHolder.INSTANCE;
+    }
+
+    /**
+     * Get the compiled By of a locator, XPath when it starts with / or (, CSS otherwise
+     * @param locator locator string
+     * @return cached By
+     */
+    public By get(String locator) {
+        return locators.computeIfAbsent(locator, key -> compile(key, key));
+    }
+
+    /**
+     * Get the compiled By of a parameterized locator, lookups of every argument are profiled together
+     * @param template locator string with String.format placeholders
+     * @param args placeholder values
+     * @return cached By
+     */
+    public By get(String template, Object... args) {
+        String locator = String.format(template, args);
+        return locators.computeIfAbsent(locator, key -> compile(key, template));
+    }
+
+    /**
+     * Get lookup statistics of every locator, most expensive first
+     * @return one entry per locator with lookups, misses, total, mean and max milliseconds
+     */
+    public List<Map<String, Object>> profile() {
+        return stats.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<String, LookupStats> entry) -> entry.getValue().totalNanos).reversed())
+                .map(entry -> entry.getValue().toMap(entry.getKey()))
+                .toList();
+    }
+
+    private By compile(String locator, String profileKey) {
+        By compiled;
+        if (locator.startsWith("/") || locator.startsWith("(")) {
+            Optional<String> css = config.isLocatorCssRewriteEnabled() ? XPathToCss.compile(locator) : Optional.empty();
+            if (css.isPresent()) {
+                logger.debug("Locator {} compiled to CSS {}", locator, css.get());
+            }
+            compiled = css.map(By::cssSelector).orElseGet(() -> By.xpath(locator));
+        } else {
+            compiled = By.cssSelector(locator);
+        }
+        if (!config.isLocatorProfileEnabled()) {
+            return compiled;
+        }
+        LookupStats lookupStats = stats.computeIfAbsent(profileKey, key -> new LookupStats(compiled instanceof By.ByXPath ? "xpath" : "css"));
+        return new ProfiledBy(compiled, lookupStats);
+    }
+
+    /**
+     * Lookup counters of one locator
+     */
+    private static class LookupStats {
+        private final String strategy;
+        private long lookups;
+        private long misses;
+        private long totalNanos;
+        private long maxNanos;
+
+        private LookupStats(String strategy) {
+            this.strategy = strategy;
+        }
+
+        private synchronized void record(long nanos, boolean found) {
+            lookups++;
+            if (!found) {
+                misses++;
+            }
+            totalNanos += nanos;
+            maxNanos = Math.max(maxNanos, nanos);
+        }
+
+        private synchronized Map<String, Object> toMap(String locator) {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("locator", locator);
+            map.put("strategy", strategy);
+            map.put("lookups", lookups);
+            map.put("misses", misses);
+            map.put("totalMs", totalNanos / 1_000_000.0);
+            map.put("meanMs", lookups == 0 ? 0.0 : totalNanos / 1_000_000.0 / lookups);
+            map.put("maxMs", maxNanos / 1_000_000.0);
+            return map;
+        }
+    }
+
+    /**
+     * By that delegates to the compiled locator and records the time of every lookup,
+     * including each poll of an explicit wait
+     */
+    private static class ProfiledBy extends By {
+        private final By delegate;
+        private final LookupStats lookupStats;
+
+        private ProfiledBy(By delegate, LookupStats lookupStats) {
+            this.delegate = delegate;
+            this.lookupStats = lookupStats;
+        }
+
+        @Override
+        public WebElement findElement(SearchContext context) {
+            long start = System.nanoTime();
+            try {
+                WebElement element = context.findElement(delegate);
+                lookupStats.record(System.nanoTime() - start, true);
+                return element;
+            } catch (NoSuchElementException e) {
+                lookupStats.record(System.nanoTime() - start, false);
+                throw e;
+            }
+        }
+
+        @Override
+        public List<WebElement> findElements(SearchContext context) {
+            long start = System.nanoTime();
+            List<WebElement> elements = context.findElements(delegate);
+            lookupStats.record(System.nanoTime() - start, !elements.isEmpty());
+            return elements;
+        }
+
+        @Override
+        public String toString() {
+            return delegate.toString();
+        }
+    }
+}
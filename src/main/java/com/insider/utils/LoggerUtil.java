@@ -3,6 +3,8 @@ package com.insider.utils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.util.function.BiConsumer;
+
 /**
  * Utility class for logging operations
  */
@@ -12,6 +14,16 @@ public class LoggerUtil {
     private LoggerUtil() {
         throw new UnsupportedOperationException("Utility class cannot be instantiated");
     }
+
+    private static volatile BiConsumer<String, String> stepObserver = (type, description) -> { };
+
+    /**
+     * Set the observer told about every logged step and assertion, such as a listener streaming them as events
+     * @param observer receives "step" or "assertion" and the description
+     */
+    public static void setStepObserver(BiConsumer<String, String> observer) {
+        stepObserver = observer;
+    }
     
     /**
      * Get logger for the specified class
@@ -47,6 +59,7 @@ public class LoggerUtil {
      */
     public static void logStep(Logger logger, String stepDescription) {
         logger.info("STEP: {}", stepDescription);
+        stepObserver.accept("step", stepDescription);
     }
     
     /**
@@ -56,6 +69,7 @@ public class LoggerUtil {
      */
     public static void logAssertion(Logger logger, String assertionDescription) {
         logger.info("ASSERTION: {}", assertionDescription);
+        stepObserver.accept("assertion", assertionDescription);
     }
     
     /**
@@ -0,0 +1,281 @@
+package com.insider.utils;
+
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.HasCapabilities;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chromium.HasCdp;
+import org.testng.Reporter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Samples browser memory after every page object action: JS heap, DOM nodes, event listeners
+ * and documents from DevTools Performance.getMetrics, and the RSS of every Chrome process from /proc.
+ * Samples are summarized per step, and an alert is raised when a step ends with a metric that
+ * grew on every one of the last memory.growth.window iterations by more than the threshold.
+ */
+public class MemorySampler {
+    private static final Logger logger = LoggerUtil.getLogger(MemorySampler.class);
+    private static final ThreadLocal<MemorySampler> samplers = ThreadLocal.withInitial(MemorySampler::new);
+    private static final Path PROC = Paths.get("/proc");
+    private static final Map<String, String> DEVTOOLS_METRICS = Map.of(
+            "JSHeapUsedSize", "js.heap.used.bytes",
+            "Nodes", "dom.nodes",
+            "JSEventListeners", "js.event.listeners",
+            "Documents", "documents");
+    private static final String RSS_TOTAL = "rss.total.bytes";
+
+    private final ConfigManager config = ConfigManager.getInstance();
+    private final Set<String> enabledWindows = new HashSet<>();
+    private final List<Map<String, Double>> samples = new ArrayList<>();
+    private final Map<String, Deque<Map<String, Double>>> iterations = new HashMap<>();
+    private String userDataDir;
+    private String stepName;
+
+    private MemorySampler() {
+    }
+
+    /**
+     * Get the sampler of the current thread
+     * @return memory sampler
+     */
+    public static MemorySampler current() {
+        return samplers.get();
+    }
+
+    /**
+     * Attach the sampler to a new browser session
+     * @param driver WebDriver session
+     */
+    public void connect(WebDriver driver) {
+        enabledWindows.clear();
+        userDataDir = null;
+        if (config.isMemoryMonitorEnabled() && driver instanceof HasCapabilities hasCapabilities) {
+            userDataDir = chromeUserDataDir(hasCapabilities.getCapabilities());
+        }
+    }
+
+    /**
+     * Start collecting samples for a step
+     * @param name step name, repeated runs of the same step are compared for growth
+     */
+    public void beginStep(String name) {
+        samples.clear();
+        stepName = name;
+    }
+
+    /**
+     * Take one sample after a page object action, does nothing outside a step or when disabled
+     * @param action action that was just performed
+     */
+    public void sample(String action) {
+        if (stepName == null || !config.isMemoryMonitorEnabled()) {
+            return;
+        }
+        try {
+            Map<String, Double> sample = new LinkedHashMap<>(readDevToolsMetrics(WebDriverFactory.getDriver()));
+            if (config.isMemoryRssEnabled()) {
+                sample.putAll(readProcessRss());
+            }
+            samples.add(sample);
+            logger.debug("Memory sample after {}: {}", action, sample);
+        } catch (Exception e) {
+            LoggerUtil.logWarning(logger, "Memory sample after " + action + " failed: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Finish the step, report first, last and peak values and check for monotonic growth
+     * @return step summary, empty if no step was active or nothing was sampled
+     */
+    public Optional<Map<String, Object>> endStep() {
+        if (stepName == null) {
+            return Optional.empty();
+        }
+        sample("end of step");
+        String name = stepName;
+        stepName = null;
+        if (samples.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Map<String, Double> first = samples.get(0);
+        Map<String, Double> last = samples.get(samples.size() - 1);
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        for (String metric : last.keySet()) {
+            double peak = samples.stream().mapToDouble(sample -> sample.getOrDefault(metric, 0.0)).max().orElse(0);
+            metrics.put(metric, Map.of("first", first.getOrDefault(metric, 0.0), "last", last.get(metric), "peak", peak));
+        }
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("step", name);
+        summary.put("samples", samples.size());
+        summary.put("metrics", metrics);
+        List<String> alerts = checkGrowth(name, last);
+        summary.put("growthAlerts", alerts);
+
+        LoggerUtil.logInfo(logger, "Memory summary for step '" + name + "': " + summary);
+        for (String alert : alerts) {
+            LoggerUtil.logWarning(logger, alert);
+            Reporter.log(alert, false);
+        }
+        samples.clear();
+        return Optional.of(summary);
+    }
+
+    /**
+     * Keep the end of step values of the last iterations and report metrics that grew on every
+     * iteration by more than memory.growth.threshold.percent overall
+     */
+    private List<String> checkGrowth(String name, Map<String, Double> endOfStep) {
+        int window = config.getMemoryGrowthWindow();
+        Deque<Map<String, Double>> history = iterations.computeIfAbsent(name, key -> new ArrayDeque<>());
+        history.addLast(endOfStep);
+        while (history.size() > window) {
+            history.removeFirst();
+        }
+        List<String> alerts = new ArrayList<>();
+        if (history.size() < window) {
+            return alerts;
+        }
+
+        for (String metric : endOfStep.keySet()) {
+            double previous = Double.NaN;
+            boolean growing = true;
+            for (Map<String, Double> iteration : history) {
+                double value = iteration.getOrDefault(metric, Double.NaN);
+                if (!Double.isNaN(previous) && !(value > previous)) {
+                    growing = false;
+                    break;
+                }
+                previous = value;
+            }
+            double start = history.getFirst().getOrDefault(metric, 0.0);
+            double growthPercent = start > 0 ? (endOfStep.get(metric) - start) * 100 / start : 0;
+            if (growing && growthPercent > config.getMemoryGrowthThresholdPercent()) {
+                alerts.add("MEMORY GROWTH ALERT: %s grew on each of the last %d runs of '%s' (+%.1f%%, %.0f -> %.0f)"
+                        .formatted(metric, window, name, growthPercent, start, endOfStep.get(metric)));
+            }
+        }
+        return alerts;
+    }
+
+    /**
+     * Read heap, DOM and listener counts of the current window from DevTools
+     */
+    @SuppressWarnings("unchecked")
+    private Map<String, Double> readDevToolsMetrics(WebDriver driver) {
+        Map<String, Double> values = new LinkedHashMap<>();
+        if (!(driver instanceof HasCdp cdp)) {
+            return values;
+        }
+        if (enabledWindows.add(driver.getWindowHandle())) {
+            cdp.executeCdpCommand("Performance.enable", Map.of());
+        }
+        Object metrics = cdp.executeCdpCommand("Performance.getMetrics", Map.of()).get("metrics");
+        if (metrics instanceof List<?> list) {
+            for (Object item : list) {
+                Map<String, Object> metric = (Map<String, Object>) item;
+                String name = DEVTOOLS_METRICS.get(String.valueOf(metric.get("name")));
+                if (name != null && metric.get("value") instanceof Number value) {
+                    values.put(name, value.doubleValue());
+                }
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Sum the resident set size of the Chrome processes of this session by process type,
+     * found as the browser process started with the session's user data directory and its descendants
+     */
+    private Map<String, Double> readProcessRss() {
+        Map<String, Double> rss = new LinkedHashMap<>();
+        if (userDataDir == null || !Files.isDirectory(PROC)) {
+            return rss;
+        }
+        Map<Long, Long> parents = new HashMap<>();
+        Map<Long, String> commandLines = new HashMap<>();
+        try (DirectoryStream<Path> processes = Files.newDirectoryStream(PROC, path -> path.getFileName().toString().matches("\\d+"))) {
+            for (Path process : processes) {
+                long pid = Long.parseLong(process.getFileName().toString());
+                try {
+                    commandLines.put(pid, new String(Files.readAllBytes(process.resolve("cmdline")), StandardCharsets.UTF_8).replace('\0', ' '));
+                    String stat = Files.readString(process.resolve("stat"));
+                    parents.put(pid, Long.parseLong(stat.substring(stat.lastIndexOf(')') + 2).split(" ")[1]));
+                } catch (IOException | RuntimeException e) {
+                    // Process exited while scanning
+                }
+            }
+        } catch (IOException e) {
+            return rss;
+        }
+
+        Set<Long> sessionProcesses = new HashSet<>();
+        commandLines.forEach((pid, commandLine) -> {
+            if (commandLine.contains("--user-data-dir=" + userDataDir) && !commandLine.contains("--type=")) {
+                sessionProcesses.add(pid);
+            }
+        });
+        boolean added = !sessionProcesses.isEmpty();
+        while (added) {
+            added = false;
+            for (Map.Entry<Long, Long> process : parents.entrySet()) {
+                if (sessionProcesses.contains(process.getValue()) && sessionProcesses.add(process.getKey())) {
+                    added = true;
+                }
+            }
+        }
+
+        double total = 0;
+        for (long pid : sessionProcesses) {
+            double bytes = readRssBytes(pid);
+            String commandLine = commandLines.getOrDefault(pid, "");
+            int typeIndex = commandLine.indexOf("--type=");
+            String type = typeIndex >= 0 ? commandLine.substring(typeIndex + 7).split(" ")[0] : "browser";
+            rss.merge("rss." + type + ".bytes", bytes, Double::sum);
+            total += bytes;
+        }
+        if (!sessionProcesses.isEmpty()) {
+            rss.put(RSS_TOTAL, total);
+        }
+        return rss;
+    }
+
+    private static double readRssBytes(long pid) {
+        try {
+            for (String line : Files.readAllLines(PROC.resolve(Long.toString(pid)).resolve("status"))) {
+                if (line.startsWith("VmRSS:")) {
+                    return Double.parseDouble(line.replaceAll("\\D", "")) * 1024;
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            // Process exited while reading
+        }
+        return 0;
+    }
+
+    /**
+     * Get the user data directory ChromeDriver reports for the session
+     */
+    private static String chromeUserDataDir(Capabilities capabilities) {
+        return capabilities.getCapability("chrome") instanceof Map<?, ?> chrome && chrome.get("userDataDir") != null
+                ? String.valueOf(chrome.get("userDataDir"))
+                : null;
+    }
+}
@@ -0,0 +1,162 @@
+package com.insider.utils;
+
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+
+/**
+ * Map of the site navigation menu from link label to destination URL, built from the menu DOM
+ * in one script call and cached on disk so page objects can navigate straight to a destination
+ * instead of hovering through the menu
+ */
+public class NavigationMap {
+    private static final Logger logger = LoggerUtil.getLogger(NavigationMap.class);
+    private static final String MAP_FILE_NAME = "navigation-map.properties";
+    private static final String BUILT_AT_KEY = "_builtAt";
+    private static final String SOURCE_KEY = "_source";
+    private static final String LINK_PREFIX = "link.";
+
+    // Reads every menu link including collapsed dropdown entries, first label wins
+    private static final String BUILD_SCRIPT = """
+            const links = {};
+            document.querySelectorAll('nav a[href], header a[href]').forEach(link => {
+                const label = (link.textContent || '').replace(/\\s+/g, ' ').trim();
+                if (label && !(label in links) && /^https?:/.test(link.href)) {
+                    links[label] = link.href;
+                }
+            });
+            return links;""";
+    private static final String LINK_EXISTS_SCRIPT = """
+            return Array.from(document.querySelectorAll('nav a[href], header a[href]'))
+                .some(link => link.href === arguments[0]);""";
+
+    /**
+     * Initialization-on-demand holder idiom for thread-safe lazy initialization
+     */
+    private static class NavigationMapHolder {
+        private static final NavigationMap INSTANCE = new NavigationMap();
+    }
+
+    private final ConfigManager config = ConfigManager.getInstance();
+    private final Properties entries = new Properties();
+    private final Path mapFile;
+
+    private NavigationMap() {
+        mapFile = Paths.get(config.getCacheDir(), MAP_FILE_NAME);
+        if (Files.exists(mapFile)) {
+            try (InputStream input = Files.newInputStream(mapFile)) {
+                entries.load(input);
+            } catch (IOException e) {
+                LoggerUtil.logWarning(logger, "Could not read navigation map, it will be rebuilt: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Get singleton instance of NavigationMap
+     * @return NavigationMap instance
+     */
+    public static NavigationMap getInstance() {
+        return NavigationMapHolder.INSTANCE;
+    }
+
+    /**
+     * Resolve a menu label to its destination, rebuilding the map from the current page when it is
+     * missing, expired, built for another site, or no longer matches the menu
+     * @param driver WebDriver session on a page that shows the site menu
+     * @param label menu link label
+     * @return destination URL, empty if the menu has no such link
+     */
+    public synchronized Optional<String> resolve(WebDriver driver, String label) {
+        Optional<String> cached = isFresh() ? lookup(label) : Optional.empty();
+        if (cached.isPresent() && linkExists(driver, cached.get())) {
+            LoggerUtil.logInfo(logger, "Navigation map hit: " + label + " -> " + cached.get());
+            return cached;
+        }
+        build(driver);
+        return lookup(label);
+    }
+
+    /**
+     * Record every link of the site menu on the current page and save the map
+     * @param driver WebDriver session on a page that shows the site menu
+     */
+    public synchronized void build(WebDriver driver) {
+        Object result = ((JavascriptExecutor) driver).executeScript(BUILD_SCRIPT);
+        entries.clear();
+        if (result instanceof Map<?, ?> links) {
+            links.forEach((label, href) -> entries.setProperty(LINK_PREFIX + normalize(String.valueOf(label)), String.valueOf(href)));
+        }
+        entries.setProperty(BUILT_AT_KEY, Long.toString(System.currentTimeMillis()));
+        entries.setProperty(SOURCE_KEY, config.getBaseUrl());
+        LoggerUtil.logInfo(logger, "Navigation map built with " + (entries.size() - 2) + " menu links");
+
+        try {
+            Files.createDirectories(mapFile.getParent());
+            try (OutputStream output = Files.newOutputStream(mapFile)) {
+                entries.store(output, "Site navigation map");
+            }
+        } catch (IOException e) {
+            LoggerUtil.logWarning(logger, "Could not write navigation map: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Check that a link to a destination is still part of the menu DOM
+     * @param driver WebDriver session
+     * @param href destination URL
+     * @return true if the menu still links to the destination
+     */
+    public boolean linkExists(WebDriver driver, String href) {
+        return Boolean.TRUE.equals(((JavascriptExecutor) driver).executeScript(LINK_EXISTS_SCRIPT, href));
+    }
+
+    /**
+     * Find a link by its exact label, or by the shortest label that starts with it
+     * when the menu entry carries a description after its title
+     */
+    private Optional<String> lookup(String label) {
+        String key = LINK_PREFIX + normalize(label);
+        String exact = entries.getProperty(key);
+        if (exact != null) {
+            return Optional.of(exact);
+        }
+        return entries.stringPropertyNames().stream()
+                .filter(name -> name.startsWith(key + "_"))
+                .min(Comparator.comparingInt(String::length))
+                .map(entries::getProperty);
+    }
+
+    private boolean isFresh() {
+        String builtAt = entries.getProperty(BUILT_AT_KEY);
+        if (builtAt == null || !config.getBaseUrl().equals(entries.getProperty(SOURCE_KEY))) {
+            return false;
+        }
+        long builtAtMillis;
+        try {
+            builtAtMillis = Long.parseLong(builtAt);
+        } catch (NumberFormatException e) {
+            LoggerUtil.logWarning(logger, "Ignoring unreadable navigation map timestamp, it will be rebuilt: " + builtAt);
+            return false;
+        }
+        long age = System.currentTimeMillis() - builtAtMillis;
+        return age <= Duration.ofMinutes(config.getNavigationMapTtlMinutes()).toMillis();
+    }
+
+    private static String normalize(String label) {
+        return label.trim().toLowerCase(Locale.ROOT).replaceAll("\\s+", "_");
+    }
+}
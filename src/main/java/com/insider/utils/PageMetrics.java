@@ -0,0 +1,77 @@
+package com.insider.utils;
+
+import lombok.Getter;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Web performance metrics of a page: Navigation Timing, paint timings, LCP, CLS and long tasks.
+ * Metrics the browser did not report are null.
+ */
+@Getter
+public class PageMetrics {
+
+    private final String url;
+    private final Double timeToFirstByteMs;
+    private final Double domContentLoadedMs;
+    private final Double loadEventMs;
+    private final Double firstPaintMs;
+    private final Double firstContentfulPaintMs;
+    private final Double largestContentfulPaintMs;
+    private final Double cumulativeLayoutShift;
+    private final Integer longTaskCount;
+    private final Double longTaskTotalMs;
+
+    /**
+     * Constructor for PageMetrics
+     * @param url page URL
+     * @param values raw values collected from the browser, keyed by metric name
+     */
+    public PageMetrics(String url, Map<String, Object> values) {
+        this.url = url;
+        this.timeToFirstByteMs = number(values.get("ttfb"));
+        this.domContentLoadedMs = number(values.get("domContentLoaded"));
+        this.loadEventMs = number(values.get("load"));
+        this.firstPaintMs = number(values.get("fp"));
+        this.firstContentfulPaintMs = number(values.get("fcp"));
+        this.largestContentfulPaintMs = number(values.get("lcp"));
+        this.cumulativeLayoutShift = number(values.get("cls"));
+        Double longTasks = number(values.get("longTaskCount"));
+        this.longTaskCount = longTasks != null ? longTasks.intValue() : null;
+        this.longTaskTotalMs = number(values.get("longTaskTotal"));
+    }
+
+    /**
+     * Get metrics keyed by the name used for budgets in config.properties
+     * @return budget metric name to value, metrics without a value are omitted
+     */
+    public Map<String, Double> toBudgetMap() {
+        Map<String, Double> metrics = new LinkedHashMap<>();
+        putIfPresent(metrics, "ttfb.ms", timeToFirstByteMs);
+        putIfPresent(metrics, "dom.content.loaded.ms", domContentLoadedMs);
+        putIfPresent(metrics, "load.ms", loadEventMs);
+        putIfPresent(metrics, "fp.ms", firstPaintMs);
+        putIfPresent(metrics, "fcp.ms", firstContentfulPaintMs);
+        putIfPresent(metrics, "lcp.ms", largestContentfulPaintMs);
+        putIfPresent(metrics, "cls", cumulativeLayoutShift);
+        putIfPresent(metrics, "long.tasks", longTaskCount != null ? longTaskCount.doubleValue() : null);
+        putIfPresent(metrics, "long.tasks.total.ms", longTaskTotalMs);
+        return metrics;
+    }
+
+    @Override
+    public String toString() {
+        return "PageMetrics" + toBudgetMap() + " @ " + url;
+    }
+
+    private static void putIfPresent(Map<String, Double> metrics, String name, Double value) {
+        if (value != null) {
+            metrics.put(name, value);
+        }
+    }
+
+    private static Double number(Object value) {
+        return value instanceof Number number ? number.doubleValue() : null;
+    }
+}
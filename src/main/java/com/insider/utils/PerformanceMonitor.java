@@ -0,0 +1,118 @@
+package com.insider.utils;
+
+import com.insider.exceptions.PerformanceBudgetException;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chromium.HasCdp;
+import org.testng.Reporter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Collects web performance metrics through a PerformanceObserver injected at navigation
+ * and checks them against per-page budgets from config.properties
+ */
+public class PerformanceMonitor {
+
+    // Private constructor to prevent instantiation
+    private PerformanceMonitor() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    private static final Logger logger = LoggerUtil.getLogger(PerformanceMonitor.class);
+    private static final String BUDGET_PREFIX = "perf.budget.";
+    private static final String STRICT_MODE = "fail";
+
+    private static final String OBSERVER_SCRIPT = """
+            (() => {
+                const perf = window.__insiderPerf = { lcp: null, cls: 0, longTaskCount: 0, longTaskTotal: 0 };
+                const observe = (type, callback) => {
+                    try {
+                        new PerformanceObserver(list => list.getEntries().forEach(callback)).observe({ type, buffered: true });
+                    } catch (e) { /* entry type not supported */ }
+                };
+                observe('largest-contentful-paint', entry => { perf.lcp = entry.renderTime || entry.loadTime || entry.startTime; });
+                observe('layout-shift', entry => { if (!entry.hadRecentInput) { perf.cls += entry.value; } });
+                observe('longtask', entry => { perf.longTaskCount++; perf.longTaskTotal += entry.duration; });
+            })();""";
+
+    private static final String COLLECT_SCRIPT = """
+            const perf = window.__insiderPerf || {};
+            const nav = performance.getEntriesByType('navigation')[0];
+            const paint = name => (performance.getEntriesByName(name)[0] || {}).startTime ?? null;
+            return {
+                ttfb: nav ? nav.responseStart - nav.startTime : null,
+                domContentLoaded: nav && nav.domContentLoadedEventEnd > 0 ? nav.domContentLoadedEventEnd - nav.startTime : null,
+                load: nav && nav.loadEventEnd > 0 ? nav.loadEventEnd - nav.startTime : null,
+                fp: paint('first-paint'),
+                fcp: paint('first-contentful-paint'),
+                lcp: perf.lcp ?? null,
+                cls: window.__insiderPerf ? perf.cls : null,
+                longTaskCount: window.__insiderPerf ? perf.longTaskCount : null,
+                longTaskTotal: window.__insiderPerf ? perf.longTaskTotal : null
+            };""";
+
+    /**
+     * Inject the PerformanceObserver into every document the session navigates to
+     * @param driver WebDriver session
+     */
+    public static void install(WebDriver driver) {
+        if (!ConfigManager.getInstance().isPerformanceMetricsEnabled()) {
+            return;
+        }
+        if (driver instanceof HasCdp cdp) {
+            cdp.executeCdpCommand("Page.addScriptToEvaluateOnNewDocument", Map.of("source", OBSERVER_SCRIPT));
+            logger.info("Performance observer installed for new documents");
+        } else {
+            LoggerUtil.logWarning(logger, "Browser does not support DevTools, LCP, CLS and long tasks will not be collected");
+        }
+    }
+
+    /**
+     * Collect performance metrics of the current page
+     * @param driver WebDriver session
+     * @return page metrics
+     */
+    @SuppressWarnings("unchecked")
+    public static PageMetrics collect(WebDriver driver) {
+        Object values = ((JavascriptExecutor) driver).executeScript(COLLECT_SCRIPT);
+        PageMetrics metrics = new PageMetrics(driver.getCurrentUrl(), values instanceof Map<?, ?> map ? (Map<String, Object>) map : Map.of());
+        LoggerUtil.logInfo(logger, "Collected " + metrics + " [throttle: " + WebDriverFactory.getThrottleProfile().getName() + "]");
+        return metrics;
+    }
+
+    /**
+     * Check metrics against the budgets configured for a page as perf.budget.&lt;page&gt;.&lt;metric&gt;,
+     * a budget suffixed with the active throttle profile name takes precedence. Breaches are logged and
+     * reported, and only fail the step with perf.budget.mode=fail
+     * @param pageName page key used in the budget properties
+     * @param metrics collected metrics
+     */
+    public static void verifyBudget(String pageName, PageMetrics metrics) {
+        ConfigManager config = ConfigManager.getInstance();
+        List<String> breaches = new ArrayList<>();
+        String profile = WebDriverFactory.getThrottleProfile().getName();
+
+        for (Map.Entry<String, Double> metric : metrics.toBudgetMap().entrySet()) {
+            String key = BUDGET_PREFIX + pageName + "." + metric.getKey();
+            String budget = config.getProperty(key + "." + profile, config.getProperty(key));
+            if (budget != null && metric.getValue() > Double.parseDouble(budget.trim())) {
+                breaches.add("%s=%.3f (budget %s)".formatted(metric.getKey(), metric.getValue(), budget.trim()));
+            }
+        }
+
+        if (!breaches.isEmpty()) {
+            String description = String.join(", ", breaches) + " [throttle: " + profile + "]";
+            Reporter.log("PERFORMANCE BUDGET BREACH: " + pageName + " - " + description, false);
+            if (STRICT_MODE.equals(config.getPerformanceBudgetMode())) {
+                throw new PerformanceBudgetException("Page exceeded its performance budget", pageName, description);
+            }
+            LoggerUtil.logWarning(logger, "Performance budget exceeded for page: " + pageName + " - " + description);
+            return;
+        }
+        LoggerUtil.logAssertion(logger, "Performance budget met for page: " + pageName + " [throttle: " + profile + "]");
+    }
+}
@@ -0,0 +1,58 @@
+package com.insider.utils;
+
+import lombok.Getter;
+
+import java.util.Map;
+
+/**
+ * State of one page section captured by a single script call: presence, visibility,
+ * bounding box in page coordinates and a truncated text sample
+ */
+@Getter
+public class SectionSnapshot {
+
+    private final String name;
+    private final boolean present;
+    private final boolean visible;
+    private final double x;
+    private final double y;
+    private final double width;
+    private final double height;
+    private final int textLength;
+    private final String textSample;
+
+    /**
+     * Constructor for SectionSnapshot
+     * @param name section name
+     * @param values raw values returned by the snapshot script
+     */
+    public SectionSnapshot(String name, Map<?, ?> values) {
+        this.name = name;
+        this.present = Boolean.TRUE.equals(values.get("present"));
+        this.visible = Boolean.TRUE.equals(values.get("visible"));
+        this.x = number(values.get("x"));
+        this.y = number(values.get("y"));
+        this.width = number(values.get("width"));
+        this.height = number(values.get("height"));
+        this.textLength = (int) number(values.get("textLength"));
+        this.textSample = values.get("text") instanceof String text ? text : "";
+    }
+
+    /**
+     * Check if the section has any text
+     * @return true if the section text is not blank
+     */
+    public boolean hasText() {
+        return textLength > 0;
+    }
+
+    @Override
+    public String toString() {
+        return "%s [present=%s, visible=%s, box=%.0fx%.0f@%.0f,%.0f, text=%d chars]"
+                .formatted(name, present, visible, width, height, x, y, textLength);
+    }
+
+    private static double number(Object value) {
+        return value instanceof Number number ? number.doubleValue() : 0;
+    }
+}
@@ -0,0 +1,321 @@
+package com.insider.utils;
+
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeDriverService;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.remote.service.DriverFinder;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.Set;
+
+/**
+ * One chromedriver process per JVM that every Chrome session is created against. The driver and
+ * browser binaries are resolved once through Selenium Manager and cached in cache.dir, so later
+ * runs start without a Selenium Manager call and work offline. The cache holds a stamp of both
+ * binaries and is dropped when either one is updated in place. Sessions are counted per service, so a
+ * service replaced after the binaries are resolved again keeps running until its last session quits.
+ */
+public class SharedChromeService {
+
+    // Private constructor to prevent instantiation
+    private SharedChromeService() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    private static final Logger logger = LoggerUtil.getLogger(SharedChromeService.class);
+    private static final String PATHS_FILE_NAME = "chromedriver-paths.properties";
+    private static final String DRIVER_PATH_KEY = "driverPath";
+    private static final String BROWSER_PATH_KEY = "browserPath";
+    private static final String DRIVER_STAMP_KEY = "driverStamp";
+    private static final String BROWSER_STAMP_KEY = "browserStamp";
+
+    private static KeptAliveService service;
+    private static final Map<KeptAliveService, Integer> sessionCounts = new HashMap<>();
+    private static final Map<WebDriver, KeptAliveService> sessions = new HashMap<>();
+    private static final Set<KeptAliveService> retired = new HashSet<>();
+    private static String driverPath;
+    private static String browserPath;
+    private static boolean shutdownHookAdded;
+
+    /**
+     * Chromedriver service that survives session quits, ChromeDriver stops its service on quit
+     */
+    private static class KeptAliveService extends ChromeDriverService {
+        KeptAliveService(File executable, int port, Duration timeout, List<String> args, Map<String, String> environment) throws IOException {
+            super(executable, port, timeout, args, environment);
+        }
+
+        @Override
+        public void stop() {
+            // Stopped only when retired without sessions or by the shutdown hook
+        }
+
+        void shutdown() {
+            super.stop();
+        }
+    }
+
+    private static class KeptAliveServiceBuilder extends ChromeDriverService.Builder {
+        @Override
+        protected ChromeDriverService createDriverService(File executable, int port, Duration timeout, List<String> args, Map<String, String> environment) {
+            try {
+                return new KeptAliveService(executable, port, timeout, args, environment);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * Take the running shared service for a session about to be created, resolving the binaries and
+     * starting it on first use. The session is either attached to the created driver or returned with
+     * release(service) if it was not created.
+     * @return running chromedriver service
+     * @throws IOException if the service cannot be started
+     */
+    public static synchronized ChromeDriverService acquire() throws IOException {
+        if (service == null || !service.isRunning()) {
+            retire(service);
+            service = null;
+            start();
+        }
+        sessionCounts.merge(service, 1, Integer::sum);
+        return service;
+    }
+
+    /**
+     * Attach a session taken with acquire() to the created driver
+     * @param driver created driver
+     * @param driverService service the driver was created against
+     */
+    public static synchronized void attach(WebDriver driver, ChromeDriverService driverService) {
+        if (driverService instanceof KeptAliveService keptAlive) {
+            sessions.put(driver, keptAlive);
+        }
+    }
+
+    /**
+     * Return a session taken with acquire() that was not created
+     * @param driverService service returned by acquire()
+     */
+    public static synchronized void release(ChromeDriverService driverService) {
+        if (!(driverService instanceof KeptAliveService keptAlive)) {
+            return;
+        }
+        Integer remaining = sessionCounts.computeIfPresent(keptAlive, (key, count) -> count > 1 ? count - 1 : null);
+        if (remaining == null && retired.remove(keptAlive)) {
+            stop(keptAlive);
+        }
+    }
+
+    /**
+     * Return the session of a driver that quit, a retired service is stopped with its last session.
+     * Does nothing if the driver was not created against the shared service.
+     * @param driver driver that quit
+     */
+    public static synchronized void release(WebDriver driver) {
+        KeptAliveService driverService = driver != null ? sessions.remove(driver) : null;
+        if (driverService != null) {
+            release((ChromeDriverService) driverService);
+        }
+    }
+
+    private static void start() throws IOException {
+        long start = System.nanoTime();
+        service = (KeptAliveService) new KeptAliveServiceBuilder()
+                .usingDriverExecutable(new File(resolveDriverPath()))
+                .usingAnyFreePort()
+                .build();
+        service.start();
+        if (!shutdownHookAdded) {
+            Runtime.getRuntime().addShutdownHook(new Thread(SharedChromeService::shutdown, "chromedriver-shutdown"));
+            shutdownHookAdded = true;
+        }
+        logger.info("Shared chromedriver started at {} in {}ms", service.getUrl(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Stop a service that new sessions no longer use, or keep it until its open sessions quit
+     */
+    private static void retire(KeptAliveService oldService) {
+        if (oldService == null) {
+            return;
+        }
+        int openSessions = sessionCounts.getOrDefault(oldService, 0);
+        if (openSessions == 0) {
+            stop(oldService);
+        } else {
+            retired.add(oldService);
+            logger.info("Chromedriver at {} retired, it stops after its {} open sessions quit", oldService.getUrl(), openSessions);
+        }
+    }
+
+    private static void stop(KeptAliveService oldService) {
+        try {
+            oldService.shutdown();
+            logger.info("Chromedriver at {} stopped", oldService.getUrl());
+        } catch (RuntimeException e) {
+            LoggerUtil.logWarning(logger, "Error while stopping chromedriver: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Check if the shared service has been started
+     * @return true if sessions are created against a running shared service
+     */
+    public static synchronized boolean isRunning() {
+        return service != null && service.isRunning();
+    }
+
+    /**
+     * Get the Chrome binary resolved with the driver
+     * @return browser binary path, null if Chrome is found by chromedriver itself
+     */
+    public static synchronized String getBrowserPath() {
+        return browserPath;
+    }
+
+    /**
+     * Stop the shared service and every retired one at JVM exit, sessions still open on them are closed with them
+     */
+    public static synchronized void shutdown() {
+        List<KeptAliveService> services = new ArrayList<>(retired);
+        if (service != null) {
+            services.add(service);
+        }
+        services.forEach(SharedChromeService::stop);
+        service = null;
+        retired.clear();
+        sessionCounts.clear();
+        sessions.clear();
+    }
+
+    /**
+     * Resolve the binaries through Selenium Manager again, bypassing the cached paths, after a session
+     * failed because the driver no longer matches the browser. The cache is overwritten only once the
+     * resolution succeeds. When other binaries are found, new sessions get a fresh service and the
+     * current one is retired: sessions still open on it keep working and it stops after the last quits.
+     * @return true if a different driver or browser was resolved
+     */
+    public static synchronized boolean reresolve() {
+        String previousDriverPath = driverPath;
+        String previousBrowserPath = browserPath;
+        resolveThroughSeleniumManager(Paths.get(ConfigManager.getInstance().getCacheDir(), PATHS_FILE_NAME));
+        if (driverPath.equals(previousDriverPath) && Objects.equals(browserPath, previousBrowserPath)) {
+            logger.info("Selenium Manager resolved the same chromedriver again: {}", driverPath);
+            return false;
+        }
+        retire(service);
+        service = null;
+        return true;
+    }
+
+    /**
+     * Check if the chromedriver path comes from chrome.driver.path instead of the resolver
+     * @return true if the driver path is configured
+     */
+    public static boolean isDriverPathConfigured() {
+        return !ConfigManager.getInstance().getChromeDriverPath().isEmpty();
+    }
+
+    /**
+     * Resolve the chromedriver binary once per JVM: the configured path, then the cached paths,
+     * then Selenium Manager
+     * @return chromedriver executable path
+     */
+    public static synchronized String resolveDriverPath() {
+        if (driverPath != null) {
+            return driverPath;
+        }
+        ConfigManager config = ConfigManager.getInstance();
+        String configuredPath = config.getChromeDriverPath();
+        if (!configuredPath.isEmpty()) {
+            driverPath = configuredPath;
+            return driverPath;
+        }
+
+        Path pathsFile = Paths.get(config.getCacheDir(), PATHS_FILE_NAME);
+        Properties paths = new Properties();
+        if (Files.exists(pathsFile)) {
+            try (InputStream input = Files.newInputStream(pathsFile)) {
+                paths.load(input);
+            } catch (IOException e) {
+                LoggerUtil.logWarning(logger, "Could not read cached chromedriver paths: " + e.getMessage());
+            }
+            String cachedDriver = paths.getProperty(DRIVER_PATH_KEY, "");
+            String cachedBrowser = paths.getProperty(BROWSER_PATH_KEY, "");
+            boolean driverCurrent = isExecutable(cachedDriver)
+                    && stamp(cachedDriver).equals(paths.getProperty(DRIVER_STAMP_KEY, ""));
+            boolean browserCurrent = cachedBrowser.isEmpty()
+                    || (isExecutable(cachedBrowser) && stamp(cachedBrowser).equals(paths.getProperty(BROWSER_STAMP_KEY, "")));
+            if (driverCurrent && browserCurrent) {
+                browserPath = cachedBrowser.isEmpty() ? null : cachedBrowser;
+                driverPath = cachedDriver;
+                logger.info("Using cached chromedriver: {}", driverPath);
+                return driverPath;
+            }
+            logger.info("Cached chromedriver paths are out of date, resolving again");
+        }
+        resolveThroughSeleniumManager(pathsFile);
+        return driverPath;
+    }
+
+    /**
+     * Resolve both binaries through Selenium Manager and cache them, the fields change only on success
+     */
+    private static void resolveThroughSeleniumManager(Path pathsFile) {
+        long start = System.nanoTime();
+        DriverFinder finder = new DriverFinder(ChromeDriverService.createDefaultService(), new ChromeOptions());
+        String resolvedDriverPath = finder.getDriverPath();
+        String resolvedBrowserPath = finder.hasBrowserPath() ? finder.getBrowserPath() : null;
+        driverPath = resolvedDriverPath;
+        browserPath = resolvedBrowserPath;
+        logger.info("Resolved chromedriver through Selenium Manager in {}ms: {}", (System.nanoTime() - start) / 1_000_000, driverPath);
+
+        Properties paths = new Properties();
+        paths.setProperty(DRIVER_PATH_KEY, driverPath);
+        paths.setProperty(BROWSER_PATH_KEY, browserPath != null ? browserPath : "");
+        paths.setProperty(DRIVER_STAMP_KEY, stamp(driverPath));
+        paths.setProperty(BROWSER_STAMP_KEY, browserPath != null ? stamp(browserPath) : "");
+        try {
+            Files.createDirectories(pathsFile.getParent());
+            try (OutputStream output = Files.newOutputStream(pathsFile)) {
+                paths.store(output, "Resolved chromedriver and Chrome binaries");
+            }
+        } catch (IOException e) {
+            LoggerUtil.logWarning(logger, "Could not cache chromedriver paths: " + e.getMessage());
+        }
+    }
+
+    private static boolean isExecutable(String path) {
+        return !path.isEmpty() && Files.isExecutable(Paths.get(path));
+    }
+
+    /**
+     * Stamp a binary with its size and modification time, an update replaces the file and changes both
+     */
+    private static String stamp(String path) {
+        try {
+            Path binary = Paths.get(path).toRealPath();
+            return Files.size(binary) + ":" + Files.getLastModifiedTime(binary).toMillis();
+        } catch (IOException e) {
+            return "";
+        }
+    }
+}
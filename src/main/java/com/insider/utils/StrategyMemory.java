@@ -0,0 +1,150 @@
+package com.insider.utils;
+
+import com.insider.exceptions.ElementException;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.Callable;
+
+/**
+ * Memory of which interaction strategy worked for each page element, persisted across runs.
+ * Strategies are tried starting with the one that succeeded most recently, and a strategy that
+ * failed strategy.demote.after times in a row is only tried after all the others, so a known-good
+ * path does not pay the wait timeout of a failing one.
+ */
+public class StrategyMemory {
+    private static final Logger logger = LoggerUtil.getLogger(StrategyMemory.class);
+    private static final String MEMORY_FILE_NAME = "strategy-memory.properties";
+    private static final String LAST_SUCCESS_SUFFIX = ".lastSuccess";
+    private static final String FAILURES_SUFFIX = ".consecutiveFailures";
+
+    /**
+     * Initialization-on-demand holder idiom for thread-safe lazy initialization
+     */
+    private static class StrategyMemoryHolder {
+        private static final StrategyMemory INSTANCE = new StrategyMemory();
+    }
+
+    private final ConfigManager config = ConfigManager.getInstance();
+    private final Properties entries = new Properties();
+    private final Path memoryFile;
+
+    private StrategyMemory() {
+        memoryFile = Paths.get(config.getCacheDir(), MEMORY_FILE_NAME);
+        if (Files.exists(memoryFile)) {
+            try (InputStream input = Files.newInputStream(memoryFile)) {
+                entries.load(input);
+            } catch (IOException e) {
+                LoggerUtil.logWarning(logger, "Could not read strategy memory, starting empty: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Get singleton instance of StrategyMemory
+     * @return StrategyMemory instance
+     */
+    public static StrategyMemory getInstance() {
+        return StrategyMemoryHolder.INSTANCE;
+    }
+
+    /**
+     * Try the strategies of an element in learned order until one succeeds and remember the outcome
+     * @param scope page and element the strategies interact with
+     * @param strategies strategies by name in their default order, each returns true on success
+     * @return name of the strategy that succeeded
+     * @throws RuntimeException the failure of the last strategy tried when none succeeded
+     */
+    public String apply(String scope, Map<String, Callable<Boolean>> strategies) {
+        Exception lastFailure = null;
+        for (String name : order(scope, new ArrayList<>(strategies.keySet()))) {
+            try {
+                if (Boolean.TRUE.equals(strategies.get(name).call())) {
+                    recordSuccess(scope, name);
+                    return name;
+                }
+            } catch (Exception e) {
+                lastFailure = e;
+            }
+            recordFailure(scope, name);
+            LoggerUtil.logWarning(logger, "Strategy '" + name + "' failed for " + scope);
+        }
+        if (lastFailure instanceof RuntimeException runtimeException) {
+            throw runtimeException;
+        }
+        throw new ElementException("No interaction strategy succeeded", scope, "STRATEGY", lastFailure);
+    }
+
+    /**
+     * Order strategies by their last success, demoting those that keep failing
+     * @param scope page and element the strategies interact with
+     * @param strategies strategy names in their default order
+     * @return strategy names in the order they should be tried
+     */
+    public synchronized List<String> order(String scope, List<String> strategies) {
+        if (!config.isStrategyMemoryEnabled()) {
+            return strategies;
+        }
+        List<String> ordered = strategies.stream()
+                .sorted(Comparator.comparing((String name) -> isDemoted(scope, name))
+                        .thenComparing(name -> -lastSuccess(scope, name))
+                        .thenComparingInt(strategies::indexOf))
+                .toList();
+        if (!ordered.equals(strategies)) {
+            LoggerUtil.logInfo(logger, "Learned strategy order for " + scope + ": " + ordered);
+        }
+        return ordered;
+    }
+
+    private synchronized void recordSuccess(String scope, String strategy) {
+        if (!config.isStrategyMemoryEnabled()) {
+            return;
+        }
+        entries.setProperty(key(scope, strategy) + LAST_SUCCESS_SUFFIX, Long.toString(System.currentTimeMillis()));
+        entries.remove(key(scope, strategy) + FAILURES_SUFFIX);
+        save();
+    }
+
+    private synchronized void recordFailure(String scope, String strategy) {
+        if (!config.isStrategyMemoryEnabled()) {
+            return;
+        }
+        String failuresKey = key(scope, strategy) + FAILURES_SUFFIX;
+        entries.setProperty(failuresKey, Integer.toString(Integer.parseInt(entries.getProperty(failuresKey, "0")) + 1));
+        save();
+    }
+
+    private boolean isDemoted(String scope, String strategy) {
+        return Integer.parseInt(entries.getProperty(key(scope, strategy) + FAILURES_SUFFIX, "0")) >= config.getStrategyDemoteAfter();
+    }
+
+    private long lastSuccess(String scope, String strategy) {
+        return Long.parseLong(entries.getProperty(key(scope, strategy) + LAST_SUCCESS_SUFFIX, "0"));
+    }
+
+    private void save() {
+        try {
+            Files.createDirectories(memoryFile.getParent());
+            try (OutputStream output = Files.newOutputStream(memoryFile)) {
+                entries.store(output, "Interaction strategy memory");
+            }
+        } catch (IOException e) {
+            LoggerUtil.logWarning(logger, "Could not write strategy memory: " + e.getMessage());
+        }
+    }
+
+    private static String key(String scope, String strategy) {
+        return (scope + "." + strategy).trim().toLowerCase(Locale.ROOT).replaceAll("\\s+", "_");
+    }
+}
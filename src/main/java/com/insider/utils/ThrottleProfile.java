@@ -0,0 +1,92 @@
+package com.insider.utils;
+
+import lombok.Getter;
+
+/**
+ * Named network and CPU throttling profile applied to a browser session through DevTools.
+ * Profiles are defined in config.properties as throttle.profiles.&lt;name&gt;.&lt;setting&gt;
+ */
+@Getter
+public class ThrottleProfile {
+
+    public static final String NONE_NAME = "none";
+    public static final ThrottleProfile NONE = new ThrottleProfile(NONE_NAME, 0, -1, -1, 1);
+
+    private static final String PROFILE_PREFIX = "throttle.profiles.";
+
+    private final String name;
+    private final int latencyMillis;
+    private final int downloadKbps;
+    private final int uploadKbps;
+    private final int cpuSlowdownRate;
+
+    /**
+     * Constructor for ThrottleProfile
+     * @param name profile name
+     * @param latencyMillis added round trip latency, 0 for none
+     * @param downloadKbps download throughput in kilobits per second, -1 for unlimited
+     * @param uploadKbps upload throughput in kilobits per second, -1 for unlimited
+     * @param cpuSlowdownRate CPU slowdown factor, 1 for none
+     */
+    public ThrottleProfile(String name, int latencyMillis, int downloadKbps, int uploadKbps, int cpuSlowdownRate) {
+        this.name = name;
+        this.latencyMillis = latencyMillis;
+        this.downloadKbps = downloadKbps;
+        this.uploadKbps = uploadKbps;
+        this.cpuSlowdownRate = cpuSlowdownRate;
+    }
+
+    /**
+     * Load a profile from config.properties
+     * @param name profile name, blank or "none" for no throttling
+     * @return throttle profile
+     */
+    public static ThrottleProfile fromConfig(String name) {
+        if (name == null || name.isBlank() || NONE_NAME.equalsIgnoreCase(name.trim())) {
+            return NONE;
+        }
+        ConfigManager config = ConfigManager.getInstance();
+        String prefix = PROFILE_PREFIX + name.trim() + ".";
+        boolean defined = config.getProperty(prefix + "latency.ms") != null
+                || config.getProperty(prefix + "download.kbps") != null
+                || config.getProperty(prefix + "cpu.rate") != null;
+        if (!defined) {
+            throw new IllegalArgumentException("Unknown throttle profile: %s".formatted(name));
+        }
+        return new ThrottleProfile(name.trim(),
+                config.getIntProperty(prefix + "latency.ms", 0),
+                config.getIntProperty(prefix + "download.kbps", -1),
+                config.getIntProperty(prefix + "upload.kbps", -1),
+                config.getIntProperty(prefix + "cpu.rate", 1));
+    }
+
+    /**
+     * Check if the profile throttles the network
+     * @return true if latency or throughput is limited
+     */
+    public boolean throttlesNetwork() {
+        return latencyMillis > 0 || downloadKbps >= 0 || uploadKbps >= 0;
+    }
+
+    /**
+     * Check if the profile slows down the CPU
+     * @return true if the CPU slowdown rate is above 1
+     */
+    public boolean throttlesCpu() {
+        return cpuSlowdownRate > 1;
+    }
+
+    /**
+     * Convert kilobits per second to the bytes per second DevTools expects
+     * @param kbps throughput in kilobits per second, -1 for unlimited
+     * @return throughput in bytes per second, -1 for unlimited
+     */
+    public static long toBytesPerSecond(int kbps) {
+        return kbps < 0 ? -1 : kbps * 1024L / 8;
+    }
+
+    @Override
+    public String toString() {
+        return "%s (latency %dms, down %dkbps, up %dkbps, cpu %dx)".formatted(name, latencyMillis, downloadKbps, uploadKbps, cpuSlowdownRate);
+    }
+}
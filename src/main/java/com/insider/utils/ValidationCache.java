@@ -0,0 +1,234 @@
+package com.insider.utils;
+
+import com.insider.replay.ReplayServer;
+import org.apache.logging.log4j.Logger;
+import org.testng.Reporter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.regex.Pattern;
+
+/**
+ * Result cache that skips expensive page validations when the page content is unchanged
+ * since the last passing run. Pages are fingerprinted with a single HTTP request using
+ * the ETag or Last-Modified header, falling back to a hash of the markup without scripts.
+ * Page objects prefetch the fingerprint before navigating, so the request runs alongside the
+ * page load instead of after it.
+ */
+public class ValidationCache {
+    private static final Logger logger = LoggerUtil.getLogger(ValidationCache.class);
+    private static final Pattern SCRIPT_PATTERN = Pattern.compile("(?is)<script\\b.*?</script>");
+    private static final String CACHE_FILE_NAME = "validation-cache.properties";
+    private static final String SEPARATOR = "|";
+
+    /**
+     * Initialization-on-demand holder idiom for thread-safe lazy initialization
+     */
+    private static class ValidationCacheHolder {
+        private static final ValidationCache INSTANCE = new ValidationCache();
+    }
+
+    private final ConfigManager config = ConfigManager.getInstance();
+    private final Properties entries = new Properties();
+    private final Map<String, String> currentFingerprints = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<Optional<String>>> prefetchedFingerprints = new ConcurrentHashMap<>();
+    private final Path cacheFile;
+    private final HttpClient httpClient;
+
+    private ValidationCache() {
+        cacheFile = Paths.get(config.getCacheDir(), CACHE_FILE_NAME);
+        httpClient = ReplayServer.applyProxy(HttpClient.newBuilder())
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .connectTimeout(Duration.ofSeconds(config.getExplicitWait()))
+                .build();
+        if (Files.exists(cacheFile)) {
+            try (InputStream input = Files.newInputStream(cacheFile)) {
+                entries.load(input);
+            } catch (IOException e) {
+                LoggerUtil.logWarning(logger, "Could not read validation cache, starting empty: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Get singleton instance of ValidationCache
+     * @return ValidationCache instance
+     */
+    public static ValidationCache getInstance() {
+        return ValidationCacheHolder.INSTANCE;
+    }
+
+    /**
+     * Start fingerprinting a page in the background, the next validation against the URL uses the result
+     * @param fingerprintUrl URL fetched to fingerprint the validated content
+     */
+    public void prefetch(String fingerprintUrl) {
+        if (config.isCacheEnabled()) {
+            prefetchedFingerprints.computeIfAbsent(fingerprintUrl, this::fingerprintAsync);
+        }
+    }
+
+    /**
+     * Check whether a validation passed before against the same page content and within the TTL
+     * @param validationKey key of the validation
+     * @param fingerprintUrl URL fetched to fingerprint the validated content
+     * @return true if the validation can be reported as a cached pass
+     */
+    public boolean isCachedPass(String validationKey, String fingerprintUrl) {
+        if (!config.isCacheEnabled()) {
+            return false;
+        }
+
+        CompletableFuture<Optional<String>> prefetched = prefetchedFingerprints.remove(fingerprintUrl);
+        Optional<String> fingerprint = prefetched != null ? prefetched.join() : fingerprint(fingerprintUrl);
+        if (fingerprint.isEmpty()) {
+            return false;
+        }
+        currentFingerprints.put(validationKey, fingerprint.get());
+
+        if (config.isCacheForceRefresh()) {
+            LoggerUtil.logInfo(logger, "Validation cache refresh forced for: " + validationKey);
+            return false;
+        }
+
+        String entry = entries.getProperty(validationKey);
+        if (entry == null) {
+            return false;
+        }
+        int separatorIndex = entry.indexOf(SEPARATOR);
+        long passedAt;
+        try {
+            passedAt = Long.parseLong(entry.substring(0, Math.max(separatorIndex, 0)));
+        } catch (NumberFormatException e) {
+            LoggerUtil.logWarning(logger, "Ignoring unreadable validation cache entry for: " + validationKey);
+            return false;
+        }
+        String passedFingerprint = entry.substring(separatorIndex + 1);
+        long age = System.currentTimeMillis() - passedAt;
+
+        if (age > Duration.ofMinutes(config.getCacheTtlMinutes()).toMillis() || !passedFingerprint.equals(fingerprint.get())) {
+            return false;
+        }
+
+        String message = "CACHED PASS: " + validationKey + " - content unchanged since " + Duration.ofMillis(age).toMinutes() + " minutes ago";
+        Reporter.log(message, false);
+        LoggerUtil.logAssertion(logger, message);
+        return true;
+    }
+
+    /**
+     * Record a passing validation against the fingerprint seen at the start of the validation
+     * @param validationKey key of the validation
+     * @param fingerprintUrl URL fetched to fingerprint the validated content
+     */
+    public synchronized void recordPass(String validationKey, String fingerprintUrl) {
+        if (!config.isCacheEnabled()) {
+            return;
+        }
+        String fingerprint = currentFingerprints.remove(validationKey);
+        if (fingerprint == null) {
+            fingerprint = fingerprint(fingerprintUrl).orElse(null);
+        }
+        if (fingerprint == null) {
+            return;
+        }
+
+        entries.setProperty(validationKey, System.currentTimeMillis() + SEPARATOR + fingerprint);
+        try {
+            Files.createDirectories(cacheFile.getParent());
+            try (OutputStream output = Files.newOutputStream(cacheFile)) {
+                entries.store(output, "Validation result cache");
+            }
+        } catch (IOException e) {
+            LoggerUtil.logWarning(logger, "Could not write validation cache: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Fingerprint a page with one HTTP request
+     * @param url URL to fetch
+     * @return fingerprint, empty if the page could not be fetched
+     */
+    private Optional<String> fingerprint(String url) {
+        try {
+            return fingerprintAsync(url).get();
+        } catch (ExecutionException e) {
+            return Optional.empty();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Fingerprint a page with one asynchronous HTTP request
+     * @param url URL to fetch
+     * @return future fingerprint, empty if the page could not be fetched
+     */
+    private CompletableFuture<Optional<String>> fingerprintAsync(String url) {
+        HttpRequest request;
+        try {
+            request = HttpRequest.newBuilder(URI.create(url))
+                    .timeout(Duration.ofSeconds(config.getExplicitWait()))
+                    .GET()
+                    .build();
+        } catch (IllegalArgumentException e) {
+            LoggerUtil.logWarning(logger, "Could not fingerprint " + url + ": " + e.getMessage());
+            return CompletableFuture.completedFuture(Optional.empty());
+        }
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8))
+                .handle((response, error) -> {
+                    if (error != null) {
+                        LoggerUtil.logWarning(logger, "Could not fingerprint " + url + ": " + error.getMessage());
+                        return Optional.empty();
+                    }
+                    return fingerprint(url, response);
+                });
+    }
+
+    private static Optional<String> fingerprint(String url, HttpResponse<String> response) {
+        if (response.statusCode() >= 400) {
+            LoggerUtil.logWarning(logger, "Fingerprint request returned status " + response.statusCode() + " for: " + url);
+            return Optional.empty();
+        }
+
+        Optional<String> etag = response.headers().firstValue("ETag");
+        if (etag.isPresent()) {
+            return Optional.of("etag:" + etag.get());
+        }
+        Optional<String> lastModified = response.headers().firstValue("Last-Modified");
+        if (lastModified.isPresent()) {
+            return Optional.of("modified:" + lastModified.get());
+        }
+        String markup = SCRIPT_PATTERN.matcher(response.body()).replaceAll("");
+        return Optional.of("sha256:" + sha256(markup));
+    }
+
+    private static String sha256(String content) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(content.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -1,17 +1,32 @@
 package com.insider.utils;
 
+import com.insider.driver.DriverTier;
+import com.insider.driver.StaticPageDriver;
 import com.insider.exceptions.WebDriverFactoryException;
+import com.insider.execution.BrowserSlots;
+import com.insider.history.RunTimings;
+import com.insider.replay.ReplayServer;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.SessionNotCreatedException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeDriverService;
 import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.chromium.HasCdp;
+import org.openqa.selenium.logging.LogType;
 import org.openqa.selenium.support.ui.WebDriverWait;
 
+import java.io.File;
+import java.io.IOException;
 import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 /**
- * Factory class for WebDriver management
+ * Factory class for WebDriver management, each thread owns its own WebDriver session
  */
 public class WebDriverFactory {
     
@@ -21,43 +36,134 @@ public class WebDriverFactory {
     }
     
     private static final Logger logger = LogManager.getLogger(WebDriverFactory.class);
-    private static WebDriver driver;
-    private static WebDriverWait wait;
+    private static final ThreadLocal<WebDriver> driver = new ThreadLocal<>();
+    private static final ThreadLocal<WebDriverWait> wait = new ThreadLocal<>();
+    private static final ThreadLocal<ThrottleProfile> throttleProfile = new ThreadLocal<>();
+    private static final ThreadLocal<DriverTier> requestedTier = new ThreadLocal<>();
+    private static final ThreadLocal<Map<String, Long>> startupBreakdown = ThreadLocal.withInitial(LinkedHashMap::new);
 
     /**
-     * Initialize WebDriver instance
+     * Initialize WebDriver instance for the current thread with the driver tier and throttle
+     * profile selected for this thread, or a browser under the configured throttle.profile
      */
     public static void initializeDriver() {
+        ThrottleProfile profile = throttleProfile.get();
+        DriverTier minimumTier = requestedTier.get();
+        initializeDriver(minimumTier != null ? minimumTier : DriverTier.BROWSER,
+                profile != null ? profile.getName() : ConfigManager.getInstance().getThrottleProfile());
+    }
+
+    /**
+     * Initialize a browser for the current thread under a named throttle profile,
+     * the profile is kept for sessions re-initialized later on the same thread
+     * @param throttleProfileName throttle profile name from config.properties, "none" for full speed
+     */
+    public static void initializeDriver(String throttleProfileName) {
+        initializeDriver(DriverTier.BROWSER, throttleProfileName);
+    }
+
+    /**
+     * Initialize the cheapest driver that satisfies a minimum tier for the current thread. The static
+     * tier is used only when it is enabled and the throttle profile does not need a browser to emulate.
+     * @param minimumTier minimum driver tier the caller needs
+     * @param throttleProfileName throttle profile name from config.properties, "none" for full speed
+     */
+    public static void initializeDriver(DriverTier minimumTier, String throttleProfileName) {
         ConfigManager config = ConfigManager.getInstance();
+        boolean slotPending = false;
         
         try {
+            ThrottleProfile profile = ThrottleProfile.fromConfig(throttleProfileName);
+            throttleProfile.set(profile);
+            requestedTier.set(minimumTier);
+
+            if (DriverTier.STATIC.satisfies(minimumTier) && config.isStaticTierEnabled()
+                    && !profile.throttlesNetwork() && !profile.throttlesCpu()) {
+                driver.set(new StaticPageDriver());
+                wait.set(new WebDriverWait(getDriver(), Duration.ZERO));
+                logger.info("Static page driver initialized for minimum tier {}", minimumTier);
+                return;
+            }
+
+            startupBreakdown.get().clear();
+            long phaseStart = System.nanoTime();
+            BrowserSlots.acquire();
+            slotPending = true;
+            recordStartupPhase("slot", phaseStart);
             if (config.getBrowser().equalsIgnoreCase("chrome")) {
                 setupChromeDriver();
             } else {
                 throw new IllegalArgumentException("Unsupported browser: %s".formatted(config.getBrowser()));
             }
+            // The slot now belongs to the browser and is returned when it quits
+            BrowserSlots.attach(getDriver());
+            slotPending = false;
             
+            phaseStart = System.nanoTime();
             configureDriver();
-            logger.info("WebDriver initialized successfully");
+            phaseStart = recordStartupPhase("configure", phaseStart);
+            applyThrottleProfile();
+            PerformanceMonitor.install(getDriver());
+            HarRecorder.current().connect(getDriver());
+            MemorySampler.current().connect(getDriver());
+            recordStartupPhase("instrumentation", phaseStart);
+            logger.info("WebDriver initialized successfully, startup {}", startupBreakdown.get().entrySet().stream()
+                    .map(phase -> phase.getKey() + "=" + phase.getValue() + "ms")
+                    .collect(Collectors.joining(" ")));
         } catch (Exception e) {
+            if (slotPending) {
+                BrowserSlots.release();
+            }
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
             logger.error("Failed to initialize WebDriver", e);
             throw new WebDriverFactoryException("WebDriver initialization failed", "INITIALIZATION", config.getBrowser(), e);
         }
     }
 
     /**
-     * Setup Chrome WebDriver
+     * Get driver tier of the current thread's session
+     * @return STATIC for a static page driver, BROWSER otherwise
      */
-    private static void setupChromeDriver() {
-        // Selenium 4+ otomatik driver yönetimi kullanılıyor
+    public static DriverTier getTier() {
+        return driver.get() instanceof StaticPageDriver ? DriverTier.STATIC : DriverTier.BROWSER;
+    }
 
+    /**
+     * Get the startup time breakdown of the current thread's browser session
+     * @return milliseconds per startup phase in order: slot, resolve, service, session, configure, instrumentation
+     */
+    public static Map<String, Long> getStartupBreakdown() {
+        return Collections.unmodifiableMap(startupBreakdown.get());
+    }
+
+    private static long recordStartupPhase(String phase, long startNanos) {
+        long now = System.nanoTime();
+        long millis = (now - startNanos) / 1_000_000;
+        startupBreakdown.get().put(phase, millis);
+        RunTimings.recordStep("driverStartup." + phase, millis);
+        return now;
+    }
+
+    /**
+     * Setup Chrome WebDriver
+     */
+    private static void setupChromeDriver() throws IOException {
         ChromeOptions options = new ChromeOptions();
         ConfigManager config = ConfigManager.getInstance();
+        boolean headlessShell = config.isHeadless() && "shell".equals(config.getHeadlessMode())
+                && !config.getHeadlessShellPath().isEmpty();
         
         // Add headless option if configured
         if (config.isHeadless()) {
-            options.addArguments("--headless");
-            logger.info("Running in headless mode");
+            if ("shell".equals(config.getHeadlessMode())) {
+                // chrome-headless-shell only implements the old headless mode
+                options.addArguments("--headless");
+            } else {
+                options.addArguments("--headless=new");
+            }
+            logger.info("Running in headless mode: {}", config.getHeadlessMode());
         }
         
         // Add common Chrome options
@@ -70,9 +176,75 @@ public class WebDriverFactory {
         // Disable infobars
         options.addArguments("--disable-infobars");
         options.addArguments("--disable-extensions");
+
+        // Keep the browser console log for failure bundles
+        if (config.isFailureContextEnabled()) {
+            options.setCapability("goog:loggingPrefs", Map.of(LogType.BROWSER, "ALL"));
+        }
+        
+        // Route traffic through the record and replay fixture server
+        if (ReplayServer.isRunning()) {
+            options.addArguments("--proxy-server=http://%s".formatted(ReplayServer.getProxyAddress()));
+            options.addArguments("--proxy-bypass-list=<-loopback>");
+            logger.info("Routing browser traffic through replay server: {}", ReplayServer.getProxyAddress());
+        }
         
-        driver = new ChromeDriver(options);
-        logger.info("Chrome WebDriver created with Selenium 4+ automatic driver management");
+        try {
+            startChromeSession(config, options, headlessShell);
+        } catch (SessionNotCreatedException e) {
+            if (SharedChromeService.isDriverPathConfigured() || !isVersionMismatch(e)) {
+                throw e;
+            }
+            // The cached chromedriver no longer matches an updated browser, resolve once more
+            LoggerUtil.logWarning(logger, "Chromedriver does not match the browser, resolving it again: " + e.getMessage());
+            if (!SharedChromeService.reresolve()) {
+                throw e;
+            }
+            startChromeSession(config, options, headlessShell);
+        }
+    }
+
+    /**
+     * Check if a session failed because chromedriver does not support the installed browser version
+     */
+    private static boolean isVersionMismatch(SessionNotCreatedException e) {
+        String message = e.getMessage();
+        return message != null && (message.contains("only supports Chrome version") || message.contains("Current browser version is"));
+    }
+
+    /**
+     * Resolve the binaries and create the Chrome session of the current thread
+     */
+    private static void startChromeSession(ConfigManager config, ChromeOptions options, boolean headlessShell) throws IOException {
+        // Resolve binaries once per JVM, sessions are then created against one shared chromedriver
+        long phaseStart = System.nanoTime();
+        String driverPath = SharedChromeService.resolveDriverPath();
+        String browserPath = SharedChromeService.getBrowserPath();
+        if (headlessShell) {
+            options.setBinary(config.getHeadlessShellPath());
+        } else if (browserPath != null) {
+            options.setBinary(browserPath);
+        }
+        phaseStart = recordStartupPhase("resolve", phaseStart);
+
+        ChromeDriverService service;
+        if (config.isDriverServiceShared()) {
+            service = SharedChromeService.acquire();
+        } else {
+            service = new ChromeDriverService.Builder().usingDriverExecutable(new File(driverPath)).usingAnyFreePort().build();
+        }
+        phaseStart = recordStartupPhase("service", phaseStart);
+
+        try {
+            driver.set(new ChromeDriver(service, options));
+        } catch (RuntimeException e) {
+            SharedChromeService.release(service);
+            throw e;
+        }
+        // The shared service now counts this session and is kept until it quits
+        SharedChromeService.attach(getDriver(), service);
+        recordStartupPhase("session", phaseStart);
+        logger.info("Chrome WebDriver created against chromedriver at {}", service.getUrl());
     }
 
     /**
@@ -80,30 +252,76 @@ public class WebDriverFactory {
      */
     private static void configureDriver() {
         ConfigManager config = ConfigManager.getInstance();
+        WebDriver webDriver = getDriver();
         
         // Set timeouts
-        driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(config.getImplicitWait()));
-        driver.manage().timeouts().pageLoadTimeout(Duration.ofSeconds(config.getPageLoadTimeout()));
-        driver.manage().timeouts().scriptTimeout(Duration.ofSeconds(config.getExplicitWait()));
+        webDriver.manage().timeouts().implicitlyWait(Duration.ofSeconds(config.getImplicitWait()));
+        webDriver.manage().timeouts().pageLoadTimeout(Duration.ofSeconds(config.getPageLoadTimeout()));
+        webDriver.manage().timeouts().scriptTimeout(Duration.ofSeconds(config.getExplicitWait()));
         
-        // Maximize window
-        driver.manage().window().maximize();
+        // Headless windows already have the configured size, maximizing them is a wasted round trip
+        if (!config.isHeadless()) {
+            webDriver.manage().window().maximize();
+        }
         
         // Initialize WebDriverWait
-        wait = new WebDriverWait(driver, Duration.ofSeconds(config.getExplicitWait()));
+        wait.set(new WebDriverWait(webDriver, Duration.ofSeconds(config.getExplicitWait())));
         
         logger.info("WebDriver configured with timeouts");
     }
 
     /**
-     * Get current WebDriver instance
+     * Apply the network and CPU throttling of the current thread's profile through DevTools
+     */
+    private static void applyThrottleProfile() {
+        ThrottleProfile profile = getThrottleProfile();
+        if (!profile.throttlesNetwork() && !profile.throttlesCpu()) {
+            return;
+        }
+        if (!(getDriver() instanceof HasCdp cdp)) {
+            throw new IllegalStateException("Throttle profile %s requires a browser with DevTools support".formatted(profile.getName()));
+        }
+
+        if (profile.throttlesNetwork()) {
+            cdp.executeCdpCommand("Network.enable", Map.of());
+            cdp.executeCdpCommand("Network.emulateNetworkConditions", Map.of(
+                    "offline", false,
+                    "latency", profile.getLatencyMillis(),
+                    "downloadThroughput", ThrottleProfile.toBytesPerSecond(profile.getDownloadKbps()),
+                    "uploadThroughput", ThrottleProfile.toBytesPerSecond(profile.getUploadKbps())));
+        }
+        if (profile.throttlesCpu()) {
+            cdp.executeCdpCommand("Emulation.setCPUThrottlingRate", Map.of("rate", profile.getCpuSlowdownRate()));
+        }
+        logger.info("Applied throttle profile: {}", profile);
+    }
+
+    /**
+     * Get throttle profile of the current thread
+     * @return throttle profile, NONE if no session was initialized on this thread
+     */
+    public static ThrottleProfile getThrottleProfile() {
+        ThrottleProfile profile = throttleProfile.get();
+        return profile != null ? profile : ThrottleProfile.NONE;
+    }
+
+    /**
+     * Get WebDriver instance of the current thread
      * @return WebDriver instance
      */
     public static WebDriver getDriver() {
-        if (driver == null) {
+        if (driver.get() == null) {
             throw new IllegalStateException("WebDriver not initialized. Call initializeDriver() first.");
         }
-        return driver;
+        return driver.get();
+    }
+
+    /**
+     * Check if the current thread has a WebDriver session
+     * @return true if a driver is initialized
+     */
+    public static boolean isDriverInitialized() {
+        return driver.get() != null;
     }
 
     /**
@@ -111,25 +329,28 @@ public class WebDriverFactory {
      * @return WebDriverWait instance
      */
     public static WebDriverWait getWait() {
-        if (wait == null) {
+        if (wait.get() == null) {
             throw new IllegalStateException("WebDriverWait not initialized. Call initializeDriver() first.");
         }
-        return wait;
+        return wait.get();
     }
 
     /**
-     * Quit WebDriver and clean up resources
+     * Quit WebDriver of the current thread and clean up resources
      */
     public static void quitDriver() {
-        if (driver != null) {
+        WebDriver current = driver.get();
+        if (current != null) {
             try {
-                driver.quit();
+                current.quit();
                 logger.info("WebDriver quit successfully");
             } catch (Exception e) {
                 logger.error("Error while quitting WebDriver", e);
             } finally {
-                driver = null;
-                wait = null;
+                driver.remove();
+                wait.remove();
+                BrowserSlots.release(current);
+                SharedChromeService.release(current);
             }
         }
     }
@@ -139,11 +360,11 @@ public class WebDriverFactory {
      * @param url URL to navigate to
      */
     public static void navigateTo(String url) {
-        if (driver == null) {
+        if (driver.get() == null) {
             throw new IllegalStateException("WebDriver not initialized");
         }
         try {
-            driver.get(url);
+            driver.get().get(url);
             logger.info("Navigated to: {}", url);
         } catch (Exception e) {
             logger.error("Failed to navigate to: {}", url, e);
@@ -156,10 +377,7 @@ public class WebDriverFactory {
      * @return page title
      */
     public static String getPageTitle() {
-        if (driver == null) {
-            throw new IllegalStateException("WebDriver not initialized");
-        }
-        return driver.getTitle();
+        return getDriver().getTitle();
     }
 
     /**
@@ -167,9 +385,6 @@ public class WebDriverFactory {
      * @return current URL
      */
     public static String getCurrentUrl() {
-        if (driver == null) {
-            throw new IllegalStateException("WebDriver not initialized");
-        }
-        return driver.getCurrentUrl();
+        return getDriver().getCurrentUrl();
     }
 }
\ No newline at end of file
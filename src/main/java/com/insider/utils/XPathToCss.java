@@ -0,0 +1,178 @@
+package com.insider.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Rewrites absolute descendant XPath expressions to CSS selectors for a small subset with a direct
+ * CSS counterpart: element steps joined by // or /, attribute presence, equality, contains and
+ * starts-with predicates, and a leading position predicate on a named element. Anything else, such
+ * as text() predicates, axes or other functions, is left as XPath. The supported translations are
+ * covered by XPathToCssTest; note that in HTML documents CSS compares a few enumerated attribute
+ * values such as type case-insensitively where XPath does not.
+ */
+public final class XPathToCss {
+    private static final Pattern STEP = Pattern.compile("([A-Za-z][\\w-]*|\\*)");
+    private static final Pattern ATTRIBUTE_EXISTS = Pattern.compile("@([A-Za-z][\\w-]*)");
+    private static final Pattern ATTRIBUTE_EQUALS = Pattern.compile("@([A-Za-z][\\w-]*)\\s*=\\s*(?:'([^']*)'|\"([^\"]*)\")");
+    private static final Pattern ATTRIBUTE_FUNCTION = Pattern.compile(
+            "(contains|starts-with)\\(\\s*@([A-Za-z][\\w-]*)\\s*,\\s*(?:'([^']*)'|\"([^\"]*)\")\\s*\\)");
+    private static final Pattern POSITION = Pattern.compile("[1-9]\\d*");
+    private static final Pattern AND = Pattern.compile("\\s+and\\s+");
+
+    // Private constructor to prevent instantiation
+    private XPathToCss() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Compile an XPath expression to an equivalent CSS selector
+     * @param xpath XPath expression
+     * @return CSS selector, empty if the expression has no exact CSS equivalent
+     */
+    public static Optional<String> compile(String xpath) {
+        String expression = xpath.trim();
+        if (!expression.startsWith("//")) {
+            return Optional.empty();
+        }
+        StringBuilder css = new StringBuilder();
+        int position = 2;
+        while (true) {
+            Matcher step = STEP.matcher(expression).region(position, expression.length());
+            if (!step.lookingAt()) {
+                return Optional.empty();
+            }
+            String tag = step.group(1);
+            css.append(tag);
+            position = step.end();
+
+            boolean first = true;
+            while (position < expression.length() && expression.charAt(position) == '[') {
+                int end = predicateEnd(expression, position + 1);
+                if (end < 0) {
+                    return Optional.empty();
+                }
+                Optional<String> predicate = compilePredicate(expression.substring(position + 1, end).trim(), tag, first);
+                if (predicate.isEmpty()) {
+                    return Optional.empty();
+                }
+                css.append(predicate.get());
+                position = end + 1;
+                first = false;
+            }
+
+            if (position == expression.length()) {
+                return Optional.of(css.toString());
+            } else if (expression.startsWith("//", position)) {
+                css.append(' ');
+                position += 2;
+            } else if (expression.charAt(position) == '/') {
+                css.append(" > ");
+                position += 1;
+            } else {
+                return Optional.empty();
+            }
+        }
+    }
+
+    /**
+     * Compile one predicate, a position only keeps its meaning as the first predicate of a named element
+     */
+    private static Optional<String> compilePredicate(String predicate, String tag, boolean first) {
+        if (POSITION.matcher(predicate).matches()) {
+            return first && !"*".equals(tag) ? Optional.of(":nth-of-type(" + predicate + ")") : Optional.empty();
+        }
+        StringBuilder css = new StringBuilder();
+        for (String condition : splitConditions(predicate)) {
+            Matcher matcher;
+            if ((matcher = ATTRIBUTE_EQUALS.matcher(condition)).matches()) {
+                String value = matcher.group(2) != null ? matcher.group(2) : matcher.group(3);
+                if (!isQuotable(value)) {
+                    return Optional.empty();
+                }
+                css.append('[').append(matcher.group(1)).append("='").append(value).append("']");
+            } else if ((matcher = ATTRIBUTE_FUNCTION.matcher(condition)).matches()) {
+                String value = matcher.group(3) != null ? matcher.group(3) : matcher.group(4);
+                // contains(@a, '') is true for every element with the attribute, [a*=''] matches nothing
+                if (value.isEmpty() || !isQuotable(value)) {
+                    return Optional.empty();
+                }
+                String operator = "contains".equals(matcher.group(1)) ? "*=" : "^=";
+                css.append('[').append(matcher.group(2)).append(operator).append('\'').append(value).append("']");
+            } else if ((matcher = ATTRIBUTE_EXISTS.matcher(condition)).matches()) {
+                css.append('[').append(matcher.group(1)).append(']');
+            } else {
+                return Optional.empty();
+            }
+        }
+        return Optional.of(css.toString());
+    }
+
+    /**
+     * Split a predicate at the and operators outside quoted strings
+     */
+    private static List<String> splitConditions(String predicate) {
+        List<String> conditions = new ArrayList<>();
+        Matcher and = AND.matcher(predicate);
+        int start = 0;
+        int searchFrom = 0;
+        while (and.find(searchFrom)) {
+            if (isQuoted(predicate, and.start())) {
+                searchFrom = and.start() + 1;
+                continue;
+            }
+            conditions.add(predicate.substring(start, and.start()));
+            start = and.end();
+            searchFrom = and.end();
+        }
+        conditions.add(predicate.substring(start));
+        return conditions;
+    }
+
+    /**
+     * Check if a position of a predicate lies inside a quoted string
+     */
+    private static boolean isQuoted(String predicate, int index) {
+        char quote = 0;
+        for (int i = 0; i < index; i++) {
+            char c = predicate.charAt(i);
+            if (quote != 0) {
+                if (c == quote) {
+                    quote = 0;
+                }
+            } else if (c == '\'' || c == '"') {
+                quote = c;
+            }
+        }
+        return quote != 0;
+    }
+
+    /**
+     * Find the closing bracket of a predicate, skipping quoted strings
+     */
+    private static int predicateEnd(String expression, int start) {
+        char quote = 0;
+        for (int i = start; i < expression.length(); i++) {
+            char c = expression.charAt(i);
+            if (quote != 0) {
+                if (c == quote) {
+                    quote = 0;
+                }
+            } else if (c == '\'' || c == '"') {
+                quote = c;
+            } else if (c == '[') {
+                return -1;
+            } else if (c == ']') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isQuotable(String value) {
+        return value.indexOf('\'') < 0 && value.indexOf('\\') < 0;
+    }
+}
@@ -0,0 +1,94 @@
+package com.insider.visual;
+
+import java.awt.image.BufferedImage;
+import java.util.HexFormat;
+
+/**
+ * 64-bit difference hash of an image. The image is reduced to a 9x8 grid of mean luminances and every
+ * bit records whether a cell is brighter than its right neighbour, so the hash follows the layout and
+ * contrast of a section rather than exact pixels: anti-aliasing, compression and small rendering
+ * differences change few bits, while a missing, collapsed or rearranged section changes many.
+ */
+public class PerceptualHash {
+
+    // Private constructor to prevent instantiation
+    private PerceptualHash() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    private static final int GRID_WIDTH = 9;
+    private static final int GRID_HEIGHT = 8;
+    // Luminance steps below this are treated as flat, so noise in plain backgrounds does not flip bits
+    private static final double MIN_GRADIENT = 2.0;
+
+    /**
+     * Compute the difference hash of an image
+     * @param image decoded image
+     * @return 64-bit hash
+     */
+    public static long differenceHash(BufferedImage image) {
+        double[][] cells = meanLuminance(image);
+        long hash = 0;
+        for (int row = 0; row < GRID_HEIGHT; row++) {
+            for (int column = 0; column < GRID_WIDTH - 1; column++) {
+                hash = (hash << 1) | (cells[row][column] - cells[row][column + 1] > MIN_GRADIENT ? 1 : 0);
+            }
+        }
+        return hash;
+    }
+
+    /**
+     * Get number of differing bits between two hashes
+     * @param first first hash
+     * @param second second hash
+     * @return Hamming distance from 0 to 64
+     */
+    public static int distance(long first, long second) {
+        return Long.bitCount(first ^ second);
+    }
+
+    /**
+     * Format a hash as 16 hex digits
+     * @param hash hash
+     * @return hex string
+     */
+    public static String toHex(long hash) {
+        return HexFormat.of().toHexDigits(hash);
+    }
+
+    /**
+     * Parse a hash formatted by {@link #toHex(long)}
+     * @param hex hex string
+     * @return hash
+     */
+    public static long fromHex(String hex) {
+        return HexFormat.fromHexDigitsToLong(hex.trim());
+    }
+
+    /**
+     * Average the luminance of every pixel into its grid cell, so downscaling does not skip pixels
+     */
+    private static double[][] meanLuminance(BufferedImage image) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        double[][] sums = new double[GRID_HEIGHT][GRID_WIDTH];
+        int[][] counts = new int[GRID_HEIGHT][GRID_WIDTH];
+        int[] rowPixels = new int[width];
+        for (int y = 0; y < height; y++) {
+            image.getRGB(0, y, width, 1, rowPixels, 0, width);
+            int row = (int) ((long) y * GRID_HEIGHT / height);
+            for (int x = 0; x < width; x++) {
+                int column = (int) ((long) x * GRID_WIDTH / width);
+                int rgb = rowPixels[x];
+                sums[row][column] += 0.299 * ((rgb >> 16) & 0xff) + 0.587 * ((rgb >> 8) & 0xff) + 0.114 * (rgb & 0xff);
+                counts[row][column]++;
+            }
+        }
+        for (int row = 0; row < GRID_HEIGHT; row++) {
+            for (int column = 0; column < GRID_WIDTH; column++) {
+                sums[row][column] = counts[row][column] == 0 ? 0 : sums[row][column] / counts[row][column];
+            }
+        }
+        return sums;
+    }
+}
@@ -0,0 +1,148 @@
+package com.insider.visual;
+
+import com.insider.utils.ConfigManager;
+import com.insider.utils.LoggerUtil;
+import org.apache.logging.log4j.Logger;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Index of the perceptual hashes of page sections, persisted across runs in visual.baseline.dir.
+ * Decoding and hashing a screenshot runs on a small pool of hashing threads, so the test thread only
+ * pays for the element screenshot itself. A section whose hash is more than visual.hash.threshold bits
+ * away from its baseline is written as a full image next to the index; matching sections write nothing.
+ */
+public class VisualBaselineStore {
+    private static final Logger logger = LoggerUtil.getLogger(VisualBaselineStore.class);
+    private static final String INDEX_FILE_NAME = "baselines.properties";
+    private static final String CHANGED_DIR_NAME = "changed";
+
+    /**
+     * Initialization-on-demand holder idiom for thread-safe lazy initialization
+     */
+    private static class VisualBaselineStoreHolder {
+        private static final VisualBaselineStore INSTANCE = new VisualBaselineStore();
+    }
+
+    private final ConfigManager config = ConfigManager.getInstance();
+    private final Properties index = new Properties();
+    private final Path indexFile;
+    private final ExecutorService hashingPool;
+
+    private VisualBaselineStore() {
+        indexFile = Paths.get(config.getVisualBaselineDir(), INDEX_FILE_NAME);
+        if (Files.exists(indexFile)) {
+            try (InputStream input = Files.newInputStream(indexFile)) {
+                index.load(input);
+            } catch (IOException e) {
+                LoggerUtil.logWarning(logger, "Could not read visual baselines, starting empty: " + e.getMessage());
+            }
+        }
+        AtomicInteger threadNumber = new AtomicInteger();
+        hashingPool = Executors.newFixedThreadPool(config.getVisualHashThreads(), task -> {
+            Thread thread = new Thread(task, "visual-hash-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Get singleton instance of VisualBaselineStore
+     * @return VisualBaselineStore instance
+     */
+    public static VisualBaselineStore getInstance() {
+        return VisualBaselineStoreHolder.INSTANCE;
+    }
+
+    /**
+     * Hash a screenshot on a hashing thread and compare it with its baseline, recording the baseline
+     * when the key has none yet
+     * @param key baseline key, such as page, section and window width
+     * @param png PNG screenshot of the section
+     * @return comparison completed by the hashing thread
+     */
+    public CompletableFuture<VisualComparison> compare(String key, byte[] png) {
+        return CompletableFuture.supplyAsync(() -> compareNow(key, png), hashingPool);
+    }
+
+    private VisualComparison compareNow(String key, byte[] png) {
+        long hash = PerceptualHash.differenceHash(decode(png));
+        String baseline;
+        synchronized (this) {
+            baseline = index.getProperty(key);
+            if (baseline == null) {
+                index.setProperty(key, PerceptualHash.toHex(hash));
+                save();
+                return new VisualComparison(key, hash, hash, 0, VisualComparison.Status.NEW_BASELINE, null);
+            }
+        }
+
+        long baselineHash = PerceptualHash.fromHex(baseline);
+        int distance = PerceptualHash.distance(hash, baselineHash);
+        if (distance <= config.getVisualHashThreshold()) {
+            return new VisualComparison(key, hash, baselineHash, distance, VisualComparison.Status.MATCH, null);
+        }
+        String imagePath = writeChangedImage(key, png);
+        if (!config.isVisualBaselineUpdate()) {
+            return new VisualComparison(key, hash, baselineHash, distance, VisualComparison.Status.MISMATCH, imagePath);
+        }
+        synchronized (this) {
+            index.setProperty(key, PerceptualHash.toHex(hash));
+            save();
+        }
+        return new VisualComparison(key, hash, baselineHash, distance, VisualComparison.Status.UPDATED, imagePath);
+    }
+
+    private static BufferedImage decode(byte[] png) {
+        try {
+            BufferedImage image = ImageIO.read(new ByteArrayInputStream(png));
+            if (image == null || image.getWidth() == 0 || image.getHeight() == 0) {
+                throw new IllegalArgumentException("Screenshot is not a readable image");
+            }
+            return image;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not decode screenshot", e);
+        }
+    }
+
+    private String writeChangedImage(String key, byte[] png) {
+        try {
+            Path changedDir = Paths.get(config.getVisualBaselineDir(), CHANGED_DIR_NAME);
+            Files.createDirectories(changedDir);
+            String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"));
+            Path imageFile = changedDir.resolve(key.replaceAll("[^A-Za-z0-9@.-]+", "_") + "_" + timestamp + ".png");
+            Files.write(imageFile, png);
+            return imageFile.toString();
+        } catch (IOException e) {
+            LoggerUtil.logWarning(logger, "Could not write changed section image of " + key + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    private void save() {
+        try {
+            Files.createDirectories(indexFile.getParent());
+            try (OutputStream output = Files.newOutputStream(indexFile)) {
+                index.store(output, "Perceptual hashes of page sections");
+            }
+        } catch (IOException e) {
+            LoggerUtil.logWarning(logger, "Could not write visual baselines: " + e.getMessage());
+        }
+    }
+}
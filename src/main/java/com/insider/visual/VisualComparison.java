@@ -0,0 +1,37 @@
+package com.insider.visual;
+
+/**
+ * Outcome of comparing a section screenshot with its visual baseline
+ * @param key baseline key of the section
+ * @param hash perceptual hash of the screenshot
+ * @param baselineHash hash of the baseline, equal to the hash when a new baseline was recorded
+ * @param distance Hamming distance between the hashes
+ * @param status comparison status
+ * @param imagePath screenshot written because the section changed, null otherwise
+ */
+public record VisualComparison(String key, long hash, long baselineHash, int distance, Status status, String imagePath) {
+
+    /**
+     * Comparison status
+     */
+    public enum Status {
+        MATCH,
+        NEW_BASELINE,
+        UPDATED,
+        MISMATCH
+    }
+
+    /**
+     * Check if the section still looks like its baseline or the baseline was (re)recorded
+     * @return false only for a mismatch
+     */
+    public boolean matches() {
+        return status != Status.MISMATCH;
+    }
+
+    @Override
+    public String toString() {
+        return "%s %s (hash %s, baseline %s, distance %d)%s".formatted(key, status, PerceptualHash.toHex(hash),
+                PerceptualHash.toHex(baselineHash), distance, imagePath == null ? "" : ", image " + imagePath);
+    }
+}
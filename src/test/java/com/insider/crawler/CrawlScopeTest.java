@@ -0,0 +1,69 @@
+package com.insider.crawler;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.net.URI;
+import java.util.List;
+
+/**
+ * Unit tests for the links the crawler checks and expands
+ */
+public class CrawlScopeTest {
+
+    private static final List<String> SEEDS = List.of("https://useinsider.com/careers/");
+
+    @Test(description = "Hosts of the seeds are the site, with or without www")
+    public void testSameSite() {
+        CrawlScope scope = new CrawlScope(SEEDS, List.of(), List.of());
+
+        Assert.assertTrue(scope.isSameSite(URI.create("https://www.useinsider.com/about/")));
+        Assert.assertTrue(scope.isSameSite(URI.create("http://USEINSIDER.com/")));
+        Assert.assertFalse(scope.isSameSite(URI.create("https://jobs.lever.co/useinsider")));
+        Assert.assertFalse(scope.isSameSite(URI.create("mailto:careers@useinsider.com")));
+    }
+
+    @Test(description = "Only same-site pages under an expanded prefix are parsed for further links")
+    public void testShouldExpand() {
+        CrawlScope scope = new CrawlScope(SEEDS, List.of("/careers"), List.of());
+
+        Assert.assertTrue(scope.shouldExpand(URI.create("https://useinsider.com/careers/quality-assurance/")));
+        Assert.assertFalse(scope.shouldExpand(URI.create("https://useinsider.com/blog/")));
+        Assert.assertFalse(scope.shouldExpand(URI.create("https://jobs.lever.co/careers/")));
+        Assert.assertTrue(new CrawlScope(SEEDS, List.of(), List.of()).shouldExpand(URI.create("https://useinsider.com")));
+    }
+
+    @Test(description = "Exclusion rules match path prefixes with wildcards and the end anchor")
+    public void testExclusionRules() {
+        CrawlScope scope = new CrawlScope(SEEDS, List.of(), List.of("/wp-admin/", "/*.pdf$", "/*?replytocom="));
+
+        Assert.assertTrue(scope.isExcluded(URI.create("https://useinsider.com/wp-admin/post.php")));
+        Assert.assertTrue(scope.isExcluded(URI.create("https://useinsider.com/files/report.pdf")));
+        Assert.assertFalse(scope.isExcluded(URI.create("https://useinsider.com/files/report.pdf.html")));
+        Assert.assertTrue(scope.isExcluded(URI.create("https://useinsider.com/blog/post/?replytocom=12")));
+        Assert.assertFalse(scope.isExcluded(URI.create("https://useinsider.com/blog/post/")));
+    }
+
+    @Test(description = "Only Disallow rules of the groups that apply to every user agent are added")
+    public void testRobotsRules() {
+        CrawlScope scope = new CrawlScope(SEEDS, List.of(), List.of());
+        String robotsTxt = """
+                User-agent: Googlebot
+                Disallow: /google-only/
+
+                User-agent: Bingbot
+                User-agent: *
+                Disallow: /private/ # internal pages
+                Allow: /private/public/
+                Disallow:
+
+                User-agent: Slurp
+                Disallow: /slurp-only/
+                """;
+
+        Assert.assertEquals(scope.addRobotsRules(robotsTxt), 1);
+        Assert.assertTrue(scope.isExcluded(URI.create("https://useinsider.com/private/page")));
+        Assert.assertFalse(scope.isExcluded(URI.create("https://useinsider.com/google-only/")));
+        Assert.assertFalse(scope.isExcluded(URI.create("https://useinsider.com/slurp-only/")));
+    }
+}
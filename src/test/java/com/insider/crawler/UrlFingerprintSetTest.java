@@ -0,0 +1,40 @@
+package com.insider.crawler;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Unit tests for the compact visited set of the link crawler
+ */
+public class UrlFingerprintSetTest {
+
+    @Test(description = "A URL is added once")
+    public void testAddReportsNewUrlsOnly() {
+        UrlFingerprintSet visited = new UrlFingerprintSet(16);
+
+        Assert.assertTrue(visited.add("https://useinsider.com/careers/"));
+        Assert.assertFalse(visited.add("https://useinsider.com/careers/"));
+        Assert.assertTrue(visited.add("https://useinsider.com/careers"));
+        Assert.assertEquals(visited.size(), 2);
+    }
+
+    @Test(description = "The set grows past its expected size without losing URLs")
+    public void testGrowsBeyondExpectedSize() {
+        UrlFingerprintSet visited = new UrlFingerprintSet(16);
+        for (int page = 0; page < 10_000; page++) {
+            Assert.assertTrue(visited.add("https://useinsider.com/blog/page/" + page + "/"));
+        }
+        for (int page = 0; page < 10_000; page++) {
+            Assert.assertFalse(visited.add("https://useinsider.com/blog/page/" + page + "/"));
+        }
+        Assert.assertEquals(visited.size(), 10_000);
+    }
+
+    @Test(description = "The empty string is a URL like any other")
+    public void testEmptyUrl() {
+        UrlFingerprintSet visited = new UrlFingerprintSet(16);
+
+        Assert.assertTrue(visited.add(""));
+        Assert.assertFalse(visited.add(""));
+    }
+}
@@ -0,0 +1,65 @@
+package com.insider.execution;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Unit tests for the deterministic assignment of test units to shards
+ */
+public class ShardPlanTest {
+
+    private static final List<ShardPlan.Unit> UNITS = List.of(
+            new ShardPlan.Unit("careers", 5_000),
+            new ShardPlan.Unit("jobs", 4_000),
+            new ShardPlan.Unit("home", 3_000),
+            new ShardPlan.Unit("static", 3_000));
+
+    @Test(description = "Units are placed longest first on the least loaded shard")
+    public void testBalancesEstimatedTime() {
+        ShardPlan plan = ShardPlan.of(UNITS, 2);
+
+        Assert.assertEquals(plan.unitsOf(1), List.of("careers", "static"));
+        Assert.assertEquals(plan.unitsOf(2), List.of("home", "jobs"));
+        Assert.assertEquals(plan.estimatedMillis(1), 8_000.0);
+        Assert.assertEquals(plan.estimatedMillis(2), 7_000.0);
+    }
+
+    @Test(description = "The plan and its fingerprint do not depend on the order the units are listed in")
+    public void testPlanIsDeterministic() {
+        List<ShardPlan.Unit> shuffled = new ArrayList<>(UNITS);
+        Collections.reverse(shuffled);
+
+        ShardPlan plan = ShardPlan.of(UNITS, 2);
+        ShardPlan other = ShardPlan.of(shuffled, 2);
+
+        Assert.assertEquals(other.toMap(), plan.toMap());
+        Assert.assertEquals(other.fingerprint(), plan.fingerprint());
+        Assert.assertNotEquals(ShardPlan.of(UNITS, 3).fingerprint(), plan.fingerprint());
+    }
+
+    @Test(description = "Every unit is assigned to exactly one shard")
+    public void testEveryUnitAssigned() {
+        ShardPlan plan = ShardPlan.of(UNITS, 3);
+
+        List<String> assigned = new ArrayList<>();
+        for (int shard = 1; shard <= plan.getShardCount(); shard++) {
+            assigned.addAll(plan.unitsOf(shard));
+        }
+        Assert.assertEquals(assigned.size(), UNITS.size());
+        UNITS.forEach(unit -> Assert.assertTrue(plan.shardOf(unit.key()) >= 1 && plan.shardOf(unit.key()) <= 3));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class, description = "A unit outside the plan is rejected")
+    public void testUnknownUnit() {
+        ShardPlan.of(UNITS, 2).shardOf("unknown");
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class, description = "At least one shard is required")
+    public void testInvalidShardCount() {
+        ShardPlan.of(UNITS, 0);
+    }
+}
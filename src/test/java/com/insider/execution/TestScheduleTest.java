@@ -0,0 +1,103 @@
+package com.insider.execution;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Unit tests for ordering and budgeting test methods by their expected value
+ */
+public class TestScheduleTest {
+
+    @Test(description = "Independent methods run in order of failure probability per millisecond")
+    public void testOrderRunsDensestMethodFirst() {
+        List<String> order = TestSchedule.order(List.of(
+                candidate("slow", 10_000, 0.5),
+                candidate("likely", 1_000, 0.5),
+                candidate("stable", 1_000, 0.1)));
+
+        Assert.assertEquals(order, List.of("likely", "stable", "slow"));
+    }
+
+    @Test(description = "A prerequisite always runs before its dependents, however dense they are")
+    public void testOrderKeepsPrerequisitesFirst() {
+        List<String> order = TestSchedule.order(List.of(
+                candidate("home", 5_000, 0.1),
+                candidate("jobs", 1_000, 0.9, "home"),
+                candidate("other", 1_000, 0.3)));
+
+        Assert.assertTrue(order.indexOf("home") < order.indexOf("jobs"), "Prerequisite ran after its dependent: " + order);
+    }
+
+    @Test(description = "A prerequisite that unlocks a likely failure is pulled forward")
+    public void testOrderCountsTheChainAPrerequisiteUnlocks() {
+        List<String> order = TestSchedule.order(List.of(
+                candidate("other", 1_000, 0.2),
+                candidate("home", 1_000, 0.1),
+                candidate("jobs", 1_000, 0.9, "home")));
+
+        Assert.assertEquals(order, List.of("home", "jobs", "other"));
+    }
+
+    @Test(description = "Methods in a dependency cycle keep their default order instead of looping")
+    public void testOrderWithCycle() {
+        List<String> order = TestSchedule.order(List.of(
+                candidate("first", 1_000, 0.1, "second"),
+                candidate("second", 1_000, 0.5, "first"),
+                candidate("free", 1_000, 0.2)));
+
+        Assert.assertEquals(order, List.of("free", "first", "second"));
+    }
+
+    @Test(description = "The budget selection maximizes the covered failures, not the density of the first pick")
+    public void testBudgetPrefersTheMostValuableSelection() {
+        Set<String> selected = TestSchedule.selectWithinBudget(List.of(
+                candidate("cheap", 1_000, 0.2),
+                candidate("valuable", 10_000, 1.0)), 10_000);
+
+        Assert.assertEquals(selected, Set.of("valuable"));
+    }
+
+    @Test(description = "A selected method brings all its prerequisites and the total stays within the budget")
+    public void testBudgetIncludesPrerequisites() {
+        List<TestSchedule.Candidate> candidates = List.of(
+                candidate("home", 5_000, 0.1),
+                candidate("jobs", 2_000, 0.9, "home"),
+                candidate("other", 6_000, 0.3));
+
+        Assert.assertEquals(TestSchedule.selectWithinBudget(candidates, 6_000), Set.of("other"));
+        Assert.assertEquals(TestSchedule.selectWithinBudget(candidates, 7_000), Set.of("home", "jobs"));
+        Assert.assertEquals(TestSchedule.selectWithinBudget(candidates, 14_000), Set.of("home", "jobs", "other"));
+    }
+
+    @Test(description = "Transitive prerequisites are selected with their dependent")
+    public void testBudgetIncludesTransitivePrerequisites() {
+        Set<String> selected = TestSchedule.selectWithinBudget(List.of(
+                candidate("home", 1_000, 0.1),
+                candidate("careers", 1_000, 0.1, "home"),
+                candidate("jobs", 1_000, 0.9, "careers")), 3_000);
+
+        Assert.assertEquals(selected, Set.of("home", "careers", "jobs"));
+    }
+
+    @Test(description = "Methods in a dependency cycle are selected together or not at all")
+    public void testBudgetSelectsCyclesTogether() {
+        List<TestSchedule.Candidate> candidates = List.of(
+                candidate("first", 1_000, 0.5, "second"),
+                candidate("second", 1_000, 0.5, "first"));
+
+        Assert.assertEquals(TestSchedule.selectWithinBudget(candidates, 1_500), Set.of());
+        Assert.assertEquals(TestSchedule.selectWithinBudget(candidates, 2_000), Set.of("first", "second"));
+    }
+
+    @Test(description = "Nothing is selected without a budget")
+    public void testBudgetWithoutBudget() {
+        Assert.assertTrue(TestSchedule.selectWithinBudget(List.of(candidate("home", 1_000, 0.5)), 0).isEmpty());
+    }
+
+    private static TestSchedule.Candidate candidate(String key, double expectedMillis, double failureProbability, String... prerequisites) {
+        return new TestSchedule.Candidate(key, expectedMillis, failureProbability, Set.of(prerequisites));
+    }
+}
@@ -0,0 +1,91 @@
+package com.insider.history;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Unit tests for step outcomes and durations over the recorded runs
+ */
+public class MethodHistoryTest {
+
+    private static final double DELTA = 1e-9;
+
+    @Test(description = "The expected duration is the median of the passing runs")
+    public void testExpectedMillisFromPasses() {
+        MethodHistory history = new MethodHistory(List.of(
+                pass("run-1", "step", 1_000),
+                pass("run-2", "step", 3_000),
+                pass("run-3", "step", 2_000),
+                failure("run-4", "step", 9_000)), 10);
+
+        Assert.assertEquals(history.expectedMillis("step"), 2_000.0, DELTA);
+        Assert.assertNull(history.expectedMillis("unknown"));
+    }
+
+    @Test(description = "A step that never passed is expected to take as long as its failures")
+    public void testExpectedMillisFromFailures() {
+        MethodHistory history = new MethodHistory(List.of(failure("run-1", "step", 4_000)), 10);
+
+        Assert.assertEquals(history.expectedMillis("step"), 4_000.0, DELTA);
+    }
+
+    @Test(description = "A step without history gets the prior failure probability")
+    public void testFailureProbabilityPrior() {
+        MethodHistory history = new MethodHistory(List.of(), 10);
+
+        Assert.assertEquals(history.failureProbability("step"), 0.2, DELTA);
+        Assert.assertEquals(history.runs("step"), 0);
+    }
+
+    @Test(description = "A recent failure weighs more than an older one")
+    public void testFailureProbabilityFavoursRecentRuns() {
+        MethodHistory recentFailure = new MethodHistory(List.of(pass("run-1", "step", 1_000), failure("run-2", "step", 1_000)), 10);
+        MethodHistory olderFailure = new MethodHistory(List.of(failure("run-1", "step", 1_000), pass("run-2", "step", 1_000)), 10);
+        MethodHistory noFailure = new MethodHistory(List.of(pass("run-1", "step", 1_000), pass("run-2", "step", 1_000)), 10);
+
+        Assert.assertTrue(recentFailure.failureProbability("step") > olderFailure.failureProbability("step"));
+        Assert.assertTrue(olderFailure.failureProbability("step") > noFailure.failureProbability("step"));
+        Assert.assertEquals(recentFailure.runs("step"), 2);
+    }
+
+    @Test(description = "A run that retried a step after a failure counts as a failed run")
+    public void testFailedAttemptMarksTheRun() {
+        MethodHistory history = new MethodHistory(List.of(failure("run-1", "step", 1_000), pass("run-1", "step", 1_000)), 10);
+
+        Assert.assertEquals(history.runs("step"), 1);
+        Assert.assertEquals(history.failureProbability("step"), 1.5 / 3.5, DELTA);
+    }
+
+    @Test(description = "Only the configured number of latest runs is considered")
+    public void testOnlyLatestRunsConsidered() {
+        List<TimingRecord> records = new ArrayList<>();
+        for (int run = 1; run <= 5; run++) {
+            records.add(run <= 3 ? failure("run-" + run, "step", 10_000) : pass("run-" + run, "step", 1_000));
+        }
+        MethodHistory history = new MethodHistory(records, 2);
+
+        Assert.assertEquals(history.runs("step"), 2);
+        Assert.assertEquals(history.expectedMillis("step"), 1_000.0, DELTA);
+        Assert.assertEquals(history.failureProbability("step"), 0.5 / 4.2, DELTA);
+    }
+
+    @Test(description = "Command timings do not count as step runs")
+    public void testCommandsIgnored() {
+        MethodHistory history = new MethodHistory(List.of(
+                new TimingRecord("run-1", 0, TimingRecord.Kind.COMMAND, "step", 50, 10)), 10);
+
+        Assert.assertEquals(history.runs("step"), 0);
+        Assert.assertNull(history.expectedMillis("step"));
+    }
+
+    private static TimingRecord pass(String runId, String step, double millis) {
+        return new TimingRecord(runId, 0, TimingRecord.Kind.STEP, step, millis, 1);
+    }
+
+    private static TimingRecord failure(String runId, String step, double millis) {
+        return new TimingRecord(runId, 0, TimingRecord.Kind.FAILURE, step, millis, 1);
+    }
+}
@@ -0,0 +1,112 @@
+package com.insider.jobs;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Unit tests for the job listing snapshots and their merge diff
+ */
+public class JobSnapshotStoreTest {
+
+    private static final String FILTER_KEY = "Istanbul, Turkey / Quality Assurance";
+
+    private Path directory;
+    private JobSnapshotStore store;
+
+    @BeforeMethod
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("job-snapshots");
+        store = new JobSnapshotStore(directory);
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Test(description = "The first snapshot of a filter combination has nothing to compare with")
+    public void testFirstSnapshot() throws IOException {
+        JobSnapshotDiff diff = store.record(FILTER_KEY, List.of(job("a", "QA Engineer"), job("b", "QA Lead")));
+
+        Assert.assertTrue(diff.isFirstSnapshot());
+        Assert.assertFalse(diff.hasChanges());
+        Assert.assertEquals(diff.getCurrentCount(), 2);
+        Assert.assertTrue(Files.exists(store.snapshotFile(FILTER_KEY)));
+    }
+
+    @Test(description = "Added, removed and changed postings are found whatever order they are listed in")
+    public void testDiffWithPreviousSnapshot() throws IOException {
+        store.record(FILTER_KEY, List.of(job("c", "QA Analyst"), job("a", "QA Engineer"), job("b", "QA Lead")));
+        JobSnapshotDiff diff = store.record(FILTER_KEY, List.of(job("d", "QA Manager"), job("b", "Senior QA Lead"), job("a", "QA Engineer")));
+
+        Assert.assertFalse(diff.isFirstSnapshot());
+        Assert.assertEquals(diff.getPreviousCount(), 3);
+        Assert.assertEquals(diff.getCurrentCount(), 3);
+        Assert.assertEquals(diff.getAdded().stream().map(JobPosting::getKey).toList(), List.of(url("d")));
+        Assert.assertEquals(diff.getRemoved().stream().map(JobPosting::getKey).toList(), List.of(url("c")));
+        Assert.assertEquals(diff.getChanged().size(), 1);
+        Assert.assertEquals(diff.getChanged().get(0).before().getPosition(), "QA Lead");
+        Assert.assertEquals(diff.getChanged().get(0).after().getPosition(), "Senior QA Lead");
+    }
+
+    @Test(description = "Postings after the last previous key and an emptied listing are diffed completely")
+    public void testDiffAtTheEndsOfTheSnapshots() throws IOException {
+        store.record(FILTER_KEY, List.of(job("b", "QA Lead")));
+        JobSnapshotDiff grown = store.record(FILTER_KEY, List.of(job("a", "QA Engineer"), job("b", "QA Lead"), job("c", "QA Analyst")));
+        JobSnapshotDiff emptied = store.record(FILTER_KEY, List.of());
+
+        Assert.assertEquals(grown.getAdded().size(), 2);
+        Assert.assertTrue(grown.getRemoved().isEmpty());
+        Assert.assertEquals(emptied.getRemoved().size(), 3);
+        Assert.assertEquals(emptied.getCurrentCount(), 0);
+    }
+
+    @Test(description = "Recording the same listing again reports no changes and duplicates count once")
+    public void testUnchangedListing() throws IOException {
+        List<JobPosting> postings = List.of(job("a", "QA Engineer"), job("b", "QA Lead"), job("a", "QA Engineer"));
+        store.record(FILTER_KEY, postings);
+        JobSnapshotDiff diff = store.record(FILTER_KEY, postings);
+
+        Assert.assertFalse(diff.hasChanges());
+        Assert.assertEquals(diff.getPreviousCount(), 2);
+    }
+
+    @Test(description = "Filter combinations are kept in separate snapshots")
+    public void testSeparateFilterCombinations() throws IOException {
+        store.record(FILTER_KEY, List.of(job("a", "QA Engineer")));
+        JobSnapshotDiff other = store.record("All / Quality Assurance", List.of(job("b", "QA Lead")));
+
+        Assert.assertTrue(other.isFirstSnapshot());
+        Assert.assertNotEquals(store.snapshotFile("All / Quality Assurance"), store.snapshotFile(FILTER_KEY));
+    }
+
+    @Test(description = "An unreadable previous snapshot is replaced instead of failing the recording")
+    public void testCorruptSnapshotStartsOver() throws IOException {
+        Files.writeString(store.snapshotFile(FILTER_KEY), "not a snapshot");
+        JobSnapshotDiff diff = store.record(FILTER_KEY, List.of(job("a", "QA Engineer")));
+
+        Assert.assertTrue(diff.isFirstSnapshot());
+        Assert.assertFalse(store.record(FILTER_KEY, List.of(job("a", "QA Engineer"))).hasChanges());
+    }
+
+    private static JobPosting job(String id, String position) {
+        return new JobPosting(url(id), position, "Quality Assurance", "Istanbul, Turkey");
+    }
+
+    private static String url(String id) {
+        return "https://jobs.lever.co/useinsider/" + id;
+    }
+}
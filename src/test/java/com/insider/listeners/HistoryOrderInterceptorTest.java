@@ -0,0 +1,106 @@
+package com.insider.listeners;
+
+import com.insider.history.RunHistoryStore;
+import com.insider.history.TimingRecord;
+import org.testng.Assert;
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+import org.testng.TestNG;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Unit tests for the run order and budget deferral of a TestNG run through HistoryOrderInterceptor
+ */
+public class HistoryOrderInterceptorTest {
+
+    private static final List<String> PROPERTIES = List.of(
+            "history.enabled", "history.file", "order.history.enabled", "run.budget.seconds", "events.enabled");
+
+    private Path historyFile;
+
+    /**
+     * Records the methods in the order they were started and the results that were skipped
+     */
+    public static class RunRecorder implements ITestListener {
+        private final List<String> started = new ArrayList<>();
+        private final Map<String, ITestResult> skipped = new ConcurrentHashMap<>();
+
+        @Override
+        public synchronized void onTestStart(ITestResult result) {
+            started.add(result.getMethod().getMethodName());
+        }
+
+        @Override
+        public void onTestSkipped(ITestResult result) {
+            skipped.put(result.getMethod().getMethodName(), result);
+        }
+    }
+
+    @BeforeMethod
+    public void setUp() throws IOException {
+        historyFile = Files.createTempFile("run-history", ".tsv");
+        Files.delete(historyFile);
+        List<TimingRecord> records = new ArrayList<>();
+        for (int run = 1; run <= 3; run++) {
+            records.add(new TimingRecord("run-" + run, run, TimingRecord.Kind.STEP, "aStableStep", 1_000, 1));
+            records.add(new TimingRecord("run-" + run, run, TimingRecord.Kind.FAILURE, "bFlakyStep", 1_000, 1));
+            records.add(new TimingRecord("run-" + run, run, TimingRecord.Kind.STEP, "cSlowStep", 5_000, 1));
+        }
+        new RunHistoryStore(historyFile).append(records);
+
+        System.setProperty("history.enabled", "true");
+        System.setProperty("history.file", historyFile.toString());
+        System.setProperty("order.history.enabled", "true");
+        System.setProperty("events.enabled", "false");
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void tearDown() throws IOException {
+        PROPERTIES.forEach(System::clearProperty);
+        Files.deleteIfExists(historyFile);
+    }
+
+    @Test(description = "Methods that failed recently run first, dependents still after their prerequisites")
+    public void testOrderFollowsHistory() {
+        System.setProperty("run.budget.seconds", "0");
+        RunRecorder recorder = run();
+
+        Assert.assertEquals(recorder.started, List.of("bFlakyStep", "aStableStep", "cSlowStep"));
+        Assert.assertTrue(recorder.skipped.isEmpty(), "Skipped without a budget: " + recorder.skipped.keySet());
+    }
+
+    @Test(description = "Methods outside the run budget run last and are reported as skipped with the budget as reason")
+    public void testBudgetDefersMethods() {
+        System.setProperty("run.budget.seconds", "3");
+        RunRecorder recorder = run();
+
+        Assert.assertEquals(recorder.started.subList(0, 2), List.of("bFlakyStep", "aStableStep"));
+        Assert.assertEquals(recorder.skipped.keySet(), Set.of("cSlowStep"));
+        Throwable reason = recorder.skipped.get("cSlowStep").getThrowable();
+        Assert.assertNotNull(reason);
+        Assert.assertTrue(reason.getMessage().contains("run budget"), reason.getMessage());
+    }
+
+    private static RunRecorder run() {
+        RunRecorder recorder = new RunRecorder();
+        TestNG testng = new TestNG();
+        testng.setTestClasses(new Class<?>[] {HistoryOrderJourney.class});
+        testng.addListener(new HistoryOrderInterceptor());
+        testng.addListener(recorder);
+        testng.setUseDefaultListeners(false);
+        testng.setVerbose(0);
+        testng.run();
+        return recorder;
+    }
+}
@@ -0,0 +1,22 @@
+package com.insider.listeners;
+
+import org.testng.annotations.Test;
+
+/**
+ * Journey run by the nested TestNG runs of HistoryOrderInterceptorTest, its default order is alphabetical.
+ * The name does not end in Test, so the unit-tests execution does not run it directly.
+ */
+public class HistoryOrderJourney {
+
+    @Test
+    public void aStableStep() {
+    }
+
+    @Test
+    public void bFlakyStep() {
+    }
+
+    @Test(dependsOnMethods = "aStableStep")
+    public void cSlowStep() {
+    }
+}
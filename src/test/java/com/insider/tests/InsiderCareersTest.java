@@ -1,42 +1,73 @@
 package com.insider.tests;
 
+import com.insider.driver.DriverTier;
+import com.insider.driver.RequiresTier;
 import com.insider.pages.CareersPage;
 import com.insider.pages.HomePage;
 import com.insider.pages.QACareersPage;
+import com.insider.utils.CheckpointManager;
+import com.insider.utils.ConfigManager;
+import com.insider.utils.JourneyCheckpoint;
 import com.insider.utils.LoggerUtil;
+import com.insider.utils.PageMetrics;
 import com.insider.utils.WebDriverFactory;
 import org.apache.logging.log4j.Logger;
 import org.testng.Assert;
+import org.testng.ITestContext;
+import org.testng.Reporter;
 import org.testng.annotations.AfterTest;
 import org.testng.annotations.BeforeTest;
+import org.testng.annotations.Optional;
+import org.testng.annotations.Parameters;
 import org.testng.annotations.Test;
 
+import java.util.List;
+import java.util.Map;
+
 /**
  * Test class for Insider Careers functionality
  * Implements the complete test scenario with 5 steps
  */
+@RequiresTier(DriverTier.BROWSER)
 public class InsiderCareersTest {
     private static final Logger logger = LoggerUtil.getLogger(InsiderCareersTest.class);
-    
+
+    private static final String STEP_HOME_PAGE = "testHomePageOpened";
+    private static final String STEP_CAREER_SECTIONS = "testCareerPageSections";
+    private static final String STEP_QA_JOBS_FILTERING = "testQAJobsFiltering";
+    private static final String STEP_JOB_DATA_VALIDATION = "testJobDataValidation";
+    private static final String STEP_VIEW_ROLE_REDIRECT = "testViewRoleRedirect";
+    private static final String FILTER_LOCATION = "location";
+    private static final String FILTER_DEPARTMENT = "department";
+
+    private final ConfigManager config = ConfigManager.getInstance();
+    private final CheckpointManager checkpoints = new CheckpointManager("insider-careers", List.of(
+            STEP_HOME_PAGE, STEP_CAREER_SECTIONS, STEP_QA_JOBS_FILTERING, STEP_JOB_DATA_VALIDATION, STEP_VIEW_ROLE_REDIRECT));
+
     private HomePage homePage;
     private CareersPage careersPage;
     private QACareersPage qaCareersPage;
+    private Map<String, String> appliedFilters = Map.of();
 
     /**
      * Test setup - initialize WebDriver and page objects
+     * @param throttleProfile throttle profile of this test, defaults to the configured throttle.profile
+     * @param context test context, labeled with the throttle profile
      */
     @BeforeTest
-    public void setUp() {
+    @Parameters("throttleProfile")
+    public void setUp(@Optional String throttleProfile, ITestContext context) {
         try {
             LoggerUtil.logTestStart(logger, "Insider Careers Test");
             
-            // Initialize WebDriver
-            WebDriverFactory.initializeDriver();
+            // Initialize WebDriver under the selected throttle profile
+            WebDriverFactory.initializeDriver(DriverTier.requiredBy(getClass()),
+                    throttleProfile != null ? throttleProfile : config.getThrottleProfile());
+            context.setAttribute("throttle.profile", WebDriverFactory.getThrottleProfile().getName());
+            Reporter.log("Throttle profile: " + WebDriverFactory.getThrottleProfile());
 
             // Initialize page objects
-            homePage = new HomePage();
-            careersPage = new CareersPage();
-            qaCareersPage = new QACareersPage();
+            initializePageObjects();
             
             LoggerUtil.logInfo(logger, "Test setup completed successfully");
         } catch (Exception e) {
@@ -52,14 +83,21 @@ public class InsiderCareersTest {
     public void testHomePageOpened() {
         try {
             LoggerUtil.logStep(logger, "Step 1: Navigate to Insider home page and verify it's opened");
+            if (resumeStep(STEP_HOME_PAGE)) {
+                return;
+            }
             
             homePage.navigateToHomePage();
+            PageMetrics homeMetrics = homePage.capturePerformanceMetrics();
             homePage.verifyHomePageLoaded();
+            homePage.verifyPerformanceBudget(homeMetrics);
+            checkpoints.save(STEP_HOME_PAGE, appliedFilters);
             
             LoggerUtil.logAssertion(logger, "Home page opened successfully - Step 1 PASSED");
-        } catch (Exception e) {
+        } catch (Throwable e) {
+            checkpoints.markFailed(STEP_HOME_PAGE);
             LoggerUtil.logError(logger, "Step 1 failed: Home page verification failed", e);
-            Assert.fail("Step 1 failed: Home page verification failed - " + e.getMessage());
+            Assert.fail("Step 1 failed: Home page verification failed - " + e.getMessage(), e);
         }
     }
 
@@ -71,15 +109,22 @@ public class InsiderCareersTest {
     public void testCareerPageSections() {
         try {
             LoggerUtil.logStep(logger, "Step 2: Navigate to Careers page and verify Locations, Teams, and Life at Insider sections");
+            if (resumeStep(STEP_CAREER_SECTIONS)) {
+                return;
+            }
             
-            homePage.navigateToCareersPage();
+            homePage.navigateToCareersPageViaMenu();
             careersPage.verifyCareersPageLoaded();
+            PageMetrics careersMetrics = careersPage.capturePerformanceMetrics();
             careersPage.verifyAllCareerSectionsDisplayed();
+            careersPage.verifyPerformanceBudget(careersMetrics);
+            checkpoints.save(STEP_CAREER_SECTIONS, appliedFilters);
             
             LoggerUtil.logAssertion(logger, "All career sections displayed successfully - Step 2 PASSED");
-        } catch (Exception e) {
+        } catch (Throwable e) {
+            checkpoints.markFailed(STEP_CAREER_SECTIONS);
             LoggerUtil.logError(logger, "Step 2 failed: Career page sections verification failed", e);
-            Assert.fail("Step 2 failed: Career page sections verification failed - " + e.getMessage());
+            Assert.fail("Step 2 failed: Career page sections verification failed - " + e.getMessage(), e);
         }
     }
 
@@ -92,20 +137,30 @@ public class InsiderCareersTest {
     public void testQAJobsFiltering() {
         try {
             LoggerUtil.logStep(logger, "Step 3: Navigate to QA careers page, apply filters, and verify job list");
+            if (resumeStep(STEP_QA_JOBS_FILTERING)) {
+                return;
+            }
             
             qaCareersPage.navigateToQACareersPage();
+            // Metrics belong to the QA careers page, the budget is checked after the job list assertions
+            PageMetrics qaCareersMetrics = qaCareersPage.capturePerformanceMetrics();
             qaCareersPage.clickSeeAllQaJobs();
             qaCareersPage.applyJobFilters();
+            appliedFilters = Map.of(FILTER_LOCATION, config.getLocationFilter(), FILTER_DEPARTMENT, config.getDepartmentFilter());
             qaCareersPage.verifyJobListDisplayed();
             
             int jobCount = qaCareersPage.getJobCount();
             LoggerUtil.logInfo(logger, "Found " + jobCount + " jobs after applying filters");
             Assert.assertTrue(jobCount > 0, "No jobs found after applying filters");
+            qaCareersPage.recordJobSnapshot(config.getLocationFilter(), config.getDepartmentFilter());
+            qaCareersPage.verifyPerformanceBudget(qaCareersMetrics);
+            checkpoints.save(STEP_QA_JOBS_FILTERING, appliedFilters);
             
             LoggerUtil.logAssertion(logger, "Job list displayed successfully with " + jobCount + " jobs - Step 3 PASSED");
-        } catch (Exception e) {
+        } catch (Throwable e) {
+            checkpoints.markFailed(STEP_QA_JOBS_FILTERING);
             LoggerUtil.logError(logger, "Step 3 failed: QA jobs filtering failed", e);
-            Assert.fail("Step 3 failed: QA jobs filtering failed - " + e.getMessage());
+            Assert.fail("Step 3 failed: QA jobs filtering failed - " + e.getMessage(), e);
         }
     }
 
@@ -117,13 +172,18 @@ public class InsiderCareersTest {
     public void testJobDataValidation() {
         try {
             LoggerUtil.logStep(logger, "Step 4: Validate all jobs contain expected position, department, and location text");
+            if (resumeStep(STEP_JOB_DATA_VALIDATION)) {
+                return;
+            }
 
             qaCareersPage.validateAllJobData();
+            checkpoints.save(STEP_JOB_DATA_VALIDATION, appliedFilters);
             
             LoggerUtil.logAssertion(logger, "All job data validation passed - Step 4 PASSED");
-        } catch (Exception e) {
+        } catch (Throwable e) {
+            checkpoints.markFailed(STEP_JOB_DATA_VALIDATION);
             LoggerUtil.logError(logger, "Step 4 failed: Job data validation failed", e);
-            Assert.fail("Step 4 failed: Job data validation failed - " + e.getMessage());
+            Assert.fail("Step 4 failed: Job data validation failed - " + e.getMessage(), e);
         }
     }
 
@@ -135,14 +195,19 @@ public class InsiderCareersTest {
     public void testViewRoleRedirect() {
         try {
             LoggerUtil.logStep(logger, "Step 5: Click View Role button and verify Lever application redirect");
+            if (resumeStep(STEP_VIEW_ROLE_REDIRECT)) {
+                return;
+            }
             
             qaCareersPage.clickViewRoleButton();
             qaCareersPage.verifyLeverApplicationRedirect();
+            checkpoints.save(STEP_VIEW_ROLE_REDIRECT, appliedFilters);
             
             LoggerUtil.logAssertion(logger, "Successfully redirected to Lever application form - Step 5 PASSED");
-        } catch (Exception e) {
+        } catch (Throwable e) {
+            checkpoints.markFailed(STEP_VIEW_ROLE_REDIRECT);
             LoggerUtil.logError(logger, "Step 5 failed: View Role redirect verification failed", e);
-            Assert.fail("Step 5 failed: View Role redirect verification failed - " + e.getMessage());
+            Assert.fail("Step 5 failed: View Role redirect verification failed - " + e.getMessage(), e);
         }
     }
 
@@ -172,8 +237,45 @@ public class InsiderCareersTest {
             LoggerUtil.logAssertion(logger, "Complete Insider Careers test scenario PASSED");
         } catch (Exception e) {
             LoggerUtil.logError(logger, "Complete test scenario failed", e);
-            Assert.fail("Complete test scenario failed - " + e.getMessage());
+            Assert.fail("Complete test scenario failed - " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Initialize page objects against the current WebDriver session
+     */
+    private void initializePageObjects() {
+        homePage = new HomePage();
+        careersPage = new CareersPage();
+        qaCareersPage = new QACareersPage();
+    }
+
+    /**
+     * Skip a step already completed in a previous run, or restore the nearest checkpoint
+     * into a fresh session when the live browser is not at the state the step expects
+     * @param stepName step about to run
+     * @return true if the step can be skipped
+     */
+    private boolean resumeStep(String stepName) {
+        if (checkpoints.shouldSkip(stepName)) {
+            LoggerUtil.logAssertion(logger, "Step '" + stepName + "' restored from checkpoint - skipped");
+            return true;
+        }
+        checkpoints.restoreIfNeeded(stepName).ifPresent(this::restorePageState);
+        return false;
+    }
+
+    /**
+     * Re-create page objects for the restored session and re-apply saved filters
+     * @param checkpoint restored checkpoint
+     */
+    private void restorePageState(JourneyCheckpoint checkpoint) {
+        initializePageObjects();
+        appliedFilters = checkpoint.getFilters();
+        if (appliedFilters.containsKey(FILTER_LOCATION) && appliedFilters.containsKey(FILTER_DEPARTMENT)) {
+            qaCareersPage.applyJobFilters(appliedFilters.get(FILTER_LOCATION), appliedFilters.get(FILTER_DEPARTMENT));
         }
+        LoggerUtil.logInfo(logger, "Resumed journey from checkpoint of step '" + checkpoint.getStepName() + "'");
     }
 
     /**
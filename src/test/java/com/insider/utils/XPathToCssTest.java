@@ -0,0 +1,79 @@
+package com.insider.utils;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.Optional;
+
+/**
+ * Unit tests for the XPath expressions rewritten to CSS selectors and the ones kept as XPath
+ */
+public class XPathToCssTest {
+
+    @DataProvider
+    public Object[][] translations() {
+        return new Object[][] {
+                {"//div", "div"},
+                {"  //*  ", "*"},
+                {"//div//a", "div a"},
+                {"//ul/li", "ul > li"},
+                {"//section[@id]", "section[id]"},
+                {"//a[@id='wt-cli-accept-all-btn']", "a[id='wt-cli-accept-all-btn']"},
+                {"//a[@title=\"Say \"]", "a[title='Say ']"},
+                {"//div[contains(@class, 'position-list-item')]", "div[class*='position-list-item']"},
+                {"//a[starts-with(@href,'https://jobs.lever.co')]", "a[href^='https://jobs.lever.co']"},
+                {"//select[@id='filter-by-location' and @name]", "select[id='filter-by-location'][name]"},
+                {"//div[@class='list']/div[2]", "div[class='list'] > div:nth-of-type(2)"},
+                {"//li[1][@data-id]", "li:nth-of-type(1)[data-id]"},
+                {"//nav//ul[contains(@class,'menu')]/li/a[@href='/careers/']",
+                        "nav ul[class*='menu'] > li > a[href='/careers/']"},
+        };
+    }
+
+    @Test(dataProvider = "translations", description = "Expressions with a CSS equivalent are rewritten")
+    public void testTranslation(String xpath, String css) {
+        Assert.assertEquals(XPathToCss.compile(xpath), Optional.of(css));
+    }
+
+    @DataProvider
+    public Object[][] untranslatable() {
+        return new Object[][] {
+                // Relative paths, axes and functions other than contains and starts-with
+                {"div/a"},
+                {"/html/body"},
+                {"//div/.."},
+                {"//a/following-sibling::a"},
+                {"//a[text()='View Role']"},
+                {"//a[contains(text(), 'Careers')]"},
+                {"//div[last()]"},
+                {"//div[not(@hidden)]"},
+                {"//div[@a or @b]"},
+                // A position only means nth-of-type as the first predicate of a named element
+                {"//*[1]"},
+                {"//div[@class='item'][1]"},
+                {"//div[0]"},
+                // contains with an empty string matches every element with the attribute, CSS matches none
+                {"//div[contains(@class, '')]"},
+                // Values that cannot be written inside a single quoted CSS string
+                {"//a[@title=\"it's\"]"},
+                {"//a[@title='back\\slash']"},
+                // Nested or unbalanced predicates and trailing garbage
+                {"//div[@a='[x]'][li[1]]"},
+                {"//div[@id='x'"},
+                {"//div|//span"},
+        };
+    }
+
+    @Test(dataProvider = "untranslatable", description = "Expressions without an exact CSS equivalent stay XPath")
+    public void testUntranslatable(String xpath) {
+        Assert.assertEquals(XPathToCss.compile(xpath), Optional.empty(), xpath);
+    }
+
+    @Test(description = "An and inside a quoted value is part of the value, not an operator")
+    public void testAndInsideQuotedValue() {
+        Assert.assertEquals(XPathToCss.compile("//a[@title='Research and Development' and @href]"),
+                Optional.of("a[title='Research and Development'][href]"));
+        Assert.assertEquals(XPathToCss.compile("//a[contains(@title, \"R and D\")]"), Optional.of("a[title*='R and D']"));
+    }
+}
@@ -0,0 +1,79 @@
+package com.insider.visual;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+
+/**
+ * Unit tests for the difference hash of section screenshots
+ */
+public class PerceptualHashTest {
+
+    private static final int MATCH_THRESHOLD = 10;
+
+    @Test(description = "A plain image has no gradients and hashes to zero")
+    public void testPlainImage() {
+        Assert.assertEquals(PerceptualHash.differenceHash(section(Color.WHITE, null, 0)), 0L);
+    }
+
+    @Test(description = "Brightness falling from left to right sets every bit")
+    public void testHorizontalGradient() {
+        BufferedImage image = new BufferedImage(360, 80, BufferedImage.TYPE_INT_RGB);
+        for (int x = 0; x < image.getWidth(); x++) {
+            int gray = 255 - x * 255 / image.getWidth();
+            for (int y = 0; y < image.getHeight(); y++) {
+                image.setRGB(x, y, new Color(gray, gray, gray).getRGB());
+            }
+        }
+
+        Assert.assertEquals(PerceptualHash.differenceHash(image), -1L);
+    }
+
+    @Test(description = "A few pixels of shift and a slightly different size keep the section within the threshold")
+    public void testSmallRenderingDifferencesMatch() {
+        long baseline = PerceptualHash.differenceHash(section(Color.WHITE, Color.DARK_GRAY, 0));
+        long shifted = PerceptualHash.differenceHash(section(Color.WHITE, Color.DARK_GRAY, 3));
+
+        Assert.assertTrue(PerceptualHash.distance(baseline, shifted) <= MATCH_THRESHOLD,
+                "Distance " + PerceptualHash.distance(baseline, shifted));
+    }
+
+    @Test(description = "A collapsed section no longer matches its baseline")
+    public void testBrokenLayoutDoesNotMatch() {
+        long baseline = PerceptualHash.differenceHash(section(Color.WHITE, Color.DARK_GRAY, 0));
+        long collapsed = PerceptualHash.differenceHash(section(Color.WHITE, null, 0));
+
+        Assert.assertTrue(PerceptualHash.distance(baseline, collapsed) > MATCH_THRESHOLD,
+                "Distance " + PerceptualHash.distance(baseline, collapsed));
+    }
+
+    @Test(description = "Hashes survive the hex form used by the baseline index")
+    public void testHexRoundTrip() {
+        long hash = 0x8f00_00ff_1234_abcdL;
+
+        Assert.assertEquals(PerceptualHash.toHex(hash), "8f0000ff1234abcd");
+        Assert.assertEquals(PerceptualHash.fromHex(" 8f0000ff1234abcd\n"), hash);
+        Assert.assertEquals(PerceptualHash.distance(hash, hash ^ 0b1011), 3);
+    }
+
+    /**
+     * Draw a section with three cards, offset horizontally, or only its background without a card color
+     */
+    private static BufferedImage section(Color background, Color card, int offset) {
+        BufferedImage image = new BufferedImage(900, 300, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setColor(background);
+        graphics.fillRect(0, 0, image.getWidth(), image.getHeight());
+        if (card != null) {
+            graphics.setColor(card);
+            for (int column = 0; column < 3; column++) {
+                graphics.fillRect(40 + column * 300 + offset, 60, 200, 180);
+            }
+        }
+        graphics.dispose();
+        return image;
+    }
+}